@@ -0,0 +1,133 @@
+package Room.ConferenceRoomMgtsys.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import Room.ConferenceRoomMgtsys.config.cache.TieredCacheManager;
+
+/**
+ * Read-mostly lookups (room lists, organizations, day visibility, system
+ * config, dashboard snapshots) are served cache-aside. An in-process Caffeine tier is always on;
+ * with {@code app.cache.redis.enabled=true} a shared Redis tier sits behind it
+ * and evictions are broadcast so every node drops its local copy.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ROOMS = "rooms";
+    public static final String ORGANIZATIONS = "organizations";
+    public static final String DAY_VISIBILITY = "dayVisibility";
+    public static final String SYSTEM_CONFIG = "systemConfig";
+    public static final String DASHBOARDS = "dashboards";
+
+    static final String EVICTION_CHANNEL = "app:cache:evict";
+
+    @Value("${app.cache.local.max-size:1000}")
+    private long localMaxSize;
+
+    @Value("${app.cache.ttl.rooms:PT10M}")
+    private Duration roomsTtl;
+
+    @Value("${app.cache.ttl.organizations:PT5M}")
+    private Duration organizationsTtl;
+
+    @Value("${app.cache.ttl.day-visibility:PT10M}")
+    private Duration dayVisibilityTtl;
+
+    @Value("${app.cache.ttl.system-config:PT30M}")
+    private Duration systemConfigTtl;
+
+    @Value("${app.cache.ttl.dashboards:PT30S}")
+    private Duration dashboardsTtl;
+
+    private Map<String, Duration> ttls() {
+        Map<String, Duration> ttls = new LinkedHashMap<>();
+        ttls.put(ROOMS, roomsTtl);
+        ttls.put(ORGANIZATIONS, organizationsTtl);
+        ttls.put(DAY_VISIBILITY, dayVisibilityTtl);
+        ttls.put(SYSTEM_CONFIG, systemConfigTtl);
+        ttls.put(DASHBOARDS, dashboardsTtl);
+        return ttls;
+    }
+
+    private CaffeineCacheManager localCacheManager() {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.setCaffeine(Caffeine.newBuilder().maximumSize(localMaxSize).expireAfterWrite(roomsTtl));
+        ttls().forEach((name, ttl) -> manager.registerCustomCache(name,
+                Caffeine.newBuilder().maximumSize(localMaxSize).expireAfterWrite(ttl).build()));
+        return manager;
+    }
+
+    /**
+     * Cache manager used by the caching annotations. Puts and evictions made
+     * inside a transaction are deferred until it commits, so a concurrent reader
+     * cannot re-cache rows that are about to change.
+     */
+    @Bean
+    @Primary
+    public CacheManager cacheManager(ObjectProvider<TieredCacheManager> tieredCacheManager) {
+        TieredCacheManager tiered = tieredCacheManager.getIfAvailable();
+        return new TransactionAwareCacheManagerProxy(tiered != null ? tiered : localCacheManager());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.redis.enabled", havingValue = "true")
+    public TieredCacheManager tieredCacheManager(RedisConnectionFactory connectionFactory,
+            StringRedisTemplate redisTemplate) {
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer()
+                .configure(mapper -> mapper.registerModule(new JavaTimeModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .prefixCacheNameWith("crms:")
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+
+        Map<String, RedisCacheConfiguration> perCache = new LinkedHashMap<>();
+        ttls().forEach((name, ttl) -> perCache.put(name, defaults.entryTtl(ttl)));
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults.entryTtl(roomsTtl))
+                .withInitialCacheConfigurations(perCache)
+                .build();
+        redisCacheManager.initializeCaches();
+
+        return new TieredCacheManager(localCacheManager(), redisCacheManager, List.copyOf(ttls().keySet()),
+                message -> redisTemplate.convertAndSend(EVICTION_CHANNEL, message));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.redis.enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheEvictionListener(RedisConnectionFactory connectionFactory,
+            TieredCacheManager tieredCacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> tieredCacheManager.onRemoteEviction(new String(message.getBody())),
+                new ChannelTopic(EVICTION_CHANNEL));
+        return container;
+    }
+}
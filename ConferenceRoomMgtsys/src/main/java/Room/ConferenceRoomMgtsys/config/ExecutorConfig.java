@@ -0,0 +1,63 @@
+package Room.ConferenceRoomMgtsys.config;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded worker pools for background work that must not run on request
+ * threads. Each pool has a fixed size and a bounded queue; when the queue is
+ * full the submitting thread runs the task itself, which throttles producers
+ * instead of dropping work, unless the pool is meant to shed load instead.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    // Fed by the outbox drain on the scheduler thread; a full queue rejects the chunk (the
+    // drain hands its rows back) rather than sending mail on the scheduler
+    @Bean(name = "mailExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor mailExecutor(
+            @Value("${app.mail.outbox.workers:2}") int workers,
+            @Value("${app.mail.outbox.queue-capacity:100}") int queueCapacity) {
+        return boundedExecutor("mail-outbox-", workers, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // PDF rendering is CPU and heap heavy; a full queue rejects new jobs rather than
+    // rendering on the request thread
+    @Bean(name = "reportExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor reportExecutor(
+            @Value("${app.reports.jobs.workers:2}") int workers,
+            @Value("${app.reports.jobs.queue-capacity:20}") int queueCapacity) {
+        return boundedExecutor("report-render-", workers, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Image decode/resize/encode for uploads; sized to the cores it may occupy
+    @Bean(name = "imageExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor imageExecutor(
+            @Value("${app.images.workers:2}") int workers,
+            @Value("${app.images.queue-capacity:50}") int queueCapacity) {
+        return boundedExecutor("image-variants-", workers, queueCapacity);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String prefix, int workers, int queueCapacity) {
+        return boundedExecutor(prefix, workers, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String prefix, int workers, int queueCapacity,
+            RejectedExecutionHandler rejectionPolicy) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(rejectionPolicy);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.MultipartConfigFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -13,6 +14,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 import jakarta.annotation.PostConstruct;
 
@@ -44,7 +46,9 @@ public class FileUploadConfig implements WebMvcConfigurer {
     public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
         Path path = Paths.get(uploadDir).toAbsolutePath();
         String resourcePath = path.toUri().toString();
+        // Legacy uploads keep mutable names; /uploads/content/** is served by UploadContentController
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations(resourcePath);
+                .addResourceLocations(resourcePath)
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePublic());
     }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import Room.ConferenceRoomMgtsys.jwt.JwtRequestFilter;
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 @EnableWebSecurity
@@ -47,6 +48,10 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authz -> authz
+                        // Async results (e.g. /reports/pdf) are re-dispatched after the request was
+                        // already authorized; the JWT filter does not run again on that dispatch
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // === PUBLIC ENDPOINTS ===
                         // Authentication & Registration
                         .requestMatchers("/auth/**", "/user/register", "/user/register-system-admin").permitAll()
@@ -97,6 +102,7 @@ public class SecurityConfig {
 
                         // === USER, ADMIN & SYSTEM_ADMIN ENDPOINTS (Rooms & Bookings) ===
                         .requestMatchers(HttpMethod.GET, "/room/search").hasAnyRole("USER", "ADMIN", "SYSTEM_ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/room/finder").hasAnyRole("USER", "ADMIN", "SYSTEM_ADMIN")
                         .requestMatchers(HttpMethod.GET, "/room/{roomId}").hasAnyRole("USER", "ADMIN", "SYSTEM_ADMIN")
                         .requestMatchers(HttpMethod.GET, "/room/available").hasAnyRole("USER", "ADMIN", "SYSTEM_ADMIN")
                         .requestMatchers(HttpMethod.GET, "/room/available/capacity")
@@ -178,7 +184,8 @@ public class SecurityConfig {
 
         // Expose Authorization header to frontend
         configuration.setExposedHeaders(Arrays.asList(
-                "Authorization", "Content-Type", "X-Requested-With", "X-Total-Count"));
+                "Authorization", "Content-Type", "X-Requested-With", "X-Total-Count", "X-Next-Cursor",
+                "Content-Disposition"));
 
         // Cache preflight response for 1 hour
         configuration.setMaxAge(3600L);
@@ -1,16 +1,62 @@
 package Room.ConferenceRoomMgtsys.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.lang.NonNull;
 
+import Room.ConferenceRoomMgtsys.config.websocket.BrokerFanoutInterceptor;
+
+/**
+ * STOMP over SockJS on {@code /ws}. {@code app.websocket.broker.mode} picks how
+ * {@code /topic} messages reach subscribers:
+ * <ul>
+ * <li>{@code simple} (default) - in-memory broker, single instance only</li>
+ * <li>{@code relay} - external STOMP broker (RabbitMQ, ActiveMQ) shared by all instances</li>
+ * <li>{@code redis} - in-memory broker per instance, with every message fanned out over Redis pub/sub</li>
+ * </ul>
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
-    
+
+    static final String FANOUT_CHANNEL = "app:websocket:broker";
+
+    @Autowired
+    private ObjectProvider<BrokerFanoutInterceptor> brokerFanoutInterceptor;
+
+    @Value("${app.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${app.websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${app.websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${app.websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${app.websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${app.websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
     @Override
     public void registerStompEndpoints(@NonNull StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
@@ -21,6 +67,53 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(@NonNull MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/app");
-        registry.enableSimpleBroker("/topic");
+        switch (brokerMode.toLowerCase()) {
+            case "relay":
+                var relay = registry.enableStompBrokerRelay("/topic")
+                        .setRelayHost(relayHost)
+                        .setRelayPort(relayPort)
+                        .setClientLogin(relayLogin)
+                        .setClientPasscode(relayPasscode)
+                        .setSystemLogin(relayLogin)
+                        .setSystemPasscode(relayPasscode)
+                        // Share user sessions across instances so /user destinations resolve anywhere
+                        .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                        .setUserRegistryBroadcast("/topic/simp-user-registry");
+                if (!relayVirtualHost.isBlank()) {
+                    relay.setVirtualHost(relayVirtualHost);
+                }
+                break;
+            case "redis":
+                registry.enableSimpleBroker("/topic");
+                registry.configureBrokerChannel().interceptors(brokerFanoutInterceptor.getObject());
+                break;
+            case "simple":
+                registry.enableSimpleBroker("/topic");
+                break;
+            default:
+                throw new IllegalStateException("Unknown app.websocket.broker.mode: " + brokerMode);
+        }
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "redis")
+    public BrokerFanoutInterceptor brokerFanoutInterceptor(StringRedisTemplate redisTemplate) {
+        return new BrokerFanoutInterceptor(message -> redisTemplate.convertAndSend(FANOUT_CHANNEL, message));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "redis")
+    public RedisMessageListenerContainer brokerFanoutListener(RedisConnectionFactory connectionFactory,
+            BrokerFanoutInterceptor brokerFanoutInterceptor,
+            @Qualifier("brokerChannel") ObjectProvider<MessageChannel> brokerChannel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            Message<byte[]> local = brokerFanoutInterceptor.toLocalMessage(new String(message.getBody()));
+            if (local != null) {
+                brokerChannel.getObject().send(local);
+            }
+        }, new ChannelTopic(FANOUT_CHANNEL));
+        return container;
     }
 }
@@ -0,0 +1,143 @@
+package Room.ConferenceRoomMgtsys.config.cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+
+/**
+ * Two-level cache: reads hit the local tier first, then the remote tier, and
+ * backfill the local tier on a remote hit. Writes and evictions go to both.
+ * Keys are normalised to strings so evictions announced by other nodes match.
+ * Remote failures are logged and the cache keeps working from the local tier.
+ */
+class TieredCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TieredCache.class);
+
+    private final Cache local;
+    private final Cache remote;
+    private final Consumer<String> evictionPublisher;
+
+    TieredCache(Cache local, Cache remote, Consumer<String> evictionPublisher) {
+        this.local = local;
+        this.remote = remote;
+        this.evictionPublisher = evictionPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String k = key(key);
+        ValueWrapper value = local.get(k);
+        if (value != null) {
+            return value;
+        }
+        try {
+            value = remote.get(k);
+        } catch (RuntimeException e) {
+            logger.warn("Remote cache read failed for {}::{}: {}", getName(), k, e.getMessage());
+            return null;
+        }
+        if (value != null) {
+            local.put(k, value.get());
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        String k = key(key);
+        return local.get(k, () -> {
+            T value = valueLoader.call();
+            putRemote(k, value);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String k = key(key);
+        local.put(k, value);
+        putRemote(k, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String k = key(key);
+        local.evict(k);
+        try {
+            remote.evict(k);
+        } catch (RuntimeException e) {
+            logger.warn("Remote cache evict failed for {}::{}: {}", getName(), k, e.getMessage());
+        }
+        publish(k);
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            logger.warn("Remote cache clear failed for {}: {}", getName(), e.getMessage());
+        }
+        publish(TieredCacheManager.CLEAR_ALL);
+    }
+
+    void evictLocal(String key) {
+        local.evict(key);
+    }
+
+    void clearLocal() {
+        local.clear();
+    }
+
+    private void putRemote(String key, Object value) {
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            logger.warn("Remote cache write failed for {}::{}: {}", getName(), key, e.getMessage());
+        }
+    }
+
+    private void publish(String key) {
+        try {
+            evictionPublisher.accept(getName() + "|" + key);
+        } catch (RuntimeException e) {
+            logger.warn("Cache eviction broadcast failed for {}::{}: {}", getName(), key, e.getMessage());
+        }
+    }
+
+    private static String key(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,72 @@
+package Room.ConferenceRoomMgtsys.config.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Combines a local cache manager (first tier) with a shared remote one (second
+ * tier). Evictions are announced through {@code evictionPublisher} as
+ * {@code cacheName|key} (or {@code cacheName|*} for a clear) so other nodes can
+ * drop their local entries via {@link #onRemoteEviction(String)}.
+ */
+public class TieredCacheManager implements CacheManager {
+
+    static final String CLEAR_ALL = "*";
+
+    private final CacheManager local;
+    private final CacheManager remote;
+    private final Consumer<String> evictionPublisher;
+    private final Map<String, TieredCache> caches = new ConcurrentHashMap<>();
+
+    public TieredCacheManager(CacheManager local, CacheManager remote, List<String> cacheNames,
+            Consumer<String> evictionPublisher) {
+        this.local = local;
+        this.remote = remote;
+        this.evictionPublisher = evictionPublisher;
+        cacheNames.forEach(this::getCache);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            Cache localCache = local.getCache(n);
+            Cache remoteCache = remote.getCache(n);
+            if (localCache == null || remoteCache == null) {
+                return null;
+            }
+            return new TieredCache(localCache, remoteCache, evictionPublisher);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Apply an eviction announced by another node to the local tier only.
+     */
+    public void onRemoteEviction(String message) {
+        int separator = message.indexOf('|');
+        if (separator < 0) {
+            return;
+        }
+        TieredCache cache = caches.get(message.substring(0, separator));
+        if (cache == null) {
+            return;
+        }
+        String key = message.substring(separator + 1);
+        if (CLEAR_ALL.equals(key)) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+}
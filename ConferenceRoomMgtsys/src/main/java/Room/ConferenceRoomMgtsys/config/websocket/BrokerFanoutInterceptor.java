@@ -0,0 +1,103 @@
+package Room.ConferenceRoomMgtsys.config.websocket;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Fans messages sent to the local simple broker out to every other node. Each
+ * message on the broker channel is announced through {@code publisher}; other
+ * nodes turn the announcement back into a broker message with
+ * {@link #toLocalMessage(String)}, so their own subscribers receive it too.
+ * Subscriptions and sessions stay local to the node that owns the socket.
+ */
+public class BrokerFanoutInterceptor implements ChannelInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrokerFanoutInterceptor.class);
+
+    // Marks messages that arrived from another node so they are not announced again
+    static final String RELAYED_HEADER = "brokerFanoutRelayed";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Consumer<String> publisher;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public BrokerFanoutInterceptor(Consumer<String> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(RELAYED_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null) {
+            return message;
+        }
+
+        Map<String, String> envelope = new LinkedHashMap<>();
+        envelope.put("origin", nodeId);
+        envelope.put("destination", destination);
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        if (contentType != null) {
+            envelope.put("contentType", contentType.toString());
+        }
+        envelope.put("payload", Base64.getEncoder().encodeToString(payload));
+        try {
+            publisher.accept(objectMapper.writeValueAsString(envelope));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Local subscribers still get the message; only other nodes miss it
+            logger.warn("Failed to fan out message for {}: {}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    /**
+     * Rebuild a broker message announced by another node, or null when the
+     * announcement came from this node or cannot be read.
+     */
+    public Message<byte[]> toLocalMessage(String body) {
+        Map<String, String> envelope;
+        try {
+            envelope = objectMapper.readValue(body, new TypeReference<Map<String, String>>() {
+            });
+        } catch (JsonProcessingException e) {
+            logger.warn("Ignoring unreadable broker fan-out message: {}", e.getMessage());
+            return null;
+        }
+        if (nodeId.equals(envelope.get("origin")) || envelope.get("destination") == null) {
+            return null;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.get("destination"));
+        if (envelope.get("contentType") != null) {
+            accessor.setContentType(MimeType.valueOf(envelope.get("contentType")));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        byte[] payload = Base64.getDecoder().decode(envelope.getOrDefault("payload", ""));
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
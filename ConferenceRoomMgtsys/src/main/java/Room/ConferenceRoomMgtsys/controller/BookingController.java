@@ -1,10 +1,14 @@
 package Room.ConferenceRoomMgtsys.controller;
 
 import Room.ConferenceRoomMgtsys.dto.booking.BookingCreateDto;
+import Room.ConferenceRoomMgtsys.dto.booking.BookingListFilter;
+import Room.ConferenceRoomMgtsys.dto.booking.BookingPageDto;
 import Room.ConferenceRoomMgtsys.dto.booking.BookingResponseDto;
+import Room.ConferenceRoomMgtsys.enums.BookingStatus;
 import Room.ConferenceRoomMgtsys.model.User;
 import Room.ConferenceRoomMgtsys.service.BookingService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -27,9 +31,10 @@ public class BookingController {
 
     @PostMapping("/create")
     public ResponseEntity<?> createBooking(@RequestBody BookingCreateDto createDto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal User currentUser) {
         try {
-            BookingResponseDto newBooking = bookingService.createBooking(createDto, currentUser);
+            BookingResponseDto newBooking = bookingService.createBooking(createDto, currentUser, idempotencyKey);
             return new ResponseEntity<>(newBooking, HttpStatus.CREATED);
         } catch (RuntimeException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
@@ -39,6 +44,7 @@ public class BookingController {
     /**
      * Create recurring or multi-day bookings in one request
      * POST /booking/create/recurring
+     * Returns the created bookings plus a conflict report for skipped occurrences.
      */
     @PostMapping("/create/recurring")
     public ResponseEntity<?> createRecurring(@RequestBody BookingCreateDto createDto,
@@ -50,10 +56,34 @@ public class BookingController {
         }
     }
 
+    /**
+     * Keyset-paginated booking listing, newest first
+     * GET /booking?status=&from=&to=&roomId=&organizationId=&cursor=&limit=
+     * The body is the page's bookings; the cursor for the next page is returned in
+     * the X-Next-Cursor header (absent on the last page).
+     */
     @GetMapping
-    public ResponseEntity<?> getUserBookings(@AuthenticationPrincipal User currentUser) {
+    public ResponseEntity<?> getUserBookings(@AuthenticationPrincipal User currentUser,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) UUID roomId,
+            @RequestParam(required = false) UUID organizationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
         try {
-            return ResponseEntity.ok(bookingService.getAllBookingsForUserRole(currentUser));
+            BookingListFilter filter = new BookingListFilter();
+            filter.setStatus(status);
+            filter.setFrom(from);
+            filter.setTo(to);
+            filter.setRoomId(roomId);
+            filter.setOrganizationId(organizationId);
+            BookingPageDto page = bookingService.listBookings(currentUser, filter, cursor, limit);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header("X-Next-Cursor", page.getNextCursor());
+            }
+            return response.body(page.getItems());
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
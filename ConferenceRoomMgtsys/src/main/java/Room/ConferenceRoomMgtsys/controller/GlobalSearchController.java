@@ -2,8 +2,10 @@ package Room.ConferenceRoomMgtsys.controller;
 
 import Room.ConferenceRoomMgtsys.dto.search.GlobalSearchRequestDto;
 import Room.ConferenceRoomMgtsys.dto.search.GlobalSearchResultDto;
+import Room.ConferenceRoomMgtsys.model.User;
 import Room.ConferenceRoomMgtsys.service.GlobalSearchService;
 import jakarta.validation.Valid;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -19,7 +21,8 @@ public class GlobalSearchController {
 
     @PostMapping
     public GlobalSearchResultDto search(
-            @Valid @RequestBody GlobalSearchRequestDto request) {
-        return searchService.search(request);
+            @Valid @RequestBody GlobalSearchRequestDto request,
+            @AuthenticationPrincipal User currentUser) {
+        return searchService.search(request, currentUser);
     }
 }
@@ -32,10 +32,12 @@ import Room.ConferenceRoomMgtsys.dto.auth.TwoFactorRequest;
 import Room.ConferenceRoomMgtsys.dto.auth.UserProfileDto;
 import Room.ConferenceRoomMgtsys.dto.base.BaseResponseDto;
 import Room.ConferenceRoomMgtsys.enums.ApprovalStatus;
+import Room.ConferenceRoomMgtsys.enums.AuditAction;
 import Room.ConferenceRoomMgtsys.enums.AuthProvider;
 import Room.ConferenceRoomMgtsys.jwt.JwtUtil;
 import Room.ConferenceRoomMgtsys.model.User;
 import Room.ConferenceRoomMgtsys.repository.UserRepository;
+import Room.ConferenceRoomMgtsys.service.AuditLogService;
 import Room.ConferenceRoomMgtsys.service.AuthService;
 import Room.ConferenceRoomMgtsys.service.EmailService;
 import jakarta.validation.Valid;
@@ -60,6 +62,9 @@ public class LoginController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private AuditLogService auditLogService;
+
     @PostMapping("/login")
     public ResponseEntity<AuthResponseDto> login(@Valid @RequestBody LoginRequestDto request) {
         try {
@@ -341,6 +346,7 @@ public class LoginController {
         user.setFailedLoginAttempts(0);
         user.setLastLoginAt(LocalDateTime.now());
         userRepository.save(user);
+        auditLogService.logAction(user, AuditAction.LOGIN, "User", user.getId().toString(), "Password + 2FA login");
 
         String accessToken = jwtUtil.generateToken(user.getEmail(), user.getRole().name());
         String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
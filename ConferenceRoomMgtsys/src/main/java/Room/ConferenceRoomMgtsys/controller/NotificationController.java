@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import Room.ConferenceRoomMgtsys.dto.notification.NotificationResponseDto;
@@ -65,25 +66,17 @@ public class NotificationController {
 
     /**
      * Get frontend notifications for the notification bell
-     * GET /notifications
+     * GET /notifications?page=0&size=50
      */
     @GetMapping(value = "/notifications", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<FrontendNotificationDto>> getFrontendNotifications(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<FrontendNotificationDto>> getFrontendNotifications(@AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
         try {
-            System.out.println("=== NOTIFICATION DEBUG START ===");
-            System.out.println("Fetching notifications for user: " + user.getEmail());
-            System.out.println("User ID: " + user.getId());
-            System.out.println("User Role: " + user.getRole());
-
-            List<FrontendNotificationDto> notifications = notificationService.getFrontendNotifications(user);
-            System.out.println("Found " + notifications.size() + " notifications for user: " + user.getEmail());
-            System.out.println("=== NOTIFICATION DEBUG END ===");
+            List<FrontendNotificationDto> notifications = notificationService.getFrontendNotifications(user,
+                    Math.max(page, 0), Math.min(Math.max(size, 1), 200));
             return new ResponseEntity<>(notifications, HttpStatus.OK);
         } catch (Exception e) {
-            System.out.println("=== NOTIFICATION ERROR ===");
-            System.out.println("Error fetching notifications: " + e.getMessage());
-            e.printStackTrace();
-            System.out.println("=== NOTIFICATION ERROR END ===");
             return new ResponseEntity<>(List.of(), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
@@ -192,9 +185,8 @@ public class NotificationController {
     @PutMapping(value = "/mark-all-read", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<?> markAllAsRead(@AuthenticationPrincipal User user) {
         try {
-            System.out.println("Marking all notifications as read for user: " + user.getEmail());
-            notificationService.markAllNotificationsAsRead(user);
-            return new ResponseEntity<>("All notifications marked as read", HttpStatus.OK);
+            int updated = notificationService.markAllNotificationsAsRead(user);
+            return new ResponseEntity<>(updated + " notifications marked as read", HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>("Failed to mark all notifications as read: " + e.getMessage(),
                     HttpStatus.INTERNAL_SERVER_ERROR);
@@ -214,9 +206,8 @@ public class NotificationController {
                 return new ResponseEntity<>("Unauthorized", HttpStatus.FORBIDDEN);
             }
 
-            System.out.println("Cleaning up old read notifications by admin: " + user.getEmail());
-            notificationService.cleanupOldReadNotifications();
-            return new ResponseEntity<>("Old read notifications cleaned up", HttpStatus.OK);
+            int deleted = notificationService.cleanupOldReadNotifications();
+            return new ResponseEntity<>(deleted + " old read notifications cleaned up", HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>("Failed to cleanup notifications: " + e.getMessage(),
                     HttpStatus.INTERNAL_SERVER_ERROR);
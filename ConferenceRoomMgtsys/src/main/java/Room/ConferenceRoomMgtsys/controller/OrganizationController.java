@@ -46,6 +46,9 @@ public class OrganizationController {
 
             Organization newOrganization = organizationService.createOrganization(createDto, logo);
             return new ResponseEntity<>(organizationService.convertToDto(newOrganization), HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Warning creating organization. Reason: {}", e.getMessage());
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (RuntimeException e) {
             logger.error("Error creating organization", e);
             return new ResponseEntity<>(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
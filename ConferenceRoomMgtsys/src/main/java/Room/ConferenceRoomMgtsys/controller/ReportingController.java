@@ -3,8 +3,12 @@ package Room.ConferenceRoomMgtsys.controller;
 import Room.ConferenceRoomMgtsys.dto.report.*;
 import Room.ConferenceRoomMgtsys.enums.UserRole;
 import Room.ConferenceRoomMgtsys.model.User;
+import Room.ConferenceRoomMgtsys.service.ReportExportService;
+import Room.ConferenceRoomMgtsys.service.ReportJobService;
 import Room.ConferenceRoomMgtsys.service.ReportingService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -14,6 +18,10 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/reports")
 @CrossOrigin(origins = { "http://localhost:5173",  "http://10.8.150.139:8090","https://conferenceroomsystem.vercel.app", "http://197.243.104.5"  })
@@ -22,6 +30,12 @@ public class ReportingController {
     @Autowired
     private ReportingService reportingService;
 
+    @Autowired
+    private ReportExportService reportExportService;
+
+    @Autowired
+    private ReportJobService reportJobService;
+
     @PostMapping("/generate")
     @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'ADMIN')")
     public ResponseEntity<?> generateReport(
@@ -61,19 +75,86 @@ public class ReportingController {
         }
     }
 
-    // PDF Generation
+    // PDF Generation (rendered on the report pool; the request thread is released while waiting)
     @PostMapping("/pdf")
     @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'ADMIN')")
-    public ResponseEntity<byte[]> generatePdfReport(@RequestBody ReportRequestDto request) {
+    public CompletableFuture<ResponseEntity<byte[]>> generatePdfReport(@RequestBody ReportRequestDto request) {
         User currentUser = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        byte[] pdf = reportingService.generatePdfReport(request, currentUser);
-
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
         String filename = "report.pdf";
         headers.setContentDispositionFormData(filename, filename);
         headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
-        return new ResponseEntity<>(pdf, headers, HttpStatus.OK);
+        try {
+            return reportJobService.renderPdf(request, currentUser)
+                    .thenApply(pdf -> new ResponseEntity<>(pdf, headers, HttpStatus.OK))
+                    .exceptionally(e -> ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        } catch (IllegalStateException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        }
+    }
+
+    /**
+     * Queue a PDF report; poll GET /reports/jobs/{jobId} and download when COMPLETED
+     * POST /reports/jobs
+     */
+    @PostMapping("/jobs")
+    @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'ADMIN')")
+    public ResponseEntity<?> submitReportJob(@RequestBody ReportRequestDto request,
+            @AuthenticationPrincipal User currentUser) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(reportJobService.submit(request, currentUser));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'ADMIN')")
+    public ResponseEntity<?> getReportJob(@PathVariable UUID jobId, @AuthenticationPrincipal User currentUser) {
+        try {
+            return ResponseEntity.ok(reportJobService.getJob(jobId, currentUser));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}/download")
+    @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'ADMIN')")
+    public ResponseEntity<?> downloadReportJob(@PathVariable UUID jobId, @AuthenticationPrincipal User currentUser) {
+        try {
+            Path output = reportJobService.getOutput(jobId, currentUser);
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_PDF);
+            headers.setContentDisposition(ContentDisposition.attachment().filename("report.pdf").build());
+            return new ResponseEntity<>(new FileSystemResource(output), headers, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    // Streaming CSV / XLSX export (format: CSV or EXCEL)
+    @PostMapping("/export")
+    @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'ADMIN')")
+    public ResponseEntity<?> exportReport(@RequestBody ReportRequestDto request,
+            @AuthenticationPrincipal User currentUser) {
+        try {
+            ReportExportService.ReportExport export = reportExportService.prepareExport(request, currentUser);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType(export.getContentType()));
+            headers.setContentDisposition(ContentDisposition.attachment().filename(export.getFilename()).build());
+            headers.setCacheControl("no-store");
+            return new ResponseEntity<>(export.getBody(), headers, HttpStatus.OK);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // Quick report endpoints for common scenarios
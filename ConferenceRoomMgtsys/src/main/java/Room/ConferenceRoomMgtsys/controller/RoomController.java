@@ -3,8 +3,9 @@ package Room.ConferenceRoomMgtsys.controller;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -30,12 +31,14 @@ import Room.ConferenceRoomMgtsys.dto.room.RoomCreateDto;
 import Room.ConferenceRoomMgtsys.dto.room.RoomResponseDto;
 import Room.ConferenceRoomMgtsys.dto.room.RoomSearchDto;
 import Room.ConferenceRoomMgtsys.dto.room.RoomAvailabilityDto;
+import Room.ConferenceRoomMgtsys.dto.room.RoomCandidateDto;
+import Room.ConferenceRoomMgtsys.dto.room.RoomFinderRequestDto;
 import Room.ConferenceRoomMgtsys.model.User;
 import Room.ConferenceRoomMgtsys.service.RoomService;
 import Room.ConferenceRoomMgtsys.dto.room.RoomStatusBulkUpdateDto;
-import Room.ConferenceRoomMgtsys.repository.DayVisibilityRepository;
-import Room.ConferenceRoomMgtsys.model.DayVisibility;
+import Room.ConferenceRoomMgtsys.service.DayVisibilityService;
 import Room.ConferenceRoomMgtsys.service.NotificationService;
+import Room.ConferenceRoomMgtsys.service.RoomFinderService;
 
 @RestController
 @RequestMapping(value = "/room")
@@ -43,12 +46,16 @@ import Room.ConferenceRoomMgtsys.service.NotificationService;
         "https://conferenceroomsystem.vercel.app", "http://197.243.104.5"  })
 public class RoomController {
 
+    private static final Logger logger = LoggerFactory.getLogger(RoomController.class);
+
     @Autowired
     private RoomService roomService;
     @Autowired
-    private DayVisibilityRepository dayVisibilityRepository;
+    private DayVisibilityService dayVisibilityService;
     @Autowired
     private NotificationService notificationService;
+    @Autowired
+    private RoomFinderService roomFinderService;
 
     /**
      * Create a new room
@@ -152,35 +159,29 @@ public class RoomController {
             java.time.LocalDate date = java.time.LocalDate.parse((String) body.get("date"));
             @SuppressWarnings("unchecked")
             java.util.List<String> roomIds = (java.util.List<String>) body.get("roomIds");
-            // Remove existing entries for org/date
-            var existing = dayVisibilityRepository.findVisibleByOrganizationAndDate(currentUser.getOrganization(),
-                    date);
-            if (existing != null && !existing.isEmpty()) {
-                dayVisibilityRepository.deleteAll(existing);
-            }
-            // Save new whitelist
+            // Resolve and check the new whitelist before touching existing entries
+            java.util.List<Room.ConferenceRoomMgtsys.model.Room> visibleRooms = new java.util.ArrayList<>();
             if (roomIds != null) {
                 for (String idStr : roomIds) {
-                    DayVisibility dv = new DayVisibility();
-                    dv.setDate(date);
-                    dv.setRoom(roomService.getRoomById(java.util.UUID.fromString(idStr)));
-                    dv.setVisible(true);
+                    Room.ConferenceRoomMgtsys.model.Room room = roomService.getRoomById(java.util.UUID.fromString(idStr));
                     // Only allow setting rooms within same org unless system admin
                     if (currentUser.getRole() != Room.ConferenceRoomMgtsys.enums.UserRole.SYSTEM_ADMIN &&
-                            !dv.getRoom().getOrganization().equals(currentUser.getOrganization())) {
+                            !room.getOrganization().equals(currentUser.getOrganization())) {
                         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                                 .body("Cannot set visibility for rooms outside your organization");
                     }
-                    dayVisibilityRepository.save(dv);
+                    visibleRooms.add(room);
+                }
+            }
+            // Replace existing entries for org/date (also evicts cached visibility)
+            dayVisibilityService.replaceVisibleRooms(currentUser.getOrganization(), date, visibleRooms);
 
-                    // Create notification for room visibility
-                    try {
-                        System.out.println("Creating notification for room visibility: " + dv.getRoom().getName()
-                                + " for date: " + date);
-                        notificationService.createRoomVisibilityNotification(dv.getRoom(), currentUser, date);
-                    } catch (Exception e) {
-                        System.out.println("Failed to create notification for room visibility: " + e.getMessage());
-                    }
+            // Fan out room visibility notifications in one pass for all rooms
+            if (!visibleRooms.isEmpty()) {
+                try {
+                    notificationService.createRoomVisibilityNotifications(visibleRooms, currentUser, date);
+                } catch (Exception e) {
+                    logger.warn("Failed to create notification for room visibility on {}", date, e);
                 }
             }
             return ResponseEntity.ok().build();
@@ -245,6 +246,40 @@ public class RoomController {
         }
     }
 
+    /**
+     * Rank the rooms the user can book and suggest each one's earliest free slots
+     * GET /room/finder?attendees=8&durationMinutes=60&windowStart=...&windowEnd=...&amenities=projector,whiteboard&floor=2
+     */
+    @GetMapping(value = "/finder", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> findRooms(
+            @RequestParam(defaultValue = "1") int attendees,
+            @RequestParam(defaultValue = "60") int durationMinutes,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime windowStart,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime windowEnd,
+            @RequestParam(required = false) List<String> amenities,
+            @RequestParam(required = false) String floor,
+            @RequestParam(defaultValue = "3") int slotsPerRoom,
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal User user) {
+        try {
+            RoomFinderRequestDto request = new RoomFinderRequestDto();
+            request.setAttendeeCount(attendees);
+            request.setDurationMinutes(durationMinutes);
+            request.setWindowStart(windowStart);
+            request.setWindowEnd(windowEnd);
+            request.setAmenities(amenities);
+            request.setFloor(floor);
+            request.setSlotsPerRoom(slotsPerRoom);
+            request.setLimit(limit);
+            List<RoomCandidateDto> candidates = roomFinderService.findRooms(request, user);
+            return new ResponseEntity<>(candidates, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>("Failed to find rooms: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * Get room by ID
      * GET /room/{roomId}
@@ -294,11 +329,8 @@ public class RoomController {
             @RequestParam(defaultValue = "1") Integer minCapacity,
             @AuthenticationPrincipal User user) {
         try {
-            // Get all available rooms and filter by capacity
-            List<RoomResponseDto> rooms = roomService.getAvailableRooms(user.getOrganization(), startTime, endTime)
-                    .stream()
-                    .filter(room -> room.getCapacity() >= minCapacity)
-                    .collect(Collectors.toList());
+            List<RoomResponseDto> rooms = roomService.getAvailableRooms(user.getOrganization(), startTime, endTime,
+                    minCapacity);
             return new ResponseEntity<>(rooms, HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>(List.of(), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -0,0 +1,194 @@
+package Room.ConferenceRoomMgtsys.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import Room.ConferenceRoomMgtsys.service.ContentStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Serves {@code /uploads/content/**} from the {@link ContentStore}. Names are
+ * content hashes, so responses are cacheable forever with the hash as a strong
+ * ETag. Supports {@code If-None-Match}, single byte ranges and precompressed
+ * {@code .br}/{@code .gz} siblings, and hands the file to Tomcat's sendfile
+ * when the connector supports it.
+ */
+@Controller
+@RequestMapping("/uploads/content")
+public class UploadContentController {
+
+    private static final String CACHE_FOREVER = "public, max-age=31536000, immutable";
+
+    // Tomcat's zero-copy hand-off, as used by its DefaultServlet
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private ContentStore contentStore;
+
+    @RequestMapping(value = "/{shard}/{name:.+}", method = { RequestMethod.GET, RequestMethod.HEAD })
+    public void serve(@PathVariable String shard, @PathVariable String name, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Path file = ContentStore.FILE_NAME.matcher(name).matches() && name.startsWith(shard) && shard.length() == 2
+                ? contentStore.resolve(name)
+                : null;
+        if (file == null || !Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String hash = name.substring(0, name.indexOf('.'));
+        MediaType mediaType = MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM);
+
+        // Precompressed siblings only apply to whole-file responses
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String encoding = null;
+        Path br = contentStore.resolve(name + ".br");
+        Path gz = contentStore.resolve(name + ".gz");
+        boolean precompressed = Files.isRegularFile(br) || Files.isRegularFile(gz);
+        if (range == null && precompressed) {
+            String accepted = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            if (accepts(accepted, "br") && Files.isRegularFile(br)) {
+                encoding = "br";
+                file = br;
+            } else if (accepts(accepted, "gzip") && Files.isRegularFile(gz)) {
+                encoding = "gzip";
+                file = gz;
+            }
+        }
+        // Each representation needs its own strong ETag
+        String etag = "\"" + hash + (encoding != null ? "-" + encoding : "") + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_FOREVER);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (precompressed) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(mediaType.toString());
+        if (encoding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        long length = Files.size(file);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range == null || (ifRange != null && !ifRange.equals(etag))) {
+            send(request, response, file, 0, length);
+            return;
+        }
+
+        long[] bounds = parseRange(range, length);
+        if (bounds == null) {
+            // Malformed or multi-range requests get the whole file
+            send(request, response, file, 0, length);
+        } else if (bounds.length == 0) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        } else {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + bounds[0] + "-" + (bounds[1] - 1) + "/" + length);
+            send(request, response, file, bounds[0], bounds[1]);
+        }
+    }
+
+    // Writes [start, end) of the file, through sendfile when Tomcat offers it
+    private void send(HttpServletRequest request, HttpServletResponse response, Path file,
+            long start, long end) throws IOException {
+        response.setContentLengthLong(end - start);
+        if ("HEAD".equals(request.getMethod()) || end <= start) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, out);
+            }
+        }
+    }
+
+    /**
+     * A single {@code bytes=} range as [start, end): {@code null} when the
+     * header should be ignored, an empty array when it cannot be satisfied.
+     */
+    private long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                return suffix <= 0 || length == 0 ? new long[0] : new long[] { Math.max(0, length - suffix), length };
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length || start > end) {
+                return new long[0];
+            }
+            return new long[] { start, end + 1 };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Weak comparison, as If-None-Match requires
+    private boolean matchesAny(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (tokens[0].trim().equalsIgnoreCase(coding)) {
+                return !(tokens.length > 1 && tokens[1].trim().replace(" ", "").matches("q=0(\\.0*)?"));
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,70 @@
+package Room.ConferenceRoomMgtsys.dto.booking;
+
+import Room.ConferenceRoomMgtsys.enums.BookingStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Filters for the paginated booking listing. All fields are optional;
+ * {@code from}/{@code to} select bookings overlapping that range.
+ */
+public class BookingListFilter {
+
+    private BookingStatus status;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private UUID roomId;
+    private UUID organizationId;
+    private UUID userId;
+
+    public BookingListFilter() {
+    }
+
+    public BookingStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BookingStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public UUID getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(UUID roomId) {
+        this.roomId = roomId;
+    }
+
+    public UUID getOrganizationId() {
+        return organizationId;
+    }
+
+    public void setOrganizationId(UUID organizationId) {
+        this.organizationId = organizationId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,152 @@
+package Room.ConferenceRoomMgtsys.dto.booking;
+
+import Room.ConferenceRoomMgtsys.enums.BookingStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat projection of a booking row with the user, room and approver columns the
+ * listing needs, selected in one joined query without loading entities.
+ */
+public class BookingListRow {
+
+    private final UUID id;
+    private final String userFirstName;
+    private final String userLastName;
+    private final String userEmail;
+    private final UUID userOrganizationId;
+    private final UUID roomId;
+    private final String roomName;
+    private final String roomImages;
+    private final UUID roomOrganizationId;
+    private final String roomOrganizationName;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final BookingStatus status;
+    private final String purpose;
+    private final String notes;
+    private final Integer attendeeCount;
+    private final Boolean isActive;
+    private final String approverFirstName;
+    private final String approverLastName;
+    private final LocalDateTime approvedAt;
+    private final String rejectionReason;
+    private final Boolean isRecurring;
+
+    public BookingListRow(UUID id, String userFirstName, String userLastName, String userEmail,
+            UUID userOrganizationId, UUID roomId, String roomName, String roomImages, UUID roomOrganizationId,
+            String roomOrganizationName, LocalDateTime startTime, LocalDateTime endTime, BookingStatus status,
+            String purpose, String notes, Integer attendeeCount, Boolean isActive, String approverFirstName,
+            String approverLastName, LocalDateTime approvedAt, String rejectionReason, Boolean isRecurring) {
+        this.id = id;
+        this.userFirstName = userFirstName;
+        this.userLastName = userLastName;
+        this.userEmail = userEmail;
+        this.userOrganizationId = userOrganizationId;
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.roomImages = roomImages;
+        this.roomOrganizationId = roomOrganizationId;
+        this.roomOrganizationName = roomOrganizationName;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.status = status;
+        this.purpose = purpose;
+        this.notes = notes;
+        this.attendeeCount = attendeeCount;
+        this.isActive = isActive;
+        this.approverFirstName = approverFirstName;
+        this.approverLastName = approverLastName;
+        this.approvedAt = approvedAt;
+        this.rejectionReason = rejectionReason;
+        this.isRecurring = isRecurring;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getUserFirstName() {
+        return userFirstName;
+    }
+
+    public String getUserLastName() {
+        return userLastName;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public UUID getUserOrganizationId() {
+        return userOrganizationId;
+    }
+
+    public UUID getRoomId() {
+        return roomId;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public String getRoomImages() {
+        return roomImages;
+    }
+
+    public UUID getRoomOrganizationId() {
+        return roomOrganizationId;
+    }
+
+    public String getRoomOrganizationName() {
+        return roomOrganizationName;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public BookingStatus getStatus() {
+        return status;
+    }
+
+    public String getPurpose() {
+        return purpose;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public Integer getAttendeeCount() {
+        return attendeeCount;
+    }
+
+    public Boolean getIsActive() {
+        return isActive;
+    }
+
+    public String getApproverFirstName() {
+        return approverFirstName;
+    }
+
+    public String getApproverLastName() {
+        return approverLastName;
+    }
+
+    public LocalDateTime getApprovedAt() {
+        return approvedAt;
+    }
+
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+
+    public Boolean getIsRecurring() {
+        return isRecurring;
+    }
+}
@@ -0,0 +1,37 @@
+package Room.ConferenceRoomMgtsys.dto.booking;
+
+import java.util.List;
+
+/**
+ * One page of the booking listing plus the opaque cursor for the next page
+ * (null when this is the last page).
+ */
+public class BookingPageDto {
+
+    private List<BookingResponseDto> items;
+    private String nextCursor;
+
+    public BookingPageDto() {
+    }
+
+    public BookingPageDto(List<BookingResponseDto> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<BookingResponseDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BookingResponseDto> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
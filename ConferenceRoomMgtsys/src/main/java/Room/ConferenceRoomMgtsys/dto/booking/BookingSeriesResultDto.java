@@ -0,0 +1,50 @@
+package Room.ConferenceRoomMgtsys.dto.booking;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a recurring booking request: the bookings that were created and
+ * a conflict report for every occurrence that was skipped. The series id is
+ * null for a one-time booking.
+ */
+public class BookingSeriesResultDto {
+
+    private UUID seriesId;
+    private List<BookingResponseDto> created;
+    private List<OccurrenceConflictDto> conflicts;
+
+    public BookingSeriesResultDto() {
+    }
+
+    public BookingSeriesResultDto(UUID seriesId, List<BookingResponseDto> created,
+            List<OccurrenceConflictDto> conflicts) {
+        this.seriesId = seriesId;
+        this.created = created;
+        this.conflicts = conflicts;
+    }
+
+    public UUID getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(UUID seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public List<BookingResponseDto> getCreated() {
+        return created;
+    }
+
+    public void setCreated(List<BookingResponseDto> created) {
+        this.created = created;
+    }
+
+    public List<OccurrenceConflictDto> getConflicts() {
+        return conflicts;
+    }
+
+    public void setConflicts(List<OccurrenceConflictDto> conflicts) {
+        this.conflicts = conflicts;
+    }
+}
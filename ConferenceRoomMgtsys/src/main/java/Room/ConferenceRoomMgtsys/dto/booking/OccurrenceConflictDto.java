@@ -0,0 +1,46 @@
+package Room.ConferenceRoomMgtsys.dto.booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * An occurrence of a recurring booking that was not created, and why.
+ */
+public class OccurrenceConflictDto {
+
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String reason;
+
+    public OccurrenceConflictDto() {
+    }
+
+    public OccurrenceConflictDto(LocalDateTime startTime, LocalDateTime endTime, String reason) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.reason = reason;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
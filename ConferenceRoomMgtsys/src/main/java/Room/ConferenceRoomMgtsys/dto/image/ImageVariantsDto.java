@@ -0,0 +1,44 @@
+package Room.ConferenceRoomMgtsys.dto.image;
+
+/**
+ * URLs of the resized copies stored for one uploaded image.
+ */
+public class ImageVariantsDto {
+    private String thumbnail; // at most 160px on the longest edge
+    private String card; // at most 640px
+    private String full; // at most 1600px
+
+    public ImageVariantsDto() {
+    }
+
+    public ImageVariantsDto(String thumbnail, String card, String full) {
+        this.thumbnail = thumbnail;
+        this.card = card;
+        this.full = full;
+    }
+
+    // Getters and Setters
+    public String getThumbnail() {
+        return thumbnail;
+    }
+
+    public void setThumbnail(String thumbnail) {
+        this.thumbnail = thumbnail;
+    }
+
+    public String getCard() {
+        return card;
+    }
+
+    public void setCard(String card) {
+        this.card = card;
+    }
+
+    public String getFull() {
+        return full;
+    }
+
+    public void setFull(String full) {
+        this.full = full;
+    }
+}
@@ -16,4 +16,5 @@ public class WebSocketNotificationDto {
     private String actionUrl;
     private LocalDateTime timestamp;
     private boolean isRead;
+    private Integer unreadCount; // recipient's unread total after this change
 }
@@ -37,6 +37,7 @@ public class OrganizationResponseDto extends BaseResponseDto {
 
     @Pattern(regexp = "^(https?://)?([\\da-z.-]+)\\.([a-z.]{2,6})([/\\w .-]*)*/?$", message = "Invalid URL format")
     private String logoUrl;
+    private String logoVariants; // JSON {thumbnail, card, full}
 
     private boolean isActive;
     private int totalUsers;
@@ -103,6 +104,14 @@ public class OrganizationResponseDto extends BaseResponseDto {
         this.logoUrl = logoUrl;
     }
 
+    public String getLogoVariants() {
+        return logoVariants;
+    }
+
+    public void setLogoVariants(String logoVariants) {
+        this.logoVariants = logoVariants;
+    }
+
     public boolean isActive() {
         return isActive;
     }
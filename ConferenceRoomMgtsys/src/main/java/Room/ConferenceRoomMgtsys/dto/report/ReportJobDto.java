@@ -0,0 +1,83 @@
+package Room.ConferenceRoomMgtsys.dto.report;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class ReportJobDto {
+    private UUID jobId;
+    private String reportType;
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    private boolean cached; // served from a previously rendered identical request
+    private String error;
+    private String downloadUrl;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+
+    public ReportJobDto() {
+    }
+
+    // Getters and Setters
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(UUID jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getReportType() {
+        return reportType;
+    }
+
+    public void setReportType(String reportType) {
+        this.reportType = reportType;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public boolean isCached() {
+        return cached;
+    }
+
+    public void setCached(boolean cached) {
+        this.cached = cached;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public String getDownloadUrl() {
+        return downloadUrl;
+    }
+
+    public void setDownloadUrl(String downloadUrl) {
+        this.downloadUrl = downloadUrl;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -16,6 +16,7 @@ public class RoomAvailabilityDto extends BaseResponseDto {
     private String amenities;
     private String equipment;
     private String images;
+    private String imageVariants; // JSON array of {thumbnail, card, full}
     private boolean isAvailable;
     private List<TimeSlotDto> timeSlots;
     private List<BookingDetailDto> todaysBookings;
@@ -111,6 +112,14 @@ public class RoomAvailabilityDto extends BaseResponseDto {
         this.images = images;
     }
 
+    public String getImageVariants() {
+        return imageVariants;
+    }
+
+    public void setImageVariants(String imageVariants) {
+        this.imageVariants = imageVariants;
+    }
+
     public boolean isAvailable() {
         return isAvailable;
     }
@@ -0,0 +1,153 @@
+package Room.ConferenceRoomMgtsys.dto.room;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One ranked result of the room finder: the room, how well it fits the
+ * request and its earliest free slots of the requested duration.
+ */
+public class RoomCandidateDto {
+    private UUID roomId;
+    private String name;
+    private String location;
+    private String floor;
+    private Integer capacity;
+    private String organizationName;
+    private int score; // 0-100, higher fits better
+    private boolean fitsPreferredWindow;
+    private FreeSlot preferredSlot; // earliest free slot inside the preferred window, if any
+    private List<FreeSlot> nextFreeSlots;
+    private List<String> matchedAmenities;
+    private List<String> missingAmenities;
+
+    public RoomCandidateDto() {
+    }
+
+    // Getters and Setters
+    public UUID getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(UUID roomId) {
+        this.roomId = roomId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getFloor() {
+        return floor;
+    }
+
+    public void setFloor(String floor) {
+        this.floor = floor;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public String getOrganizationName() {
+        return organizationName;
+    }
+
+    public void setOrganizationName(String organizationName) {
+        this.organizationName = organizationName;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public boolean isFitsPreferredWindow() {
+        return fitsPreferredWindow;
+    }
+
+    public void setFitsPreferredWindow(boolean fitsPreferredWindow) {
+        this.fitsPreferredWindow = fitsPreferredWindow;
+    }
+
+    public FreeSlot getPreferredSlot() {
+        return preferredSlot;
+    }
+
+    public void setPreferredSlot(FreeSlot preferredSlot) {
+        this.preferredSlot = preferredSlot;
+    }
+
+    public List<FreeSlot> getNextFreeSlots() {
+        return nextFreeSlots;
+    }
+
+    public void setNextFreeSlots(List<FreeSlot> nextFreeSlots) {
+        this.nextFreeSlots = nextFreeSlots;
+    }
+
+    public List<String> getMatchedAmenities() {
+        return matchedAmenities;
+    }
+
+    public void setMatchedAmenities(List<String> matchedAmenities) {
+        this.matchedAmenities = matchedAmenities;
+    }
+
+    public List<String> getMissingAmenities() {
+        return missingAmenities;
+    }
+
+    public void setMissingAmenities(List<String> missingAmenities) {
+        this.missingAmenities = missingAmenities;
+    }
+
+    public static class FreeSlot {
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+
+        public FreeSlot() {
+        }
+
+        public FreeSlot(LocalDateTime startTime, LocalDateTime endTime) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+
+        public LocalDateTime getStartTime() {
+            return startTime;
+        }
+
+        public void setStartTime(LocalDateTime startTime) {
+            this.startTime = startTime;
+        }
+
+        public LocalDateTime getEndTime() {
+            return endTime;
+        }
+
+        public void setEndTime(LocalDateTime endTime) {
+            this.endTime = endTime;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package Room.ConferenceRoomMgtsys.dto.room;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Criteria of a "find me a room" search. Capacity and duration are hard
+ * requirements; the preferred window, amenities and floor only affect ranking.
+ */
+public class RoomFinderRequestDto {
+    private int attendeeCount = 1;
+    private int durationMinutes = 60;
+    private LocalDateTime windowStart; // preferred window; null means as soon as possible
+    private LocalDateTime windowEnd;
+    private List<String> amenities; // matched against the room's amenities and equipment
+    private String floor;
+    private int slotsPerRoom = 3;
+    private int limit = 10;
+
+    public RoomFinderRequestDto() {
+    }
+
+    // Getters and Setters
+    public int getAttendeeCount() {
+        return attendeeCount;
+    }
+
+    public void setAttendeeCount(int attendeeCount) {
+        this.attendeeCount = attendeeCount;
+    }
+
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(int durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public LocalDateTime getWindowStart() {
+        return windowStart;
+    }
+
+    public void setWindowStart(LocalDateTime windowStart) {
+        this.windowStart = windowStart;
+    }
+
+    public LocalDateTime getWindowEnd() {
+        return windowEnd;
+    }
+
+    public void setWindowEnd(LocalDateTime windowEnd) {
+        this.windowEnd = windowEnd;
+    }
+
+    public List<String> getAmenities() {
+        return amenities;
+    }
+
+    public void setAmenities(List<String> amenities) {
+        this.amenities = amenities;
+    }
+
+    public String getFloor() {
+        return floor;
+    }
+
+    public void setFloor(String floor) {
+        this.floor = floor;
+    }
+
+    public int getSlotsPerRoom() {
+        return slotsPerRoom;
+    }
+
+    public void setSlotsPerRoom(int slotsPerRoom) {
+        this.slotsPerRoom = slotsPerRoom;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
@@ -18,6 +18,7 @@ public class RoomResponseDto extends BaseResponseDto {
     private String amenities;
     private String equipment;
     private String images;
+    private String imageVariants; // JSON array of {thumbnail, card, full}
     private boolean isAvailable;
     private int totalBookingsToday;
     private RoomAccessLevel accessLevel;
@@ -114,6 +115,14 @@ public class RoomResponseDto extends BaseResponseDto {
         this.images = images;
     }
 
+    public String getImageVariants() {
+        return imageVariants;
+    }
+
+    public void setImageVariants(String imageVariants) {
+        this.imageVariants = imageVariants;
+    }
+
     public boolean isAvailable() {
         return isAvailable;
     }
@@ -0,0 +1,131 @@
+package Room.ConferenceRoomMgtsys.dto.room;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Live change to a room's availability grid, pushed on
+ * {@code /topic/rooms/{roomId}/slots} and
+ * {@code /topic/organizations/{organizationId}/slots}.
+ */
+public class RoomSlotUpdateDto {
+    private String type; // SLOTS, ROOM_STATUS
+    private UUID roomId;
+    private UUID organizationId;
+    private LocalDate date;
+    private boolean full; // slots lists the whole day rather than only the changed slots
+    private List<SlotState> slots;
+    private Boolean available; // any slot of the day still free
+    private Boolean active;
+    private LocalDateTime generatedAt;
+
+    public RoomSlotUpdateDto() {
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public UUID getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(UUID roomId) {
+        this.roomId = roomId;
+    }
+
+    public UUID getOrganizationId() {
+        return organizationId;
+    }
+
+    public void setOrganizationId(UUID organizationId) {
+        this.organizationId = organizationId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public void setFull(boolean full) {
+        this.full = full;
+    }
+
+    public List<SlotState> getSlots() {
+        return slots;
+    }
+
+    public void setSlots(List<SlotState> slots) {
+        this.slots = slots;
+    }
+
+    public Boolean getAvailable() {
+        return available;
+    }
+
+    public void setAvailable(Boolean available) {
+        this.available = available;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    /**
+     * One hourly slot, identified by its start hour.
+     */
+    public static class SlotState {
+        private int hour;
+        private String status; // AVAILABLE, BOOKED
+
+        public SlotState() {
+        }
+
+        public SlotState(int hour, String status) {
+            this.hour = hour;
+            this.status = status;
+        }
+
+        public int getHour() {
+            return hour;
+        }
+
+        public void setHour(int hour) {
+            this.hour = hour;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package Room.ConferenceRoomMgtsys.dto.search;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.Data;
 
@@ -10,6 +11,7 @@ public class GlobalSearchRequestDto {
     @Min(0)
     private int page = 0;
     @Min(1)
+    @Max(50)
     private int size = 10;
     private String sortField = "createdAt";
     private String sortOrder = "desc";
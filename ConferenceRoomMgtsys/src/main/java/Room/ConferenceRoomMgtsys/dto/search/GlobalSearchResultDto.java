@@ -13,4 +13,5 @@ public class GlobalSearchResultDto {
     private int currentPage;
     private int pageSize;
     private List<Map<String, Object>> results;
+    private Map<String, Long> facets; // match count per type, regardless of the type filter
 }
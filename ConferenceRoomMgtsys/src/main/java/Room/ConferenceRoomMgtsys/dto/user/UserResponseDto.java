@@ -16,6 +16,7 @@ public class UserResponseDto {
     private UserRole role;
     private String organizationName;
     private String profilePictureUrl;
+    private String profilePictureVariants; // JSON {thumbnail, card, full}
     private Boolean isActive;
     private Boolean isApproved;
     private LocalDateTime lastLoginAt;
@@ -31,6 +32,7 @@ public class UserResponseDto {
         dto.setRole(user.getRole());
         dto.setOrganizationName(user.getOrganization() != null ? user.getOrganization().getName() : null);
         dto.setProfilePictureUrl(user.getProfilePictureUrl());
+        dto.setProfilePictureVariants(user.getProfilePictureVariants());
         dto.setIsActive(user.getIsActive());
         dto.setIsApproved(user.getIsApproved());
         dto.setLastLoginAt(user.getLastLoginAt());
@@ -98,6 +100,14 @@ public class UserResponseDto {
         this.profilePictureUrl = profilePictureUrl;
     }
 
+    public String getProfilePictureVariants() {
+        return profilePictureVariants;
+    }
+
+    public void setProfilePictureVariants(String profilePictureVariants) {
+        this.profilePictureVariants = profilePictureVariants;
+    }
+
     public Boolean getIsActive() {
         return isActive;
     }
@@ -6,6 +6,7 @@ public enum AuditAction {
     DELETE,
     APPROVE,
     REJECT,
+    CANCEL,
     LOGIN,
     LOGOUT,
     PASSWORD_CHANGE,
@@ -0,0 +1,8 @@
+package Room.ConferenceRoomMgtsys.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,199 @@
+package Room.ConferenceRoomMgtsys.jwt;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import Room.ConferenceRoomMgtsys.enums.UserRole;
+import Room.ConferenceRoomMgtsys.model.Organization;
+import Room.ConferenceRoomMgtsys.model.User;
+
+/**
+ * Short-lived cache of the users resolved by {@link JwtRequestFilter}, keyed by
+ * email (the token subject). Entries expire after a few seconds and are evicted
+ * as soon as the user row changes, so deactivation, locking and role changes
+ * take effect on the next request.
+ *
+ * Entries are immutable {@link Snapshot}s rather than the loaded entity, so
+ * nothing a request does to its principal can leak into another request.
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    @Value("${jwt.principal-cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${jwt.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, Entry> byEmail = new ConcurrentHashMap<>();
+
+    public Snapshot get(String email) {
+        Entry entry = byEmail.get(email);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            byEmail.remove(email, entry);
+            return null;
+        }
+        return entry.snapshot;
+    }
+
+    public Snapshot put(String email, User user) {
+        if (byEmail.size() >= maxSize) {
+            long now = System.currentTimeMillis();
+            byEmail.values().removeIf(e -> e.expiresAt < now);
+            if (byEmail.size() >= maxSize) {
+                byEmail.clear();
+            }
+        }
+        Snapshot snapshot = Snapshot.of(user);
+        byEmail.put(email, new Entry(snapshot, System.currentTimeMillis() + ttlMs));
+        return snapshot;
+    }
+
+    /**
+     * Drop the cached principal of a user. Matched by ID so entries cached under
+     * a previous email are evicted too.
+     */
+    public void invalidate(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        byEmail.values().removeIf(e -> userId.equals(e.snapshot.getId()));
+    }
+
+    public void invalidateAll() {
+        byEmail.clear();
+    }
+
+    /**
+     * What the filter needs to authenticate a user, plus a private detached copy
+     * of the user it hands out fresh copies of as the request principal.
+     */
+    public static final class Snapshot {
+        private final UUID id;
+        private final String email;
+        private final UserRole role;
+        private final UUID organizationId;
+        private final boolean active;
+        private final LocalDateTime accountLockedUntil;
+        private final User profile;
+
+        private Snapshot(User user) {
+            this.id = user.getId();
+            this.email = user.getEmail();
+            this.role = user.getRole();
+            this.organizationId = user.getOrganization() != null ? user.getOrganization().getId() : null;
+            this.active = Boolean.TRUE.equals(user.getIsActive());
+            this.accountLockedUntil = user.getAccountLockedUntil();
+            this.profile = copyOf(user);
+        }
+
+        public static Snapshot of(User user) {
+            return new Snapshot(user);
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public UserRole getRole() {
+            return role;
+        }
+
+        public UUID getOrganizationId() {
+            return organizationId;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public LocalDateTime getAccountLockedUntil() {
+            return accountLockedUntil;
+        }
+
+        public boolean isLocked(LocalDateTime now) {
+            return accountLockedUntil != null && !accountLockedUntil.isBefore(now);
+        }
+
+        /**
+         * A new detached user for one request. Columns and the organization are
+         * copied; collections and the approver/rejecter links are left unset.
+         */
+        public User toPrincipal() {
+            return copyOf(profile);
+        }
+
+        private static User copyOf(User source) {
+            User user = new User();
+            user.setId(source.getId());
+            user.setCreatedAt(source.getCreatedAt());
+            user.setUpdatedAt(source.getUpdatedAt());
+            user.setIsDeleted(source.getIsDeleted());
+            user.setFirstName(source.getFirstName());
+            user.setLastName(source.getLastName());
+            user.setEmail(source.getEmail());
+            user.setPasswordHash(source.getPasswordHash());
+            user.setRole(source.getRole());
+            user.setOrganization(copyOf(source.getOrganization()));
+            user.setProfilePictureUrl(source.getProfilePictureUrl());
+            user.setProfilePictureVariants(source.getProfilePictureVariants());
+            user.setIsTwoFactorEnabled(source.getIsTwoFactorEnabled());
+            user.setTwoFactorSecret(source.getTwoFactorSecret());
+            user.setIsEmailVerified(source.getIsEmailVerified());
+            user.setEmailVerifiedAt(source.getEmailVerifiedAt());
+            user.setIsActive(source.getIsActive());
+            user.setLastLoginAt(source.getLastLoginAt());
+            user.setFailedLoginAttempts(source.getFailedLoginAttempts());
+            user.setAccountLockedUntil(source.getAccountLockedUntil());
+            user.setIsApproved(source.getIsApproved());
+            user.setApprovedAt(source.getApprovedAt());
+            user.setRejectedAt(source.getRejectedAt());
+            user.setRejectionReason(source.getRejectionReason());
+            user.setApprovalStatus(source.getApprovalStatus());
+            return user;
+        }
+
+        private static Organization copyOf(Organization source) {
+            if (source == null) {
+                return null;
+            }
+            Organization organization = new Organization();
+            organization.setId(source.getId());
+            organization.setCreatedAt(source.getCreatedAt());
+            organization.setUpdatedAt(source.getUpdatedAt());
+            organization.setIsDeleted(source.getIsDeleted());
+            organization.setName(source.getName());
+            organization.setOrganizationCode(source.getOrganizationCode());
+            organization.setDescription(source.getDescription());
+            organization.setAddress(source.getAddress());
+            organization.setPhone(source.getPhone());
+            organization.setEmail(source.getEmail());
+            organization.setLogoUrl(source.getLogoUrl());
+            organization.setLogoVariants(source.getLogoVariants());
+            organization.setIsActive(source.getIsActive());
+            return organization;
+        }
+    }
+
+    private static final class Entry {
+        private final Snapshot snapshot;
+        private final long expiresAt;
+
+        private Entry(Snapshot snapshot, long expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package Room.ConferenceRoomMgtsys.jwt;
+
+import java.util.UUID;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import Room.ConferenceRoomMgtsys.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on {@link User} that evicts the cached principal whenever a user
+ * row is updated or deleted. Eviction runs after commit so a concurrent request
+ * cannot re-cache the pre-commit state.
+ */
+public class AuthenticatedUserCacheListener {
+
+    private final AuthenticatedUserCache authenticatedUserCache;
+
+    public AuthenticatedUserCacheListener(AuthenticatedUserCache authenticatedUserCache) {
+        this.authenticatedUserCache = authenticatedUserCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        UUID userId = user.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    authenticatedUserCache.invalidate(userId);
+                }
+            });
+        } else {
+            authenticatedUserCache.invalidate(userId);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import Room.ConferenceRoomMgtsys.model.User;
 import Room.ConferenceRoomMgtsys.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,44 +31,53 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuthenticatedUserCache authenticatedUserCache;
+
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
             @NonNull HttpServletResponse response,
             @NonNull FilterChain chain) throws ServletException, IOException {
 
         final String requestTokenHeader = request.getHeader("Authorization");
-        String email = null;
-        String jwtToken = null;
-        String role = null;
+        Claims claims = null;
 
         // JWT Token is in the form "Bearer token". Remove Bearer word and get only the
-        // Token
+        // Token. The token is parsed and verified once; hot tokens are served from cache.
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
+            String jwtToken = requestTokenHeader.substring(7);
             try {
-                email = jwtUtil.getEmailFromToken(jwtToken);
-                role = jwtUtil.getRoleFromToken(jwtToken);
+                claims = jwtUtil.getVerifiedAccessClaims(jwtToken);
             } catch (Exception e) {
                 logger.warn("Unable to get JWT Token or token has expired: " + e.getMessage());
             }
         }
 
-        // Once we get the token validate it
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        // Once we have verified claims, resolve the user
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String email = claims.getSubject();
+            String role = claims.get("role", String.class);
             try {
-                // Load user from database
-                User user = userRepository.findByEmail(email).orElse(null);
+                AuthenticatedUserCache.Snapshot snapshot = authenticatedUserCache.get(email);
+                if (snapshot == null) {
+                    // Load user from database
+                    User loaded = userRepository.findByEmail(email).orElse(null);
+                    if (loaded != null) {
+                        snapshot = authenticatedUserCache.put(email, loaded);
+                    }
+                }
 
-                if (user != null && jwtUtil.validateToken(jwtToken, email)) {
-                    if (role == null || !role.equals(user.getRole().toString())) {
+                if (snapshot != null) {
+                    if (role == null || !role.equals(String.valueOf(snapshot.getRole()))) {
                         logger.warn("Role in JWT token does not match user's role in database for user: " + email);
                     }
 
                     // Check if user is active
-                    if (user.getIsActive()) {
+                    if (snapshot.isActive()) {
                         // Check if account is not locked
-                        if (user.getAccountLockedUntil() == null ||
-                                user.getAccountLockedUntil().isBefore(LocalDateTime.now())) {
+                        if (!snapshot.isLocked(LocalDateTime.now())) {
+                            // Every request gets its own principal; the cached snapshot is never handed out
+                            User user = snapshot.toPrincipal();
 
                             // Create UserDetails object with role from token
                             UserDetails userDetails = org.springframework.security.core.userdetails.User
@@ -1,16 +1,23 @@
 package Room.ConferenceRoomMgtsys.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 @Component
@@ -25,8 +32,70 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration:604800000}") // 7 days default
     private Long refreshExpiration;
 
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
+
+    // Key and parser are immutable once built, so build them once
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Verified access-token claims keyed by SHA-256 of the token, valid until the token expires
+    private final Map<String, Claims> verifiedClaims = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
+    }
+
+    /**
+     * Parse and verify an access token once and return its claims, or null if the
+     * token is not an unexpired access token. Verified claims are cached by token
+     * digest, so repeat requests with the same token skip signature verification.
+     */
+    public Claims getVerifiedAccessClaims(String token) {
+        String digest = digest(token);
+        Claims claims = verifiedClaims.get(digest);
+        if (claims != null) {
+            if (claims.getExpiration().after(new Date())) {
+                return claims;
+            }
+            verifiedClaims.remove(digest);
+            return null;
+        }
+
+        claims = getAllClaimsFromToken(token);
+        if (!"access".equals(claims.get("type", String.class)) || claims.getSubject() == null
+                || claims.getExpiration() == null || !claims.getExpiration().after(new Date())) {
+            return null;
+        }
+        if (verifiedClaims.size() >= claimsCacheMaxSize) {
+            evictExpiredClaims();
+        }
+        verifiedClaims.put(digest, claims);
+        return claims;
+    }
+
+    private void evictExpiredClaims() {
+        Date now = new Date();
+        verifiedClaims.values().removeIf(c -> !c.getExpiration().after(now));
+        // Still full of live tokens: start over rather than grow without bound
+        if (verifiedClaims.size() >= claimsCacheMaxSize) {
+            verifiedClaims.clear();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     // Extract email from token
@@ -55,17 +124,7 @@ public class JwtUtil {
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    // Check if token is expired
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+        return parser.parseClaimsJws(token).getBody();
     }
 
     // Generate access token
@@ -95,16 +154,15 @@ public class JwtUtil {
 
     // Validate access token
     public Boolean validateToken(String token, String email) {
-        final String tokenEmail = getEmailFromToken(token);
-        final String tokenType = getClaimFromToken(token, claims -> claims.get("type", String.class));
-        return (tokenEmail.equals(email) && !isTokenExpired(token) && "access".equals(tokenType));
+        final Claims claims = getVerifiedAccessClaims(token);
+        return claims != null && claims.getSubject().equals(email);
     }
 
     // Validate refresh token
     public Boolean validateRefreshToken(String token) {
         try {
-            final String tokenType = getClaimFromToken(token, claims -> claims.get("type", String.class));
-            return !isTokenExpired(token) && "refresh".equals(tokenType);
+            final Claims claims = getAllClaimsFromToken(token);
+            return claims.getExpiration().after(new Date()) && "refresh".equals(claims.get("type", String.class));
         } catch (Exception e) {
             return false;
         }
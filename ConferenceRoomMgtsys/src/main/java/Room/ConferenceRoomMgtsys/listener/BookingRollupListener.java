@@ -0,0 +1,33 @@
+package Room.ConferenceRoomMgtsys.listener;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import Room.ConferenceRoomMgtsys.model.Booking;
+import Room.ConferenceRoomMgtsys.service.BookingRollupService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on {@link Booking} that marks the booking's (room, day) rollup
+ * row for recomputation whenever the booking is written. The service is
+ * resolved lazily because Hibernate builds listeners while the entity manager
+ * factory (which the service's transaction manager needs) is still starting.
+ */
+public class BookingRollupListener {
+
+    private final ObjectProvider<BookingRollupService> bookingRollupService;
+
+    public BookingRollupListener(ObjectProvider<BookingRollupService> bookingRollupService) {
+        this.bookingRollupService = bookingRollupService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void markDirty(Booking booking) {
+        if (booking.getRoom() != null) {
+            bookingRollupService.getObject().markDirty(booking.getRoom().getId(), booking.getStartTime());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package Room.ConferenceRoomMgtsys.listener;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import Room.ConferenceRoomMgtsys.model.Booking;
+import Room.ConferenceRoomMgtsys.model.Organization;
+import Room.ConferenceRoomMgtsys.model.Room;
+import Room.ConferenceRoomMgtsys.model.User;
+import Room.ConferenceRoomMgtsys.service.DashboardCacheInvalidator;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on {@link Booking}, {@link User}, {@link Room} and
+ * {@link Organization} that evicts the dashboard snapshots the written entity
+ * contributes to.
+ */
+public class DashboardCacheListener {
+
+    private final ObjectProvider<DashboardCacheInvalidator> invalidator;
+
+    public DashboardCacheListener(ObjectProvider<DashboardCacheInvalidator> invalidator) {
+        this.invalidator = invalidator;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(Object entity) {
+        if (entity instanceof Booking) {
+            invalidator.getObject().bookingChanged((Booking) entity);
+        } else if (entity instanceof User) {
+            invalidator.getObject().userChanged((User) entity);
+        } else if (entity instanceof Room) {
+            invalidator.getObject().roomChanged((Room) entity);
+        } else if (entity instanceof Organization) {
+            invalidator.getObject().organizationChanged((Organization) entity);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package Room.ConferenceRoomMgtsys.listener;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import Room.ConferenceRoomMgtsys.config.CacheConfig;
+import Room.ConferenceRoomMgtsys.model.Room;
+import Room.ConferenceRoomMgtsys.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on {@link User} and {@link Room} that evicts the cached
+ * organization list, whose entries carry active user and room counts. The
+ * cache manager is transaction-aware, so the eviction is applied after commit.
+ */
+public class OrganizationCacheListener {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public OrganizationCacheListener(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(Object entity) {
+        Cache cache = cacheManager.getObject().getCache(CacheConfig.ORGANIZATIONS);
+        if (cache != null) {
+            cache.evict("active");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package Room.ConferenceRoomMgtsys.listener;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import Room.ConferenceRoomMgtsys.model.Booking;
+import Room.ConferenceRoomMgtsys.service.RoomStatusPublisher;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on {@link Booking} that queues the booking's room and days for
+ * a live availability push whenever the booking is written.
+ */
+public class RoomStatusListener {
+
+    private final ObjectProvider<RoomStatusPublisher> roomStatusPublisher;
+
+    public RoomStatusListener(ObjectProvider<RoomStatusPublisher> roomStatusPublisher) {
+        this.roomStatusPublisher = roomStatusPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void bookingChanged(Booking booking) {
+        if (booking.getRoom() != null) {
+            roomStatusPublisher.getObject().bookingChanged(booking.getRoom().getId(), booking.getStartTime(),
+                    booking.getEndTime());
+        }
+    }
+}
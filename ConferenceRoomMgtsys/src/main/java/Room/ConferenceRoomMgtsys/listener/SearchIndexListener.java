@@ -0,0 +1,37 @@
+package Room.ConferenceRoomMgtsys.listener;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import Room.ConferenceRoomMgtsys.model.Booking;
+import Room.ConferenceRoomMgtsys.model.Room;
+import Room.ConferenceRoomMgtsys.model.User;
+import Room.ConferenceRoomMgtsys.service.SearchIndexService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on {@link Room}, {@link Booking} and {@link User} that queues
+ * the written entity's search document for rebuilding.
+ */
+public class SearchIndexListener {
+
+    private final ObjectProvider<SearchIndexService> searchIndexService;
+
+    public SearchIndexListener(ObjectProvider<SearchIndexService> searchIndexService) {
+        this.searchIndexService = searchIndexService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void markDirty(Object entity) {
+        if (entity instanceof Room) {
+            searchIndexService.getObject().markDirty(SearchIndexService.ROOM, ((Room) entity).getId());
+        } else if (entity instanceof Booking) {
+            searchIndexService.getObject().markDirty(SearchIndexService.BOOKING, ((Booking) entity).getId());
+        } else if (entity instanceof User) {
+            searchIndexService.getObject().markDirty(SearchIndexService.USER, ((User) entity).getId());
+        }
+    }
+}
@@ -2,16 +2,29 @@ package Room.ConferenceRoomMgtsys.model;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 import Room.ConferenceRoomMgtsys.enums.*;
 import Room.ConferenceRoomMgtsys.model.base.*;
+import Room.ConferenceRoomMgtsys.listener.BookingRollupListener;
+import Room.ConferenceRoomMgtsys.listener.DashboardCacheListener;
+import Room.ConferenceRoomMgtsys.listener.RoomStatusListener;
+import Room.ConferenceRoomMgtsys.listener.SearchIndexListener;
 
 import jakarta.persistence.*;
 import jakarta.persistence.TemporalType;
 import jakarta.persistence.Temporal;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        // Keyset order of the booking listing
+        @Index(name = "idx_bookings_start_time_id", columnList = "start_time DESC, id DESC"),
+        // Per-user dashboard counters
+        @Index(name = "idx_bookings_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_bookings_series_id", columnList = "series_id")
+})
+@EntityListeners({ BookingRollupListener.class, DashboardCacheListener.class, RoomStatusListener.class,
+        SearchIndexListener.class })
 public class Booking extends BaseEntity {
 
     @ManyToOne
@@ -65,6 +78,10 @@ public class Booking extends BaseEntity {
     @Column(name = "recurrence_end_date")
     private LocalDateTime recurrenceEndDate;
 
+    // Set for the occurrences of a BookingSeries
+    @Column(name = "series_id")
+    private UUID seriesId;
+
     @Column(name = "actual_start_time")
     private LocalDateTime actualStartTime;
 
@@ -198,6 +215,14 @@ public class Booking extends BaseEntity {
         this.recurrenceEndDate = recurrenceEndDate;
     }
 
+    public UUID getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(UUID seriesId) {
+        this.seriesId = seriesId;
+    }
+
     public LocalDateTime getActualStartTime() {
         return actualStartTime;
     }
@@ -0,0 +1,64 @@
+package Room.ConferenceRoomMgtsys.model;
+
+import java.util.UUID;
+
+import Room.ConferenceRoomMgtsys.model.base.*;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Client-supplied Idempotency-Key of a booking request, mapped to the booking it
+ * created so a retried request returns the original booking instead of a new one.
+ */
+@Entity
+@Table(name = "booking_request_keys", uniqueConstraints = {
+        @UniqueConstraint(name = "ux_booking_request_keys_user_key", columnNames = { "user_id", "idempotency_key" })
+})
+public class BookingRequestKey extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    // Plain column rather than a foreign key: bookings may be deleted with their room
+    @Column(name = "booking_id", nullable = false)
+    private UUID bookingId;
+
+    public BookingRequestKey() {
+    }
+
+    public BookingRequestKey(UUID userId, String idempotencyKey, UUID bookingId) {
+        this.userId = userId;
+        this.idempotencyKey = idempotencyKey;
+        this.bookingId = bookingId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public UUID getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(UUID bookingId) {
+        this.bookingId = bookingId;
+    }
+}
@@ -0,0 +1,206 @@
+package Room.ConferenceRoomMgtsys.model;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import Room.ConferenceRoomMgtsys.model.base.*;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * A recurring booking request: the first occurrence plus a recurrence rule,
+ * expanded in memory into the occurrences that become {@link Booking} rows
+ * (linked back through {@code bookings.series_id}).
+ *
+ * Supported patterns: {@code DAILY} (Mon-Fri), {@code WEEKLY} and
+ * {@code CUSTOM:TUESDAY,THURSDAY}. Unknown patterns recur weekly.
+ */
+@Entity
+@Table(name = "booking_series")
+public class BookingSeries extends BaseEntity {
+
+    // Plain columns rather than foreign keys: bookings may be deleted with their room
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "room_id", nullable = false)
+    private UUID roomId;
+
+    @Column(name = "recurrence_pattern", nullable = false)
+    private String recurrencePattern;
+
+    @Column(name = "first_start_time", nullable = false)
+    private LocalDateTime firstStartTime;
+
+    @Column(name = "first_end_time", nullable = false)
+    private LocalDateTime firstEndTime;
+
+    @Column(name = "recurrence_end_date", nullable = false)
+    private LocalDateTime recurrenceEndDate;
+
+    @Column(name = "purpose")
+    private String purpose;
+
+    @Column(name = "occurrence_count")
+    private Integer occurrenceCount;
+
+    @Column(name = "created_count")
+    private Integer createdCount;
+
+    @Transient
+    private Set<DayOfWeek> customDays;
+
+    public BookingSeries() {
+    }
+
+    public BookingSeries(UUID userId, UUID roomId, String recurrencePattern, LocalDateTime firstStartTime,
+            LocalDateTime firstEndTime, LocalDateTime recurrenceEndDate, String purpose) {
+        this.userId = userId;
+        this.roomId = roomId;
+        this.recurrencePattern = recurrencePattern == null || recurrencePattern.isBlank() ? "WEEKLY"
+                : recurrencePattern.trim().toUpperCase();
+        this.firstStartTime = firstStartTime;
+        this.firstEndTime = firstEndTime;
+        this.recurrenceEndDate = recurrenceEndDate;
+        this.purpose = purpose;
+    }
+
+    /**
+     * Start times of every occurrence from the first one up to the recurrence
+     * end date, in order. Fails once more than {@code limit} occurrences would
+     * be produced.
+     */
+    public List<LocalDateTime> expandStartTimes(int limit) {
+        boolean daily = "DAILY".equals(recurrencePattern);
+        boolean custom = recurrencePattern.startsWith("CUSTOM");
+        Set<DayOfWeek> days = custom ? getCustomDays() : null;
+
+        List<LocalDateTime> starts = new ArrayList<>();
+        LocalDateTime cursor = firstStartTime;
+        while (!cursor.isAfter(recurrenceEndDate)) {
+            boolean include;
+            if (daily) {
+                include = cursor.getDayOfWeek().getValue() <= 5; // Mon-Fri
+            } else {
+                include = !custom || days.contains(cursor.getDayOfWeek());
+            }
+            if (include) {
+                if (starts.size() == limit) {
+                    throw new IllegalArgumentException(
+                            "A recurring booking can have at most " + limit + " occurrences.");
+                }
+                starts.add(cursor);
+            }
+            cursor = daily || custom ? cursor.plusDays(1) : cursor.plusWeeks(1);
+        }
+        return starts;
+    }
+
+    public Duration getOccurrenceDuration() {
+        return Duration.between(firstStartTime, firstEndTime);
+    }
+
+    // Weekdays of a CUSTOM:DAY,DAY pattern
+    private Set<DayOfWeek> getCustomDays() {
+        if (customDays == null) {
+            Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+            int idx = recurrencePattern.indexOf(':');
+            if (idx > 0 && idx + 1 < recurrencePattern.length()) {
+                for (String d : recurrencePattern.substring(idx + 1).split(",")) {
+                    try {
+                        days.add(DayOfWeek.valueOf(d.trim()));
+                    } catch (IllegalArgumentException ignored) {
+                    }
+                }
+            }
+            if (days.isEmpty()) {
+                throw new IllegalArgumentException("CUSTOM recurrence requires at least one weekday.");
+            }
+            customDays = days;
+        }
+        return customDays;
+    }
+
+    // Getters and Setters
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(UUID roomId) {
+        this.roomId = roomId;
+    }
+
+    public String getRecurrencePattern() {
+        return recurrencePattern;
+    }
+
+    public void setRecurrencePattern(String recurrencePattern) {
+        this.recurrencePattern = recurrencePattern;
+        this.customDays = null;
+    }
+
+    public LocalDateTime getFirstStartTime() {
+        return firstStartTime;
+    }
+
+    public void setFirstStartTime(LocalDateTime firstStartTime) {
+        this.firstStartTime = firstStartTime;
+    }
+
+    public LocalDateTime getFirstEndTime() {
+        return firstEndTime;
+    }
+
+    public void setFirstEndTime(LocalDateTime firstEndTime) {
+        this.firstEndTime = firstEndTime;
+    }
+
+    public LocalDateTime getRecurrenceEndDate() {
+        return recurrenceEndDate;
+    }
+
+    public void setRecurrenceEndDate(LocalDateTime recurrenceEndDate) {
+        this.recurrenceEndDate = recurrenceEndDate;
+    }
+
+    public String getPurpose() {
+        return purpose;
+    }
+
+    public void setPurpose(String purpose) {
+        this.purpose = purpose;
+    }
+
+    public Integer getOccurrenceCount() {
+        return occurrenceCount;
+    }
+
+    public void setOccurrenceCount(Integer occurrenceCount) {
+        this.occurrenceCount = occurrenceCount;
+    }
+
+    public Integer getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(Integer createdCount) {
+        this.createdCount = createdCount;
+    }
+}
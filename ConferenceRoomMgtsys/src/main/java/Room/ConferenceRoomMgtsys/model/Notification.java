@@ -1,6 +1,8 @@
 package Room.ConferenceRoomMgtsys.model;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import Room.ConferenceRoomMgtsys.enums.*;
 import Room.ConferenceRoomMgtsys.model.base.*;
@@ -9,12 +11,16 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_type_created", columnList = "user_id, type, created_at DESC"),
+        @Index(name = "idx_notifications_read_at", columnList = "read_at")
+})
 public class Notification extends BaseEntity {
     
     @ManyToOne
@@ -46,6 +52,25 @@ public class Notification extends BaseEntity {
     @Column(name = "action_url")
     private String actionUrl;
 
+    // Who triggered the notification and from which organization, captured at send time
+    @Column(name = "actor_id")
+    private UUID actorId;
+
+    @Column(name = "actor_name")
+    private String actorName;
+
+    @Column(name = "actor_role")
+    private String actorRole;
+
+    @Column(name = "organization_id")
+    private UUID organizationId;
+
+    @Column(name = "organization_name")
+    private String organizationName;
+
+    @Column(name = "visible_date")
+    private LocalDate visibleDate;
+
     // Getters and Setters
     public User getUser() {
         return user;
@@ -118,5 +143,52 @@ public class Notification extends BaseEntity {
     public void setActionUrl(String actionUrl) {
         this.actionUrl = actionUrl;
     }
-}
 
+    public UUID getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(UUID actorId) {
+        this.actorId = actorId;
+    }
+
+    public String getActorName() {
+        return actorName;
+    }
+
+    public void setActorName(String actorName) {
+        this.actorName = actorName;
+    }
+
+    public String getActorRole() {
+        return actorRole;
+    }
+
+    public void setActorRole(String actorRole) {
+        this.actorRole = actorRole;
+    }
+
+    public UUID getOrganizationId() {
+        return organizationId;
+    }
+
+    public void setOrganizationId(UUID organizationId) {
+        this.organizationId = organizationId;
+    }
+
+    public String getOrganizationName() {
+        return organizationName;
+    }
+
+    public void setOrganizationName(String organizationName) {
+        this.organizationName = organizationName;
+    }
+
+    public LocalDate getVisibleDate() {
+        return visibleDate;
+    }
+
+    public void setVisibleDate(LocalDate visibleDate) {
+        this.visibleDate = visibleDate;
+    }
+}
@@ -2,15 +2,18 @@ package Room.ConferenceRoomMgtsys.model;
 
 import java.util.List;
 
+import Room.ConferenceRoomMgtsys.listener.DashboardCacheListener;
 import Room.ConferenceRoomMgtsys.model.base.*;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "organizations")
+@EntityListeners(DashboardCacheListener.class)
 public class Organization extends BaseEntity {
     
     @Column(name = "name")
@@ -33,6 +36,10 @@ public class Organization extends BaseEntity {
     
     @Column(name = "logo_url")
     private String logoUrl;
+
+    // JSON {thumbnail, card, full} URLs of an uploaded logo
+    @Column(name = "logo_variants", columnDefinition = "TEXT")
+    private String logoVariants;
     
     @Column(name = "is_active")
     private Boolean isActive = true;
@@ -100,6 +107,14 @@ public class Organization extends BaseEntity {
         this.logoUrl = logoUrl;
     }
 
+    public String getLogoVariants() {
+        return logoVariants;
+    }
+
+    public void setLogoVariants(String logoVariants) {
+        this.logoVariants = logoVariants;
+    }
+
     public Boolean getIsActive() {
         return isActive;
     }
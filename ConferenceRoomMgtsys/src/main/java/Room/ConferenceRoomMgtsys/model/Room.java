@@ -8,6 +8,7 @@ import Room.ConferenceRoomMgtsys.model.base.*;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.JoinColumn;
@@ -18,9 +19,13 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.CascadeType;
+import Room.ConferenceRoomMgtsys.listener.DashboardCacheListener;
+import Room.ConferenceRoomMgtsys.listener.OrganizationCacheListener;
+import Room.ConferenceRoomMgtsys.listener.SearchIndexListener;
 
 @Entity
 @Table(name = "rooms")
+@EntityListeners({ DashboardCacheListener.class, OrganizationCacheListener.class, SearchIndexListener.class })
 public class Room extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
@@ -62,6 +67,10 @@ public class Room extends BaseEntity {
     @Column(name = "images", columnDefinition = "TEXT")
     private String images;
 
+    // JSON array of {thumbnail, card, full} URLs, one entry per image in images
+    @Column(name = "image_variants", columnDefinition = "TEXT")
+    private String imageVariants;
+
     // Getters and Setters for access level
     public RoomAccessLevel getAccessLevel() {
         return accessLevel;
@@ -168,6 +177,14 @@ public class Room extends BaseEntity {
         this.images = images;
     }
 
+    public String getImageVariants() {
+        return imageVariants;
+    }
+
+    public void setImageVariants(String imageVariants) {
+        this.imageVariants = imageVariants;
+    }
+
     public List<Booking> getBookings() {
         return bookings;
     }
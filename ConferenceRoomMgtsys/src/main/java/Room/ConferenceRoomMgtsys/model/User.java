@@ -8,6 +8,7 @@ import Room.ConferenceRoomMgtsys.model.base.*;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.JoinColumn;
@@ -15,9 +16,15 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import Room.ConferenceRoomMgtsys.jwt.AuthenticatedUserCacheListener;
+import Room.ConferenceRoomMgtsys.listener.DashboardCacheListener;
+import Room.ConferenceRoomMgtsys.listener.OrganizationCacheListener;
+import Room.ConferenceRoomMgtsys.listener.SearchIndexListener;
 
 @Entity
 @Table(name = "users")
+@EntityListeners({ AuthenticatedUserCacheListener.class, DashboardCacheListener.class, OrganizationCacheListener.class,
+        SearchIndexListener.class })
 public class User extends BaseEntity {
 
     @Column(name = "first_name")
@@ -43,6 +50,10 @@ public class User extends BaseEntity {
     @Column(name = "profile_picture_url")
     private String profilePictureUrl;
 
+    // JSON {thumbnail, card, full} URLs of an uploaded profile picture
+    @Column(name = "profile_picture_variants", columnDefinition = "TEXT")
+    private String profilePictureVariants;
+
     @Column(name = "is_two_factor_enabled")
     private Boolean isTwoFactorEnabled = false;
 
@@ -165,6 +176,14 @@ public class User extends BaseEntity {
         this.profilePictureUrl = profilePictureUrl;
     }
 
+    public String getProfilePictureVariants() {
+        return profilePictureVariants;
+    }
+
+    public void setProfilePictureVariants(String profilePictureVariants) {
+        this.profilePictureVariants = profilePictureVariants;
+    }
+
     public Boolean getIsTwoFactorEnabled() {
         return isTwoFactorEnabled;
     }
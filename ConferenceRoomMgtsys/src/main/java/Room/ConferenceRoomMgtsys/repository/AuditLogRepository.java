@@ -84,11 +84,27 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
                                                @Param("action") String action, 
                                                Pageable pageable);
     
-    // Search functionality
-    @Query("SELECT al FROM AuditLog al WHERE al.details LIKE %:searchTerm% OR al.action LIKE %:searchTerm% OR al.entityType LIKE %:searchTerm% ORDER BY al.timestamp DESC")
+    // Search functionality: word matches against the GIN-indexed document built by AuditLogPartitionService
+    String DETAILS_DOCUMENT = "to_tsvector('simple', COALESCE(details, '') || ' ' "
+            + "|| COALESCE(action, '') || ' ' || COALESCE(entity_type, ''))";
+
+    // Every word of the term as a prefix ("book" finds BOOKING_CREATED); punctuation is dropped so
+    // user input cannot inject tsquery operators, and an empty term matches nothing
+    String PREFIX_QUERY = "to_tsquery('simple', array_to_string(ARRAY(SELECT t || ':*' "
+            + "FROM regexp_split_to_table(lower(:searchTerm), '(\\W|_)+') t WHERE t <> ''), ' & '))";
+
+    @Query(value = "SELECT * FROM audit_logs WHERE " + DETAILS_DOCUMENT
+            + " @@ " + PREFIX_QUERY + " ORDER BY \"timestamp\" DESC",
+            countQuery = "SELECT COUNT(*) FROM audit_logs WHERE " + DETAILS_DOCUMENT
+                    + " @@ " + PREFIX_QUERY,
+            nativeQuery = true)
     Page<AuditLog> searchByDetailsActionOrEntityType(@Param("searchTerm") String searchTerm, Pageable pageable);
     
-    @Query("SELECT al FROM AuditLog al WHERE al.user = :user AND (al.details LIKE %:searchTerm% OR al.action LIKE %:searchTerm%) ORDER BY al.timestamp DESC")
+    @Query(value = "SELECT * FROM audit_logs WHERE user_id = :#{#user.id} AND " + DETAILS_DOCUMENT
+            + " @@ " + PREFIX_QUERY + " ORDER BY \"timestamp\" DESC",
+            countQuery = "SELECT COUNT(*) FROM audit_logs WHERE user_id = :#{#user.id} AND " + DETAILS_DOCUMENT
+                    + " @@ " + PREFIX_QUERY,
+            nativeQuery = true)
     Page<AuditLog> searchUserAuditLogs(@Param("user") User user, @Param("searchTerm") String searchTerm, Pageable pageable);
     
     // Security and compliance queries
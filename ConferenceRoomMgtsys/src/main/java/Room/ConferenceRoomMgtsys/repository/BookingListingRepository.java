@@ -0,0 +1,22 @@
+package Room.ConferenceRoomMgtsys.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import Room.ConferenceRoomMgtsys.dto.booking.BookingListFilter;
+import Room.ConferenceRoomMgtsys.dto.booking.BookingListRow;
+
+/**
+ * Keyset-paginated booking listing, implemented with a dynamic JPQL projection.
+ */
+public interface BookingListingRepository {
+
+    /**
+     * Up to {@code limit} bookings matching the filter, newest start time first.
+     * When {@code afterStartTime}/{@code afterId} are given, only rows after that
+     * position in the (startTime DESC, id DESC) order are returned.
+     */
+    List<BookingListRow> findListingPage(BookingListFilter filter, LocalDateTime afterStartTime, UUID afterId,
+            int limit);
+}
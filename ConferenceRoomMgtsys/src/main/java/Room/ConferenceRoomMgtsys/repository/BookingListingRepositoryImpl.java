@@ -0,0 +1,70 @@
+package Room.ConferenceRoomMgtsys.repository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import Room.ConferenceRoomMgtsys.dto.booking.BookingListFilter;
+import Room.ConferenceRoomMgtsys.dto.booking.BookingListRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+class BookingListingRepositoryImpl implements BookingListingRepository {
+
+    private static final String SELECT = "SELECT new Room.ConferenceRoomMgtsys.dto.booking.BookingListRow("
+            + "b.id, u.firstName, u.lastName, u.email, uo.id, r.id, r.name, r.images, ro.id, ro.name, "
+            + "b.startTime, b.endTime, b.status, b.purpose, b.notes, b.attendeeCount, b.isActive, "
+            + "a.firstName, a.lastName, b.approvedAt, b.rejectionReason, b.isRecurring) "
+            + "FROM Booking b JOIN b.user u JOIN b.room r "
+            + "LEFT JOIN u.organization uo LEFT JOIN r.organization ro LEFT JOIN b.approvedBy a "
+            + "WHERE 1 = 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookingListRow> findListingPage(BookingListFilter filter, LocalDateTime afterStartTime, UUID afterId,
+            int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT);
+        Map<String, Object> params = new HashMap<>();
+
+        if (filter.getUserId() != null) {
+            jpql.append(" AND u.id = :userId");
+            params.put("userId", filter.getUserId());
+        }
+        if (filter.getOrganizationId() != null) {
+            jpql.append(" AND ro.id = :organizationId");
+            params.put("organizationId", filter.getOrganizationId());
+        }
+        if (filter.getRoomId() != null) {
+            jpql.append(" AND r.id = :roomId");
+            params.put("roomId", filter.getRoomId());
+        }
+        if (filter.getStatus() != null) {
+            jpql.append(" AND b.status = :status");
+            params.put("status", filter.getStatus());
+        }
+        // Date range selects bookings overlapping [from, to)
+        if (filter.getFrom() != null) {
+            jpql.append(" AND b.endTime > :from");
+            params.put("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            jpql.append(" AND b.startTime < :to");
+            params.put("to", filter.getTo());
+        }
+        if (afterStartTime != null && afterId != null) {
+            jpql.append(" AND (b.startTime < :afterStart OR (b.startTime = :afterStart AND b.id < :afterId))");
+            params.put("afterStart", afterStartTime);
+            params.put("afterId", afterId);
+        }
+        jpql.append(" ORDER BY b.startTime DESC, b.id DESC");
+
+        TypedQuery<BookingListRow> query = entityManager.createQuery(jpql.toString(), BookingListRow.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -1,6 +1,7 @@
 package Room.ConferenceRoomMgtsys.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,7 +19,8 @@ import Room.ConferenceRoomMgtsys.model.Room;
 import Room.ConferenceRoomMgtsys.model.User;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, UUID> {
+public interface BookingRepository extends JpaRepository<Booking, UUID>, BookingListingRepository,
+              BookingTransitionRepository {
 
        // Basic queries with Pagination
        List<Booking> findByUser(User user);
@@ -113,6 +115,19 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
                                                @Param("dayStart") LocalDateTime dayStart, 
                                                @Param("dayEnd") LocalDateTime dayEnd);
 
+    // All bookings touching a time range for a set of rooms, loaded in one round-trip
+    @Query("SELECT b FROM Booking b JOIN FETCH b.user WHERE b.room.id IN :roomIds AND " +
+           "b.startTime < :rangeEnd AND b.endTime > :rangeStart ORDER BY b.startTime ASC")
+    List<Booking> findByRoomIdsOverlappingRange(@Param("roomIds") Collection<UUID> roomIds,
+                                                @Param("rangeStart") LocalDateTime rangeStart,
+                                                @Param("rangeEnd") LocalDateTime rangeEnd);
+
+    // Minimal columns for rebuilding the in-memory booking interval index
+    @Query("SELECT b.id, b.room.id, b.user.id, b.startTime, b.endTime, b.status, b.purpose, b.createdAt " +
+           "FROM Booking b WHERE b.isActive = true AND b.status IN :statuses AND b.endTime > :after")
+    List<Object[]> findIndexableBookings(@Param("statuses") Collection<BookingStatus> statuses,
+                                         @Param("after") LocalDateTime after);
+
        // Search queries with Pagination
        @Query("SELECT b FROM Booking b WHERE b.purpose LIKE %:searchTerm% OR b.notes LIKE %:searchTerm%")
        Page<Booking> searchByPurposeOrNotes(@Param("searchTerm") String searchTerm, Pageable pageable);
@@ -135,6 +150,8 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
        interface BookingSummary {
               UUID getId();
 
+              UUID getRoomId();
+
               LocalDateTime getStartTime();
 
               LocalDateTime getEndTime();
@@ -151,6 +168,8 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
        interface BookingBasicInfo {
               UUID getId();
 
+              UUID getRoomId();
+
               LocalDateTime getStartTime();
 
               LocalDateTime getEndTime();
@@ -181,6 +200,22 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
        @Query("SELECT b FROM Booking b WHERE b.status = 'APPROVED' AND b.endTime <= :currentTime")
        List<Booking> findEndedBookings(@Param("currentTime") LocalDateTime currentTime);
 
+       // Row returned by the set-based transitions in BookingTransitionRepository
+
+       interface BookingTransition {
+              UUID getId();
+
+              UUID getRoomId();
+
+              LocalDateTime getStartTime();
+
+              LocalDateTime getEndTime();
+
+              String getUserEmail();
+
+              String getRoomName();
+       }
+
        // Reporting methods
        @Query("SELECT COUNT(b) FROM Booking b WHERE b.status = :status")
        Long countByStatus(@Param("status") BookingStatus status);
@@ -205,26 +240,6 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
        @Query("SELECT b FROM Booking b WHERE b.room = :room")
        List<Booking> findByRoom(@Param("room") Room room);
 
-       // New methods for improved reporting
-       @Query("SELECT o.name, COUNT(b), COUNT(CASE WHEN b.status = 'CANCELLED' THEN 1 END) " +
-                     "FROM Booking b JOIN b.room r JOIN r.organization o " +
-                     "GROUP BY o.name ORDER BY COUNT(b) DESC")
-       List<Object[]> findBookingStatsByOrganization();
-
-       @Query("SELECT r.name, o.name, COUNT(b), " +
-                     "COALESCE(SUM(EXTRACT(EPOCH FROM b.endTime) - EXTRACT(EPOCH FROM b.startTime)) / 3600.0, 0.0) " +
-                     "FROM Booking b JOIN b.room r JOIN r.organization o " +
-                     "WHERE b.status = 'COMPLETED' AND b.startTime IS NOT NULL AND b.endTime IS NOT NULL " +
-                     "GROUP BY r.name, o.name ORDER BY COUNT(b) DESC")
-       List<Object[]> findMostUsedRoomsWithDetails();
-
-       @Query("SELECT r.name, COUNT(b), " +
-                     "COALESCE(SUM(EXTRACT(EPOCH FROM b.endTime) - EXTRACT(EPOCH FROM b.startTime)) / 3600.0, 0.0) " +
-                     "FROM Booking b JOIN b.room r WHERE r.organization = :organization " +
-                     "AND b.status = 'COMPLETED' AND b.startTime IS NOT NULL AND b.endTime IS NOT NULL " +
-                     "GROUP BY r.name ORDER BY COUNT(b) DESC")
-       List<Object[]> findMostUsedRoomsByOrganization(@Param("organization") Organization organization);
-
        // Fetch all bookings for rooms owned by a given organization
        List<Booking> findByRoom_Organization(Organization organization);
 
@@ -253,8 +268,9 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
            @Param("purpose") String purpose
        );
        
-       // Check for recent duplicate attempts (within last 5 minutes)
-       @Query("SELECT b FROM Booking b WHERE b.user = :user AND b.room = :room AND b.createdAt > :recentTime AND b.isActive = true")
+       // Check for recent duplicate attempts (within last 5 minutes); cancelled and rejected requests do not count
+       @Query("SELECT b FROM Booking b WHERE b.user = :user AND b.room = :room AND b.createdAt > :recentTime AND b.isActive = true " +
+              "AND b.status IN ('PENDING', 'APPROVED')")
        List<Booking> findRecentDuplicateAttempts(
            @Param("user") User user,
            @Param("room") Room room,
@@ -0,0 +1,23 @@
+package Room.ConferenceRoomMgtsys.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import Room.ConferenceRoomMgtsys.model.BookingRequestKey;
+
+@Repository
+public interface BookingRequestKeyRepository extends JpaRepository<BookingRequestKey, UUID> {
+
+    Optional<BookingRequestKey> findByUserIdAndIdempotencyKey(UUID userId, String idempotencyKey);
+
+    @Modifying
+    @Query("DELETE FROM BookingRequestKey k WHERE k.createdAt < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
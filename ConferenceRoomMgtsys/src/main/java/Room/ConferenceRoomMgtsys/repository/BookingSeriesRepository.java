@@ -0,0 +1,12 @@
+package Room.ConferenceRoomMgtsys.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import Room.ConferenceRoomMgtsys.model.BookingSeries;
+
+@Repository
+public interface BookingSeriesRepository extends JpaRepository<BookingSeries, UUID> {
+}
@@ -0,0 +1,24 @@
+package Room.ConferenceRoomMgtsys.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import Room.ConferenceRoomMgtsys.repository.BookingRepository.BookingTransition;
+
+/**
+ * Set-based scheduler transitions, run as PostgreSQL {@code UPDATE ... RETURNING}
+ * statements. Callers must be transactional.
+ */
+public interface BookingTransitionRepository {
+
+    /**
+     * Marks every ended APPROVED booking COMPLETED and returns the completed rows.
+     */
+    List<BookingTransition> completeEndedBookings(LocalDateTime currentTime, LocalDateTime updatedAt);
+
+    /**
+     * Rejects every PENDING booking starting before the threshold and returns what
+     * the rejection notice needs.
+     */
+    List<BookingTransition> rejectPendingStartingBefore(LocalDateTime threshold, LocalDateTime updatedAt);
+}
@@ -0,0 +1,99 @@
+package Room.ConferenceRoomMgtsys.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import Room.ConferenceRoomMgtsys.repository.BookingRepository.BookingTransition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// Spring Data's @Modifying only returns update counts, so the RETURNING rows are read
+// through JDBC with the same flush-before / clear-after semantics around the statement
+class BookingTransitionRepositoryImpl implements BookingTransitionRepository {
+
+    private static final String COMPLETE_SQL = "UPDATE bookings SET status = 'COMPLETED', is_active = false, "
+            + "updated_at = ? WHERE status = 'APPROVED' AND end_time <= ? "
+            + "RETURNING id, room_id, start_time, end_time, NULL AS user_email, NULL AS room_name";
+
+    private static final String REJECT_SQL = "UPDATE bookings b SET status = 'REJECTED', updated_at = ? "
+            + "FROM users u, rooms r "
+            + "WHERE b.user_id = u.id AND b.room_id = r.id "
+            + "AND b.status = 'PENDING' AND b.start_time < ? "
+            + "RETURNING b.id, b.room_id, b.start_time, b.end_time, u.email AS user_email, r.name AS room_name";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    BookingTransitionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public List<BookingTransition> completeEndedBookings(LocalDateTime currentTime, LocalDateTime updatedAt) {
+        return transition(COMPLETE_SQL, updatedAt, currentTime);
+    }
+
+    @Override
+    @Transactional
+    public List<BookingTransition> rejectPendingStartingBefore(LocalDateTime threshold, LocalDateTime updatedAt) {
+        return transition(REJECT_SQL, updatedAt, threshold);
+    }
+
+    private List<BookingTransition> transition(String sql, LocalDateTime updatedAt, LocalDateTime bound) {
+        // Pending entity changes must reach the table first, and managed bookings go stale after it
+        entityManager.flush();
+        List<BookingTransition> rows = jdbcTemplate.query(sql, BookingTransitionRepositoryImpl::mapRow,
+                updatedAt, bound);
+        entityManager.clear();
+        return rows;
+    }
+
+    private static BookingTransition mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Row(rs.getObject("id", UUID.class), rs.getObject("room_id", UUID.class),
+                rs.getObject("start_time", LocalDateTime.class), rs.getObject("end_time", LocalDateTime.class),
+                rs.getString("user_email"), rs.getString("room_name"));
+    }
+
+    private record Row(UUID id, UUID roomId, LocalDateTime startTime, LocalDateTime endTime, String userEmail,
+            String roomName) implements BookingTransition {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public UUID getRoomId() {
+            return roomId;
+        }
+
+        @Override
+        public LocalDateTime getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public LocalDateTime getEndTime() {
+            return endTime;
+        }
+
+        @Override
+        public String getUserEmail() {
+            return userEmail;
+        }
+
+        @Override
+        public String getRoomName() {
+            return roomName;
+        }
+    }
+}
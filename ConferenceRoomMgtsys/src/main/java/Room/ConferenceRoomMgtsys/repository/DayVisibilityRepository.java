@@ -21,6 +21,10 @@ public interface DayVisibilityRepository extends JpaRepository<DayVisibility, ja
 
     @Query("SELECT dv FROM DayVisibility dv WHERE dv.room.organization = :org AND dv.date = :date AND dv.visible = true")
     List<DayVisibility> findVisibleByOrganizationAndDate(@Param("org") Organization org, @Param("date") LocalDate date);
+
+    @Query("SELECT dv.room.id FROM DayVisibility dv WHERE dv.room.organization.id = :orgId AND dv.date = :date AND dv.visible = true")
+    List<java.util.UUID> findVisibleRoomIdsByOrganizationIdAndDate(@Param("orgId") java.util.UUID orgId,
+            @Param("date") LocalDate date);
 }
 
 
@@ -0,0 +1,53 @@
+package Room.ConferenceRoomMgtsys.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import Room.ConferenceRoomMgtsys.enums.EmailOutboxStatus;
+import Room.ConferenceRoomMgtsys.model.EmailOutbox;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    // Lock a batch of due messages; SKIP LOCKED lets several instances drain concurrently
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at ASC LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutbox> lockDueMessages(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Return messages stuck in SENDING (e.g. after a crash mid-send) to the queue
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = 'PENDING', e.claimedAt = null " +
+            "WHERE e.status = 'SENDING' AND e.claimedAt < :claimedBefore")
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+    // A worker takes over its chunk only if the rows still carry the claim it was queued with
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.claimedAt = :startedAt " +
+            "WHERE e.id IN :ids AND e.status = 'SENDING' AND e.claimedAt = :claimedAt")
+    int restampClaims(@Param("ids") Collection<UUID> ids, @Param("claimedAt") LocalDateTime claimedAt,
+            @Param("startedAt") LocalDateTime startedAt);
+
+    @Query("SELECT e FROM EmailOutbox e WHERE e.id IN :ids AND e.status = 'SENDING' AND e.claimedAt = :claimedAt")
+    List<EmailOutbox> findClaimed(@Param("ids") Collection<UUID> ids, @Param("claimedAt") LocalDateTime claimedAt);
+
+    // Hand back claimed messages the worker pool could not accept
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = 'PENDING', e.claimedAt = null " +
+            "WHERE e.id IN :ids AND e.status = 'SENDING'")
+    int releaseClaims(@Param("ids") Collection<UUID> ids);
+
+    long countByStatus(EmailOutboxStatus status);
+
+    // Housekeeping for delivered messages
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status = 'SENT' AND e.sentAt < :sentBefore")
+    int deleteSentBefore(@Param("sentBefore") LocalDateTime sentBefore);
+}
@@ -6,10 +6,12 @@ import Room.ConferenceRoomMgtsys.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -78,6 +80,9 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.user = :user AND n.isRead = false")
     Long countUnreadNotificationsByUser(@Param("user") User user);
     
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    Long countUnreadNotificationsByUserId(@Param("userId") UUID userId);
+    
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.user = :user AND n.type = :type AND n.isRead = false")
     Long countUnreadNotificationsByUserAndType(@Param("user") User user, @Param("type") NotificationType type);
     
@@ -101,11 +106,60 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     @Query("SELECT n FROM Notification n WHERE n.user = :user AND n.type = :type AND n.isRead = false")
     List<Notification> findUnreadNotificationsByTypeForMarkingAsRead(@Param("user") User user, @Param("type") NotificationType type);
     
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt, n.updatedAt = :readAt " +
+           "WHERE n.user = :user AND n.isRead = false")
+    int markAllAsReadByUser(@Param("user") User user, @Param("readAt") LocalDateTime readAt);
+
+    // 0 when the notification was already read, so concurrent calls adjust the unread count once
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt, n.updatedAt = :readAt " +
+           "WHERE n.id = :id AND n.isRead = false")
+    int markAsReadIfUnread(@Param("id") UUID id, @Param("readAt") LocalDateTime readAt);
+    
+    // Retention: oldest expired read row (for lag) and a bounded chunk delete
+    @Query("SELECT MIN(n.readAt) FROM Notification n WHERE n.isRead = true AND n.readAt < :cutoffDate")
+    LocalDateTime findOldestReadBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+    
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications " +
+           "WHERE is_read = true AND read_at < :cutoffDate LIMIT :limit)", nativeQuery = true)
+    int deleteReadBefore(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("limit") int limit);
+    
     // Latest notification per type for user
     @Query("SELECT n FROM Notification n WHERE n.user = :user AND n.type = :type AND n.createdAt = " +
            "(SELECT MAX(n2.createdAt) FROM Notification n2 WHERE n2.user = :user AND n2.type = :type)")
     Optional<Notification> findLatestNotificationByUserAndType(@Param("user") User user, @Param("type") NotificationType type);
     
+    // Fan-out: one notification row for every active user except the actor, in a single statement;
+    // returns the recipients
+    @Query(value = "INSERT INTO notifications (id, created_at, updated_at, is_deleted, user_id, type, title, message, " +
+           "is_read, booking_id, room_id, action_url, actor_id, actor_name, actor_role, organization_id, " +
+           "organization_name, visible_date) " +
+           "SELECT gen_random_uuid(), :now, :now, false, u.id, :type, :title, :message, false, NULL, :roomId, :actionUrl, " +
+           ":excludeUserId, :actorName, :actorRole, :organizationId, :organizationName, :visibleDate " +
+           "FROM users u WHERE u.is_active = true AND u.id <> :excludeUserId RETURNING user_id", nativeQuery = true)
+    List<UUID> insertForAllActiveUsersExcept(@Param("excludeUserId") UUID excludeUserId,
+                                      @Param("type") String type,
+                                      @Param("title") String title,
+                                      @Param("message") String message,
+                                      @Param("roomId") String roomId,
+                                      @Param("actionUrl") String actionUrl,
+                                      @Param("actorName") String actorName,
+                                      @Param("actorRole") String actorRole,
+                                      @Param("organizationId") UUID organizationId,
+                                      @Param("organizationName") String organizationName,
+                                      @Param("visibleDate") LocalDate visibleDate,
+                                      @Param("now") LocalDateTime now);
+    
+    // Notification bell: unread rows of a type plus rows read since the cutoff, newest first
+    @Query("SELECT n FROM Notification n WHERE n.user = :user AND n.type = :type " +
+           "AND (n.isRead = false OR n.readAt >= :readSince) ORDER BY n.createdAt DESC")
+    List<Notification> findBellNotifications(@Param("user") User user,
+                                             @Param("type") NotificationType type,
+                                             @Param("readSince") LocalDateTime readSince,
+                                             Pageable pageable);
+    
     // Projections for performance
     interface NotificationSummary {
         UUID getId();
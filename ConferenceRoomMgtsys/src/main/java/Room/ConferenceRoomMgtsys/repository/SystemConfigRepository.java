@@ -6,4 +6,4 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SystemConfigRepository extends JpaRepository<SystemConfig, Long> {
-}
\ No newline at end of file
+}
@@ -0,0 +1,208 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Room.ConferenceRoomMgtsys.repository.AuditLogRepository;
+
+/**
+ * Keeps {@code audit_logs} range-partitioned by month on {@code timestamp}, so
+ * time-bounded queries only touch the partitions they need and old history is
+ * removed by dropping whole partitions instead of deleting rows.
+ *
+ * Hibernate creates {@code audit_logs} as a plain table; on startup it is
+ * converted once into a partitioned table with the same columns. A daily job
+ * then creates partitions ahead of time, detaches partitions past the
+ * retention window and drops detached partitions once their grace period ends.
+ * Rows outside every monthly range (clock skew, back-dated imports) land in a
+ * default partition instead of failing the insert, and are moved into their
+ * own monthly partition by the next maintenance run.
+ */
+@Service
+public class AuditLogPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogPartitionService.class);
+
+    private static final String PARTITION_PREFIX = "audit_logs_p";
+    // Deliberately outside PARTITION_PREFIX so retention never detaches or drops it
+    private static final String DEFAULT_PARTITION = "audit_logs_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    // Serialises conversion and maintenance across instances
+    private static final long ADVISORY_LOCK_KEY = 0x6175646974L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerRunMetrics schedulerRunMetrics;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final int detachedRetentionMonths;
+
+    public AuditLogPartitionService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            SchedulerRunMetrics schedulerRunMetrics,
+            @Value("${app.audit.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${app.audit.partitions.retention-months:24}") int retentionMonths,
+            @Value("${app.audit.partitions.detached-retention-months:3}") int detachedRetentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schedulerRunMetrics = schedulerRunMetrics;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.detachedRetentionMonths = detachedRetentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + ADVISORY_LOCK_KEY + ")");
+            String kind = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE((SELECT relkind::text FROM pg_class WHERE oid = to_regclass('audit_logs')), '')",
+                    String.class);
+            if ("r".equals(kind)) {
+                convertToPartitioned();
+            }
+        });
+        maintainPartitions();
+    }
+
+    /**
+     * Create upcoming partitions, detach expired ones and drop detached ones
+     * past their grace period.
+     */
+    @Scheduled(cron = "${app.audit.partitions.cron:0 5 0 * * *}")
+    public void maintainPartitions() {
+        long started = System.nanoTime();
+        YearMonth current = YearMonth.now();
+        Integer changed = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + ADVISORY_LOCK_KEY + ")");
+            createDefaultPartition();
+            int count = 0;
+            // Give rows that fell through to the default partition a monthly partition of their own
+            List<LocalDate> spilled = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT CAST(date_trunc('month', \"timestamp\") AS date) FROM " + DEFAULT_PARTITION,
+                    LocalDate.class);
+            for (LocalDate month : spilled) {
+                count += createPartition(YearMonth.from(month)) ? 1 : 0;
+            }
+            for (int i = 0; i <= monthsAhead; i++) {
+                count += createPartition(current.plusMonths(i)) ? 1 : 0;
+            }
+
+            String oldestKept = partitionName(current.minusMonths(retentionMonths));
+            List<String> expired = jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i "
+                    + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'audit_logs'::regclass "
+                    + "AND c.relname LIKE '" + PARTITION_PREFIX + "%' AND c.relname < ? ORDER BY c.relname",
+                    String.class, oldestKept);
+            for (String partition : expired) {
+                jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + partition);
+                logger.info("Detached audit partition {}", partition);
+                count++;
+            }
+
+            String oldestDetached = partitionName(current.minusMonths(retentionMonths + detachedRetentionMonths));
+            List<String> droppable = jdbcTemplate.queryForList("SELECT c.relname FROM pg_class c "
+                    + "WHERE c.relkind = 'r' AND c.relname LIKE '" + PARTITION_PREFIX + "%' AND c.relname < ? "
+                    + "AND NOT c.relispartition ORDER BY c.relname", String.class, oldestDetached);
+            for (String partition : droppable) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                logger.info("Dropped detached audit partition {}", partition);
+                count++;
+            }
+            return count;
+        });
+        schedulerRunMetrics.record("audit-partitions", started, changed != null ? changed : 0, Duration.ZERO);
+    }
+
+    // One-off: move the Hibernate-created table aside, recreate it partitioned and copy the rows across
+    private void convertToPartitioned() {
+        jdbcTemplate.execute("ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned");
+        // Free the primary key's index name for the new table
+        String primaryKey = jdbcTemplate.queryForObject("SELECT conname FROM pg_constraint "
+                + "WHERE conrelid = 'audit_logs_unpartitioned'::regclass AND contype = 'p'", String.class);
+        jdbcTemplate.execute("ALTER TABLE audit_logs_unpartitioned RENAME CONSTRAINT " + primaryKey
+                + " TO audit_logs_unpartitioned_pkey");
+        List<String> foreignKeys = jdbcTemplate.queryForList("SELECT 'CONSTRAINT ' || quote_ident(conname) || ' ' "
+                + "|| pg_get_constraintdef(oid) FROM pg_constraint "
+                + "WHERE conrelid = 'audit_logs_unpartitioned'::regclass AND contype = 'f'", String.class);
+
+        jdbcTemplate.execute("CREATE TABLE audit_logs (LIKE audit_logs_unpartitioned INCLUDING DEFAULTS) "
+                + "PARTITION BY RANGE (\"timestamp\")");
+        jdbcTemplate.execute("ALTER TABLE audit_logs ALTER COLUMN \"timestamp\" SET NOT NULL");
+        // The partition key has to be part of the primary key
+        jdbcTemplate.execute("ALTER TABLE audit_logs ADD PRIMARY KEY (id, \"timestamp\")");
+        jdbcTemplate.execute("CREATE INDEX idx_audit_logs_timestamp ON audit_logs (\"timestamp\")");
+        jdbcTemplate.execute("CREATE INDEX idx_audit_logs_user_timestamp ON audit_logs (user_id, \"timestamp\")");
+        jdbcTemplate.execute("CREATE INDEX idx_audit_logs_entity ON audit_logs (entity_type, entity_id, \"timestamp\")");
+        jdbcTemplate.execute("CREATE INDEX idx_audit_logs_details_fts ON audit_logs USING GIN ("
+                + AuditLogRepository.DETAILS_DOCUMENT + ")");
+        createDefaultPartition();
+
+        jdbcTemplate.execute("UPDATE audit_logs_unpartitioned SET \"timestamp\" = COALESCE(created_at, now()) "
+                + "WHERE \"timestamp\" IS NULL");
+        LocalDate oldest = jdbcTemplate.queryForObject(
+                "SELECT CAST(MIN(\"timestamp\") AS date) FROM audit_logs_unpartitioned", LocalDate.class);
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        for (YearMonth month = oldest != null ? YearMonth.from(oldest) : last; !month.isAfter(last); month = month
+                .plusMonths(1)) {
+            createPartition(month);
+        }
+        int copied = jdbcTemplate.update("INSERT INTO audit_logs SELECT * FROM audit_logs_unpartitioned");
+        jdbcTemplate.execute("DROP TABLE audit_logs_unpartitioned");
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE audit_logs ADD " + foreignKey);
+        }
+        logger.info("Converted audit_logs to monthly partitions ({} rows copied)", copied);
+    }
+
+    private boolean createPartition(YearMonth month) {
+        String name = partitionName(month);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name);
+        if (Boolean.TRUE.equals(exists)) {
+            return false;
+        }
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        String range = "\"timestamp\" >= '" + from + "' AND \"timestamp\" < '" + to + "'";
+        Boolean spilled = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE " + range + ")", Boolean.class);
+        if (!Boolean.TRUE.equals(spilled)) {
+            jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF audit_logs FOR VALUES FROM ('" + from
+                    + "') TO ('" + to + "')");
+            logger.info("Created audit partition {}", name);
+            return true;
+        }
+        // Postgres refuses a partition whose range the default partition holds rows for: take the
+        // default out, create the partition, route its rows across and put the default back
+        jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + DEFAULT_PARTITION);
+        jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF audit_logs FOR VALUES FROM ('" + from
+                + "') TO ('" + to + "')");
+        int moved = jdbcTemplate.update(
+                "INSERT INTO audit_logs SELECT * FROM " + DEFAULT_PARTITION + " WHERE " + range);
+        jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE " + range);
+        jdbcTemplate.execute("ALTER TABLE audit_logs ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+        logger.info("Created audit partition {} and moved {} rows out of {}", name, moved, DEFAULT_PARTITION);
+        return true;
+    }
+
+    private void createDefaultPartition() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION + " PARTITION OF audit_logs DEFAULT");
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+}
@@ -1,5 +1,7 @@
 package Room.ConferenceRoomMgtsys.service;
 
+import static Room.ConferenceRoomMgtsys.service.TransactionHooks.afterCommit;
+
 import Room.ConferenceRoomMgtsys.dto.AuditLogResponseDto;
 import Room.ConferenceRoomMgtsys.model.AuditLog;
 import Room.ConferenceRoomMgtsys.model.User;
@@ -15,37 +17,34 @@ import java.time.LocalDateTime;
 @Service
 public class AuditLogService {
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
 
-    public AuditLogService(AuditLogRepository auditLogRepository) {
+    public AuditLogService(AuditLogRepository auditLogRepository, AuditLogWriter auditLogWriter) {
         this.auditLogRepository = auditLogRepository;
+        this.auditLogWriter = auditLogWriter;
     }
 
-    @Transactional
-    public AuditLog logAction(User user, AuditAction action, String entityType, String entityId, String details) {
-        AuditLog auditLog = new AuditLog();
-        auditLog.setUser(user);
-        auditLog.setAction(action.name());
-        auditLog.setEntityType(entityType);
-        auditLog.setEntityId(entityId);
-        auditLog.setTimestamp(LocalDateTime.now());
-        auditLog.setDetails(details);
-        
-        return auditLogRepository.save(auditLog);
+    /**
+     * Record an action once the current transaction commits (immediately when
+     * there is none). The row is written asynchronously by {@link AuditLogWriter},
+     * so this adds no database round trip to the caller.
+     */
+    public void logAction(User user, AuditAction action, String entityType, String entityId, String details) {
+        logAction(user, action, entityType, entityId, details, null, null);
     }
 
-    @Transactional
-    public AuditLog logAction(User user, AuditAction action, String entityType, String entityId, String details, String oldValues, String newValues) {
-        AuditLog auditLog = new AuditLog();
-        auditLog.setUser(user);
-        auditLog.setAction(action.name());
-        auditLog.setEntityType(entityType);
-        auditLog.setEntityId(entityId);
-        auditLog.setTimestamp(LocalDateTime.now());
-        auditLog.setDetails(details);
-        auditLog.setOldValues(oldValues);
-        auditLog.setNewValues(newValues);
-        
-        return auditLogRepository.save(auditLog);
+    public void logAction(User user, AuditAction action, String entityType, String entityId, String details, String oldValues, String newValues) {
+        AuditLogWriter.AuditEvent event = new AuditLogWriter.AuditEvent(
+                user != null ? user.getId() : null,
+                action.name(),
+                entityType,
+                entityId,
+                LocalDateTime.now(),
+                null,
+                details,
+                oldValues,
+                newValues);
+        afterCommit(() -> auditLogWriter.append(event));
     }
 
     @Transactional(readOnly = true)
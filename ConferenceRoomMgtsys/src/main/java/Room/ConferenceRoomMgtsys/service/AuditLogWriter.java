@@ -0,0 +1,294 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Append-only writer for {@code audit_logs}. Callers hand events to a bounded
+ * in-memory queue and return immediately; a single writer thread inserts them
+ * in JDBC batches once a batch is full or the flush interval has passed.
+ *
+ * A full queue blocks the caller for a short while and then writes the event
+ * inline rather than dropping it; inline writes are tried once, so a failing
+ * database never holds a request thread in retries. Only transient database
+ * errors are retried by the writer thread; a batch rejected for its content is
+ * split until the offending events are isolated, and those are logged as dead
+ * letters so the rest still land.
+ * Stopping the application drains whatever is still queued before the
+ * datasource is closed.
+ */
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_SQL = "INSERT INTO audit_logs (id, user_id, action, entity_type, entity_id, "
+            + "timestamp, user_agent, details, old_values, new_values, created_at, updated_at, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+    private static final long MAX_RETRY_BACKOFF_MS = 5000;
+    // Attempts per batch once stopping; after that the events only reach the application log
+    private static final int SHUTDOWN_ATTEMPTS = 3;
+    // Inline writes run on the caller's thread, which must not sleep through backoffs
+    private static final int INLINE_ATTEMPTS = 1;
+    // How long stop() waits for an interrupted worker before draining the queue itself
+    private static final long INTERRUPTED_JOIN_MS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<AuditEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long shutdownTimeoutMs;
+    private final long enqueueTimeoutMs;
+    private final int maxAttempts;
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter backpressureCounter;
+    private final Counter failureCounter;
+    private final Counter deadLetterCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+            @Value("${app.audit.writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.audit.writer.batch-size:500}") int batchSize,
+            @Value("${app.audit.writer.flush-interval-ms:500}") long flushIntervalMs,
+            @Value("${app.audit.writer.shutdown-timeout-ms:10000}") long shutdownTimeoutMs,
+            @Value("${app.audit.writer.enqueue-timeout-ms:2000}") long enqueueTimeoutMs,
+            @Value("${app.audit.writer.max-attempts:8}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.enqueueTimeoutMs = enqueueTimeoutMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+
+        meterRegistry.gauge("audit.writer.queue.depth", queue, BlockingQueue::size);
+        this.flushTimer = meterRegistry.timer("audit.writer.flush");
+        this.writtenCounter = meterRegistry.counter("audit.writer.events.written");
+        this.backpressureCounter = meterRegistry.counter("audit.writer.backpressure");
+        this.failureCounter = meterRegistry.counter("audit.writer.flush.failures");
+        this.deadLetterCounter = meterRegistry.counter("audit.writer.events.dead-lettered");
+    }
+
+    /**
+     * Queue an event for writing. Returns at once unless the queue is full, in
+     * which case the caller waits up to the enqueue timeout for room and then
+     * writes the event inline. Outside the writer's lifecycle (startup,
+     * shutdown) the event is written inline. An inline write that fails is
+     * dead-lettered without retrying.
+     */
+    public void append(AuditEvent event) {
+        if (!running) {
+            write(List.of(event), true);
+            return;
+        }
+        if (queue.offer(event)) {
+            return;
+        }
+        backpressureCounter.increment();
+        try {
+            if (queue.offer(event, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        write(List.of(event), true);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::runWriter, "audit-writer");
+        worker.start();
+        logger.info("Audit log writer started (batch {}, flush every {} ms)", batchSize, flushIntervalMs);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        boolean interrupted = false;
+        try {
+            worker.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+        if (worker.isAlive()) {
+            worker.interrupt();
+            try {
+                worker.join(INTERRUPTED_JOIN_MS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        // Anything the worker did not get to; the interrupt is restored once it is written
+        List<AuditEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining, false);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Audit log writer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stop after the web server so in-flight requests still get their events queued
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runWriter() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while ((running || !queue.isEmpty()) && !Thread.currentThread().isInterrupted()) {
+            try {
+                AuditEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // Fill the batch until it is full or the first event has waited a flush interval
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize && running) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    AuditEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                write(batch, false);
+            } catch (InterruptedException e) {
+                // Interrupted by stop(), which drains the queue itself
+                Thread.currentThread().interrupt();
+                write(batch, false);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes a batch, retrying transient database errors with backoff. A batch
+     * rejected for any other reason is split in halves so one bad event cannot
+     * hold back the rest; a single event that still fails is dead-lettered.
+     * Inline writes get a single attempt.
+     */
+    private void write(List<AuditEvent> batch, boolean inline) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long backoffMs = 200;
+        for (int attempt = 1;; attempt++) {
+            try {
+                flushTimer.record(() -> insert(batch));
+                writtenCounter.increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                failureCounter.increment();
+                if (!isTransient(e)) {
+                    if (batch.size() > 1) {
+                        int half = batch.size() / 2;
+                        write(new ArrayList<>(batch.subList(0, half)), inline);
+                        write(new ArrayList<>(batch.subList(half, batch.size())), inline);
+                    } else {
+                        deadLetter(batch, e);
+                    }
+                    return;
+                }
+                int limit = inline ? INLINE_ATTEMPTS : running ? maxAttempts : SHUTDOWN_ATTEMPTS;
+                if (attempt >= limit || Thread.currentThread().isInterrupted()) {
+                    deadLetter(batch, e);
+                    return;
+                }
+                logger.warn("Failed to write {} audit events (attempt {}), retrying in {} ms: {}", batch.size(),
+                        attempt, backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+            }
+        }
+    }
+
+    // Connection loss, lock timeouts and serialization failures can succeed on a later attempt
+    private boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void deadLetter(List<AuditEvent> batch, RuntimeException e) {
+        deadLetterCounter.increment(batch.size());
+        logger.error("Giving up on {} audit events: {}", batch.size(), e.getMessage());
+        batch.forEach(event -> logger.error("Unwritten audit event: {}", event));
+    }
+
+    private void insert(List<AuditEvent> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, event.userId());
+            ps.setString(3, event.action());
+            ps.setString(4, event.entityType());
+            ps.setString(5, event.entityId());
+            ps.setTimestamp(6, Timestamp.valueOf(event.timestamp()));
+            ps.setString(7, event.userAgent());
+            ps.setString(8, event.details());
+            ps.setString(9, event.oldValues());
+            ps.setString(10, event.newValues());
+            ps.setTimestamp(11, now);
+            ps.setTimestamp(12, now);
+        });
+    }
+
+    /**
+     * One audit row as queued for writing.
+     */
+    public record AuditEvent(UUID userId, String action, String entityType, String entityId,
+            LocalDateTime timestamp, String userAgent, String details, String oldValues, String newValues) {
+    }
+}
@@ -30,6 +30,7 @@ import Room.ConferenceRoomMgtsys.dto.auth.OAuthOrganizationSelectionDto;
 import Room.ConferenceRoomMgtsys.dto.auth.TwoFactorSetupResponseDto;
 import Room.ConferenceRoomMgtsys.dto.auth.UserProfileDto;
 import Room.ConferenceRoomMgtsys.enums.ApprovalStatus;
+import Room.ConferenceRoomMgtsys.enums.AuditAction;
 import Room.ConferenceRoomMgtsys.enums.AuthProvider;
 import Room.ConferenceRoomMgtsys.enums.UserRole;
 import Room.ConferenceRoomMgtsys.jwt.JwtUtil;
@@ -57,6 +58,9 @@ public class AuthService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private AuditLogService auditLogService;
+
     @Value("${app.oauth.google.client-id:}")
     private String googleClientId;
 
@@ -161,6 +165,8 @@ public class AuthService {
             user.setLastLoginAt(LocalDateTime.now());
             user.setFailedLoginAttempts(0); // Reset failed attempts on successful login
             userRepository.save(user);
+            auditLogService.logAction(user, AuditAction.LOGIN, "User", user.getId().toString(),
+                    "OAuth login via " + request.getProvider());
 
             // Create response
             OAuthLoginResponseDto response = new OAuthLoginResponseDto();
@@ -0,0 +1,319 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import static Room.ConferenceRoomMgtsys.service.TransactionHooks.afterCommit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import Room.ConferenceRoomMgtsys.enums.BookingStatus;
+import Room.ConferenceRoomMgtsys.model.Booking;
+import Room.ConferenceRoomMgtsys.repository.BookingRepository;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory per-room index of active PENDING/APPROVED bookings that have not
+ * ended yet. Each room keeps its bookings in a TreeMap keyed by start time, so
+ * an overlap lookup is a bounded range scan instead of a SQL round-trip.
+ *
+ * The index is rebuilt from the database on startup and kept current through
+ * {@link #sync(Booking)}, which applies changes only once the surrounding
+ * transaction has committed. Booking creation trusts it for conflict and
+ * duplicate checks; it only sees this instance's writes, so identical requests
+ * racing on different instances are left to the partial unique index on
+ * pending bookings.
+ */
+@Component
+public class BookingIntervalIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingIntervalIndex.class);
+    private static final ZoneId ZONE = ZoneId.of("Africa/Kigali");
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<UUID, RoomIntervals> rooms = new ConcurrentHashMap<>();
+    private final Map<UUID, IndexedBooking> byBookingId = new ConcurrentHashMap<>();
+
+    public BookingIntervalIndex(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        rooms.clear();
+        byBookingId.clear();
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        List<Object[]> rows = bookingRepository.findIndexableBookings(
+                List.of(BookingStatus.PENDING, BookingStatus.APPROVED), now);
+        for (Object[] row : rows) {
+            put(new IndexedBooking((UUID) row[0], (UUID) row[1], (UUID) row[2],
+                    (LocalDateTime) row[3], (LocalDateTime) row[4], (BookingStatus) row[5],
+                    (String) row[6], (LocalDateTime) row[7]));
+        }
+        logger.info("Booking interval index rebuilt with {} bookings across {} rooms", byBookingId.size(),
+                rooms.size());
+    }
+
+    /**
+     * Bring the index in line with the given booking's current state. Inside a
+     * transaction the change is deferred until commit so rolled-back writes never
+     * leak into the index.
+     */
+    public void sync(Booking booking) {
+        IndexedBooking entry = IndexedBooking.of(booking);
+        afterCommit(() -> {
+            if (isIndexable(entry)) {
+                put(entry);
+            } else {
+                remove(entry.getBookingId());
+            }
+        });
+    }
+
+    /**
+     * Drop the given bookings after a set-based status change (e.g. completed or
+     * rejected by a scheduled job).
+     */
+    public void removeAll(Collection<UUID> bookingIds) {
+        if (bookingIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> bookingIds.forEach(this::remove));
+    }
+
+    /**
+     * Drop every indexed booking of a room, e.g. when the room is deleted.
+     */
+    public void removeRoom(UUID roomId) {
+        afterCommit(() -> {
+            RoomIntervals intervals = rooms.remove(roomId);
+            if (intervals != null) {
+                synchronized (intervals) {
+                    intervals.byStart.values().forEach(list -> list.forEach(b -> byBookingId.remove(b.getBookingId())));
+                }
+            }
+        });
+    }
+
+    /**
+     * Indexed bookings of a room overlapping [startTime, endTime), in start-time
+     * order.
+     */
+    public List<IndexedBooking> findOverlapping(UUID roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        List<IndexedBooking> result = new ArrayList<>();
+        RoomIntervals intervals = rooms.get(roomId);
+        if (intervals == null) {
+            return result;
+        }
+        synchronized (intervals) {
+            // Nothing longer than the longest indexed booking can reach into the range
+            LocalDateTime from = startTime.minus(intervals.longest);
+            for (List<IndexedBooking> bucket : intervals.byStart.subMap(from, false, endTime, false).values()) {
+                for (IndexedBooking b : bucket) {
+                    if (b.getEndTime().isAfter(startTime)) {
+                        result.add(b);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether the user created a booking for the room after the given instant
+     * that is still indexed, i.e. not cancelled, rejected or ended.
+     */
+    public boolean hasBookingCreatedSince(UUID userId, UUID roomId, LocalDateTime since) {
+        RoomIntervals intervals = rooms.get(roomId);
+        if (intervals == null) {
+            return false;
+        }
+        synchronized (intervals) {
+            List<IndexedBooking> owned = intervals.byUser.get(userId);
+            return owned != null && owned.stream()
+                    .anyMatch(b -> b.getCreatedAt() != null && b.getCreatedAt().isAfter(since));
+        }
+    }
+
+    /**
+     * Evict bookings that have already ended. Runs hourly; entries that end
+     * between runs are simply never matched by future-dated lookups.
+     */
+    @Scheduled(fixedRate = 3600000)
+    public void pruneEnded() {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        int evicted = 0;
+        for (Iterator<IndexedBooking> it = byBookingId.values().iterator(); it.hasNext();) {
+            IndexedBooking b = it.next();
+            if (!b.getEndTime().isAfter(now)) {
+                it.remove();
+                detach(b);
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            logger.info("Evicted {} ended bookings from interval index", evicted);
+        }
+    }
+
+    public int size() {
+        return byBookingId.size();
+    }
+
+    private void put(IndexedBooking entry) {
+        IndexedBooking previous = byBookingId.put(entry.getBookingId(), entry);
+        if (previous != null) {
+            detach(previous);
+        }
+        RoomIntervals intervals = rooms.computeIfAbsent(entry.getRoomId(), k -> new RoomIntervals());
+        synchronized (intervals) {
+            intervals.byStart.computeIfAbsent(entry.getStartTime(), k -> new ArrayList<>(1)).add(entry);
+            Duration length = Duration.between(entry.getStartTime(), entry.getEndTime());
+            if (length.compareTo(intervals.longest) > 0) {
+                intervals.longest = length;
+            }
+            if (entry.getUserId() != null) {
+                intervals.byUser.computeIfAbsent(entry.getUserId(), k -> new ArrayList<>(1)).add(entry);
+            }
+        }
+    }
+
+    private void remove(UUID bookingId) {
+        IndexedBooking previous = byBookingId.remove(bookingId);
+        if (previous != null) {
+            detach(previous);
+        }
+    }
+
+    private void detach(IndexedBooking entry) {
+        RoomIntervals intervals = rooms.get(entry.getRoomId());
+        if (intervals == null) {
+            return;
+        }
+        synchronized (intervals) {
+            List<IndexedBooking> bucket = intervals.byStart.get(entry.getStartTime());
+            if (bucket != null) {
+                bucket.removeIf(b -> b.getBookingId().equals(entry.getBookingId()));
+                if (bucket.isEmpty()) {
+                    intervals.byStart.remove(entry.getStartTime());
+                }
+            }
+            List<IndexedBooking> owned = entry.getUserId() != null ? intervals.byUser.get(entry.getUserId()) : null;
+            if (owned != null) {
+                owned.removeIf(b -> b.getBookingId().equals(entry.getBookingId()));
+                if (owned.isEmpty()) {
+                    intervals.byUser.remove(entry.getUserId());
+                }
+            }
+        }
+    }
+
+    private boolean isIndexable(IndexedBooking entry) {
+        return entry.isActive()
+                && (entry.getStatus() == BookingStatus.PENDING || entry.getStatus() == BookingStatus.APPROVED)
+                && entry.getEndTime().isAfter(LocalDateTime.now(ZONE));
+    }
+
+    private static final class RoomIntervals {
+        private final NavigableMap<LocalDateTime, List<IndexedBooking>> byStart = new TreeMap<>();
+        private final Map<UUID, List<IndexedBooking>> byUser = new HashMap<>();
+        private Duration longest = Duration.ZERO;
+    }
+
+    /**
+     * Immutable snapshot of the booking fields needed for conflict checks.
+     */
+    public static final class IndexedBooking {
+        private final UUID bookingId;
+        private final UUID roomId;
+        private final UUID userId;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final BookingStatus status;
+        private final String purpose;
+        private final LocalDateTime createdAt;
+        private final boolean active;
+
+        IndexedBooking(UUID bookingId, UUID roomId, UUID userId, LocalDateTime startTime, LocalDateTime endTime,
+                BookingStatus status, String purpose, LocalDateTime createdAt) {
+            this(bookingId, roomId, userId, startTime, endTime, status, purpose, createdAt, true);
+        }
+
+        private IndexedBooking(UUID bookingId, UUID roomId, UUID userId, LocalDateTime startTime,
+                LocalDateTime endTime, BookingStatus status, String purpose, LocalDateTime createdAt,
+                boolean active) {
+            this.bookingId = bookingId;
+            this.roomId = roomId;
+            this.userId = userId;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.status = status;
+            this.purpose = purpose;
+            this.createdAt = createdAt;
+            this.active = active;
+        }
+
+        static IndexedBooking of(Booking booking) {
+            return new IndexedBooking(booking.getId(), booking.getRoom().getId(),
+                    booking.getUser() != null ? booking.getUser().getId() : null,
+                    booking.getStartTime(), booking.getEndTime(), booking.getStatus(), booking.getPurpose(),
+                    booking.getCreatedAt(), Boolean.TRUE.equals(booking.getIsActive()));
+        }
+
+        public UUID getBookingId() {
+            return bookingId;
+        }
+
+        public UUID getRoomId() {
+            return roomId;
+        }
+
+        public UUID getUserId() {
+            return userId;
+        }
+
+        public LocalDateTime getStartTime() {
+            return startTime;
+        }
+
+        public LocalDateTime getEndTime() {
+            return endTime;
+        }
+
+        public BookingStatus getStatus() {
+            return status;
+        }
+
+        public String getPurpose() {
+            return purpose;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public boolean isOwnedBy(UUID otherUserId) {
+            return Objects.equals(userId, otherUserId);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import Room.ConferenceRoomMgtsys.dto.report.OrganizationBookingDto;
+import Room.ConferenceRoomMgtsys.dto.report.RoomUsageDto;
+import Room.ConferenceRoomMgtsys.repository.BookingRepository.BookingTransition;
+
+/**
+ * Maintains {@code booking_daily_rollups}: per-day, per-room booking counts by
+ * status plus booked minutes and attendee totals, so period reports aggregate a
+ * few hundred rollup rows instead of scanning the booking history.
+ *
+ * Booking writes mark their (room, day) key dirty after commit; dirty keys are
+ * recomputed from {@code bookings} in small batches. A nightly rebuild
+ * recomputes everything and repairs anything a crash may have left behind.
+ */
+@Service
+public class BookingRollupService {
+
+    // Business hours behind the utilization percentage (matches the availability grid)
+    private static final int BUSINESS_HOURS_PER_DAY = SlotAvailabilityEngine.LAST_SLOT_HOUR
+            - SlotAvailabilityEngine.FIRST_SLOT_HOUR;
+
+    private static final String AGGREGATE_COLUMNS = "CAST(b.start_time AS DATE), b.room_id, r.organization_id, "
+            + "COUNT(*), "
+            + "COUNT(*) FILTER (WHERE b.status = 'PENDING'), "
+            + "COUNT(*) FILTER (WHERE b.status = 'APPROVED'), "
+            + "COUNT(*) FILTER (WHERE b.status = 'REJECTED'), "
+            + "COUNT(*) FILTER (WHERE b.status = 'CANCELLED'), "
+            + "COUNT(*) FILTER (WHERE b.status = 'COMPLETED'), "
+            + "COALESCE(SUM(EXTRACT(EPOCH FROM (b.end_time - b.start_time)) / 60) "
+            + "FILTER (WHERE b.status IN ('APPROVED', 'COMPLETED')), 0), "
+            + "COALESCE(SUM(EXTRACT(EPOCH FROM (b.end_time - b.start_time)) / 60) "
+            + "FILTER (WHERE b.status = 'COMPLETED'), 0), "
+            + "COALESCE(SUM(b.attendee_count), 0), now() ";
+
+    private static final String INSERT_ROLLUP = "INSERT INTO booking_daily_rollups (day, room_id, organization_id, "
+            + "total_count, pending_count, approved_count, rejected_count, cancelled_count, completed_count, "
+            + "booked_minutes, completed_minutes, attendee_total, refreshed_at) ";
+
+    private static final String REFRESH_KEY_SQL = INSERT_ROLLUP
+            + "SELECT " + AGGREGATE_COLUMNS
+            + "FROM bookings b JOIN rooms r ON r.id = b.room_id "
+            + "WHERE b.room_id = ? AND b.start_time >= ? AND b.start_time < ? "
+            + "GROUP BY CAST(b.start_time AS DATE), b.room_id, r.organization_id";
+
+    private static final String REBUILD_SQL = INSERT_ROLLUP
+            + "SELECT " + AGGREGATE_COLUMNS
+            + "FROM bookings b JOIN rooms r ON r.id = b.room_id "
+            + "WHERE b.start_time IS NOT NULL AND b.end_time IS NOT NULL "
+            + "GROUP BY CAST(b.start_time AS DATE), b.room_id, r.organization_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DashboardCacheInvalidator dashboardCacheInvalidator;
+    private final DirtyKeyFlusher<RollupKey> dirtyKeys;
+
+    public BookingRollupService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            DashboardCacheInvalidator dashboardCacheInvalidator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dashboardCacheInvalidator = dashboardCacheInvalidator;
+        this.dirtyKeys = new DirtyKeyFlusher<>("booking rollups", transactionManager);
+    }
+
+    /**
+     * Queue the rollup row of a room and day for recomputation once the current
+     * transaction commits.
+     */
+    public void markDirty(UUID roomId, LocalDateTime startTime) {
+        if (roomId == null || startTime == null) {
+            return;
+        }
+        dirtyKeys.markDirty(new RollupKey(roomId, startTime.toLocalDate()));
+    }
+
+    /**
+     * Queue the rollup rows touched by a set-based status transition.
+     */
+    public void markDirty(Collection<? extends BookingTransition> transitions) {
+        for (BookingTransition transition : transitions) {
+            markDirty(transition.getRoomId(), transition.getStartTime());
+        }
+    }
+
+    /**
+     * Recompute every dirty (room, day) row from the booking table.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.rollup.flush-interval-ms:15000}")
+    public void flushDirty() {
+        int refreshed = dirtyKeys.flush(batch -> {
+            jdbcTemplate.batchUpdate("DELETE FROM booking_daily_rollups WHERE room_id = ? AND day = ?",
+                    batch, batch.size(), (ps, key) -> {
+                        ps.setObject(1, key.roomId);
+                        ps.setDate(2, Date.valueOf(key.day));
+                    });
+            jdbcTemplate.batchUpdate(REFRESH_KEY_SQL, batch, batch.size(), (ps, key) -> {
+                ps.setObject(1, key.roomId);
+                ps.setTimestamp(2, Timestamp.valueOf(key.day.atStartOfDay()));
+                ps.setTimestamp(3, Timestamp.valueOf(key.day.plusDays(1).atStartOfDay()));
+            });
+        });
+        // Booking commits evicted the dashboards before these rows caught up
+        if (refreshed > 0) {
+            dashboardCacheInvalidator.rollupsRefreshed();
+        }
+    }
+
+    /**
+     * Recompute the whole rollup table from the booking history.
+     */
+    @Scheduled(cron = "${app.reports.rollup.rebuild-cron:0 30 2 * * *}")
+    public void rebuild() {
+        dirtyKeys.rebuild(() -> {
+            jdbcTemplate.update("DELETE FROM booking_daily_rollups");
+            return jdbcTemplate.update(REBUILD_SQL);
+        });
+        dashboardCacheInvalidator.rollupsRefreshed();
+    }
+
+    // Backfill on first start against an existing booking history
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        Boolean empty = jdbcTemplate.queryForObject(
+                "SELECT NOT EXISTS (SELECT 1 FROM booking_daily_rollups)", Boolean.class);
+        if (Boolean.TRUE.equals(empty)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Booking totals for the inclusive day range, optionally limited to one
+     * organization.
+     */
+    public RollupTotals totals(UUID organizationId, LocalDate from, LocalDate to) {
+        List<Object> args = rangeArgs(from, to, organizationId);
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(total_count), 0), "
+                + "COALESCE(SUM(pending_count), 0), COALESCE(SUM(approved_count), 0), "
+                + "COALESCE(SUM(rejected_count), 0), COALESCE(SUM(cancelled_count), 0), "
+                + "COALESCE(SUM(completed_count), 0), COALESCE(SUM(booked_minutes), 0), "
+                + "COALESCE(SUM(attendee_total), 0) "
+                + "FROM booking_daily_rollups WHERE day BETWEEN ? AND ?"
+                + (organizationId != null ? " AND organization_id = ?" : ""),
+                (rs, i) -> new RollupTotals(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4),
+                        rs.getLong(5), rs.getLong(6), rs.getLong(7), rs.getLong(8)),
+                args.toArray());
+    }
+
+    /**
+     * Per-organization booking counts for the inclusive day range, busiest first.
+     */
+    public List<OrganizationBookingDto> organizationBreakdown(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("SELECT o.name, SUM(d.total_count), SUM(d.approved_count), "
+                + "SUM(d.completed_count), SUM(d.cancelled_count), SUM(d.pending_count) "
+                + "FROM booking_daily_rollups d JOIN organizations o ON o.id = d.organization_id "
+                + "WHERE d.day BETWEEN ? AND ? "
+                + "GROUP BY o.name ORDER BY SUM(d.total_count) DESC",
+                (rs, i) -> new OrganizationBookingDto(rs.getString(1), rs.getLong(2), rs.getLong(3),
+                        rs.getLong(4), rs.getLong(5), rs.getLong(6)),
+                Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * Completed-meeting usage per room for the inclusive day range, most used
+     * first. Utilization is completed hours over the business hours in range.
+     */
+    public List<RoomUsageDto> mostUsedRooms(UUID organizationId, LocalDate from, LocalDate to) {
+        double availableHours = (double) BUSINESS_HOURS_PER_DAY * (to.toEpochDay() - from.toEpochDay() + 1);
+        List<Object> args = rangeArgs(from, to, organizationId);
+        return jdbcTemplate.query("SELECT r.name, o.name, SUM(d.completed_count), SUM(d.completed_minutes) "
+                + "FROM booking_daily_rollups d JOIN rooms r ON r.id = d.room_id "
+                + "JOIN organizations o ON o.id = d.organization_id "
+                + "WHERE d.day BETWEEN ? AND ?"
+                + (organizationId != null ? " AND d.organization_id = ?" : "")
+                + " GROUP BY r.name, o.name HAVING SUM(d.completed_count) > 0 "
+                + "ORDER BY SUM(d.completed_count) DESC",
+                (rs, i) -> {
+                    double hours = rs.getLong(4) / 60.0;
+                    double utilization = availableHours > 0
+                            ? Math.round(hours / availableHours * 10000) / 100.0
+                            : 0.0;
+                    return new RoomUsageDto(rs.getString(1), rs.getString(2), rs.getLong(3), hours, utilization);
+                },
+                args.toArray());
+    }
+
+    private List<Object> rangeArgs(LocalDate from, LocalDate to, UUID organizationId) {
+        List<Object> args = new ArrayList<>();
+        args.add(Date.valueOf(from));
+        args.add(Date.valueOf(to));
+        if (organizationId != null) {
+            args.add(organizationId);
+        }
+        return args;
+    }
+
+    private static final class RollupKey {
+        private final UUID roomId;
+        private final LocalDate day;
+
+        RollupKey(UUID roomId, LocalDate day) {
+            this.roomId = roomId;
+            this.day = day;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RollupKey)) {
+                return false;
+            }
+            RollupKey other = (RollupKey) o;
+            return roomId.equals(other.roomId) && day.equals(other.day);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(roomId, day);
+        }
+    }
+
+    /**
+     * Summed rollup figures for a period.
+     */
+    public static final class RollupTotals {
+        private final long total;
+        private final long pending;
+        private final long approved;
+        private final long rejected;
+        private final long cancelled;
+        private final long completed;
+        private final long bookedMinutes;
+        private final long attendees;
+
+        RollupTotals(long total, long pending, long approved, long rejected, long cancelled, long completed,
+                long bookedMinutes, long attendees) {
+            this.total = total;
+            this.pending = pending;
+            this.approved = approved;
+            this.rejected = rejected;
+            this.cancelled = cancelled;
+            this.completed = completed;
+            this.bookedMinutes = bookedMinutes;
+            this.attendees = attendees;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public long getPending() {
+            return pending;
+        }
+
+        public long getApproved() {
+            return approved;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public long getCancelled() {
+            return cancelled;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public long getBookedMinutes() {
+            return bookedMinutes;
+        }
+
+        public long getAttendees() {
+            return attendees;
+        }
+    }
+}
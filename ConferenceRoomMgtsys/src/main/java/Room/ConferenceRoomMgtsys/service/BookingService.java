@@ -1,35 +1,48 @@
 package Room.ConferenceRoomMgtsys.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 import Room.ConferenceRoomMgtsys.dto.booking.BookingCreateDto;
+import Room.ConferenceRoomMgtsys.dto.booking.BookingListFilter;
+import Room.ConferenceRoomMgtsys.dto.booking.BookingListRow;
+import Room.ConferenceRoomMgtsys.dto.booking.BookingPageDto;
 import Room.ConferenceRoomMgtsys.dto.booking.BookingResponseDto;
 import Room.ConferenceRoomMgtsys.dto.booking.BookingSearchDto;
+import Room.ConferenceRoomMgtsys.dto.booking.BookingSeriesResultDto;
+import Room.ConferenceRoomMgtsys.dto.booking.OccurrenceConflictDto;
+import Room.ConferenceRoomMgtsys.enums.AuditAction;
 import Room.ConferenceRoomMgtsys.enums.BookingStatus;
 import Room.ConferenceRoomMgtsys.enums.UserRole;
 import Room.ConferenceRoomMgtsys.model.Booking;
+import Room.ConferenceRoomMgtsys.model.BookingRequestKey;
+import Room.ConferenceRoomMgtsys.model.BookingSeries;
 import Room.ConferenceRoomMgtsys.model.Organization;
 import Room.ConferenceRoomMgtsys.model.Room;
 import Room.ConferenceRoomMgtsys.model.User;
 import Room.ConferenceRoomMgtsys.repository.BookingRepository;
+import Room.ConferenceRoomMgtsys.repository.BookingRequestKeyRepository;
+import Room.ConferenceRoomMgtsys.repository.BookingSeriesRepository;
 import Room.ConferenceRoomMgtsys.repository.RoomRepository;
 import Room.ConferenceRoomMgtsys.repository.UserRepository;
 
@@ -42,15 +55,105 @@ public class BookingService {
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final BookingIntervalIndex bookingIndex;
+    private final SchedulerRunMetrics schedulerRunMetrics;
+    private final BookingRequestKeyRepository bookingRequestKeyRepository;
+    private final BookingRollupService bookingRollupService;
+    private final DashboardCacheInvalidator dashboardCacheInvalidator;
+    private final AuditLogService auditLogService;
+    private final BookingSeriesRepository bookingSeriesRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_LIST_PAGE_SIZE = 500;
+    private static final int MAX_SERIES_OCCURRENCES = 200;
+    private static final java.time.LocalTime BUSINESS_START = java.time.LocalTime.of(7, 0);
+    private static final java.time.LocalTime BUSINESS_END = java.time.LocalTime.of(17, 0);
+
+    // How long an Idempotency-Key is honoured for replays
+    @Value("${app.booking.idempotency-key-ttl-hours:24}")
+    private long idempotencyKeyTtlHours;
 
     public BookingService(BookingRepository bookingRepository,
             RoomRepository roomRepository,
             UserRepository userRepository,
-            EmailService emailService) {
+            EmailService emailService,
+            BookingIntervalIndex bookingIndex,
+            SchedulerRunMetrics schedulerRunMetrics,
+            BookingRequestKeyRepository bookingRequestKeyRepository,
+            BookingRollupService bookingRollupService,
+            DashboardCacheInvalidator dashboardCacheInvalidator,
+            AuditLogService auditLogService,
+            BookingSeriesRepository bookingSeriesRepository,
+            PlatformTransactionManager transactionManager) {
         this.bookingRepository = bookingRepository;
         this.roomRepository = roomRepository;
         this.userRepository = userRepository;
         this.emailService = emailService;
+        this.bookingIndex = bookingIndex;
+        this.schedulerRunMetrics = schedulerRunMetrics;
+        this.bookingRequestKeyRepository = bookingRequestKeyRepository;
+        this.bookingRollupService = bookingRollupService;
+        this.dashboardCacheInvalidator = dashboardCacheInvalidator;
+        this.auditLogService = auditLogService;
+        this.bookingSeriesRepository = bookingSeriesRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Create a booking at most once per client-supplied Idempotency-Key. A retry
+     * with a key already used by this user returns the booking the first request
+     * created instead of creating another one. When two requests with the same
+     * key race, the one that loses is rolled back and also answered with the
+     * winner's booking.
+     */
+    public BookingResponseDto createBooking(BookingCreateDto createDto, User user, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return transactionTemplate.execute(status -> createBooking(createDto, user));
+        }
+        String key = idempotencyKey.trim();
+        if (key.length() > 100) {
+            throw new IllegalArgumentException("Idempotency-Key must be at most 100 characters.");
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                BookingResponseDto replayed = replay(user, key);
+                if (replayed != null) {
+                    return replayed;
+                }
+                BookingResponseDto created = createBooking(createDto, user);
+                bookingRequestKeyRepository.saveAndFlush(new BookingRequestKey(user.getId(), key, created.getId()));
+                return created;
+            });
+        } catch (RuntimeException e) {
+            // A concurrent request with the same key may have committed first (its booking or key
+            // insert is what failed ours); re-read the key in a fresh transaction
+            BookingResponseDto winner = transactionTemplate.execute(status -> replay(user, key));
+            if (winner != null) {
+                return winner;
+            }
+            throw e;
+        }
+    }
+
+    // The booking a live key already created, or null; a stale key (expired, or its booking
+    // no longer exists) is dropped so the request is treated as a fresh one
+    private BookingResponseDto replay(User user, String key) {
+        var existingKey = bookingRequestKeyRepository.findByUserIdAndIdempotencyKey(user.getId(), key);
+        if (existingKey.isEmpty()) {
+            return null;
+        }
+        BookingRequestKey requestKey = existingKey.get();
+        boolean expired = requestKey.getCreatedAt() != null
+                && requestKey.getCreatedAt().isBefore(LocalDateTime.now().minusHours(idempotencyKeyTtlHours));
+        var original = expired ? java.util.Optional.<Booking>empty()
+                : bookingRepository.findById(requestKey.getBookingId());
+        if (original.isPresent()) {
+            return convertToDto(original.get());
+        }
+        bookingRequestKeyRepository.delete(requestKey);
+        bookingRequestKeyRepository.flush();
+        return null;
     }
 
     @Transactional
@@ -96,72 +199,22 @@ public class BookingService {
                 || endDay == java.time.DayOfWeek.SATURDAY || endDay == java.time.DayOfWeek.SUNDAY) {
             throw new IllegalArgumentException("Bookings are allowed only on weekdays (Mon-Fri).");
         }
-        java.time.LocalTime businessStart = java.time.LocalTime.of(7, 0);
-        java.time.LocalTime businessEnd = java.time.LocalTime.of(17, 0);
-        if (createDto.getStartTime().toLocalTime().isBefore(businessStart)
-                || createDto.getEndTime().toLocalTime().isAfter(businessEnd)) {
+        if (createDto.getStartTime().toLocalTime().isBefore(BUSINESS_START)
+                || createDto.getEndTime().toLocalTime().isAfter(BUSINESS_END)) {
             throw new IllegalArgumentException("Bookings must be within business hours (07:00-17:00).");
         }
 
-        // Check for overlapping conflicts with more robust validation
-        List<Booking> conflicts = bookingRepository.findConflictingBookings(
-                room,
-                createDto.getStartTime(),
-                createDto.getEndTime());
+        // Active PENDING/APPROVED bookings of this room overlapping the requested time,
+        // served from the in-memory interval index (no SQL round-trip). A concurrent identical
+        // request on another instance is caught by the partial unique index at insert time.
+        rejectConflicts(bookingIndex.findOverlapping(room.getId(), createDto.getStartTime(), createDto.getEndTime()),
+                createDto, user);
 
-        if (!conflicts.isEmpty()) {
-            // Check for user's own overlapping bookings first
-            List<Booking> userConflicts = conflicts.stream()
-                    .filter(conflict -> conflict.getUser().getId().equals(user.getId()))
-                    .toList();
-            
-            if (!userConflicts.isEmpty()) {
-                throw new IllegalArgumentException("You have already booked this room for an overlapping time period.");
-            }
-            
-            // Check for other users' conflicts
-            Booking conflictingBooking = conflicts.get(0);
-            throw new ConflictingBookingException(
-                    conflictingBooking.getStartTime().toString(),
-                    conflictingBooking.getEndTime().toString(),
-                    conflictingBooking.getUser().getFirstName() + " " + conflictingBooking.getUser().getLastName(),
-                    conflictingBooking.getUser().getEmail(),
-                    conflictingBooking.getRoom().getOrganization().getName());
-        }
-        
-        // Check for exact duplicate bookings (same user, room, time, purpose)
-        List<Booking> exactDuplicates = bookingRepository.findExactDuplicateBookings(
-                user, room, createDto.getStartTime(), createDto.getEndTime(), createDto.getPurpose());
-        
-        if (!exactDuplicates.isEmpty()) {
-            throw new IllegalArgumentException("You have already created an identical booking for this room, time, and purpose. Please check your existing bookings.");
-        }
-        
         // Prevent duplicate bookings within 5 minutes - use Africa/Kigali timezone
         LocalDateTime fiveMinutesAgo = LocalDateTime.now(ZoneId.of("Africa/Kigali")).minusMinutes(5);
-        List<Booking> recentAttempts = bookingRepository.findRecentDuplicateAttempts(user, room, fiveMinutesAgo);
-        
-        if (!recentAttempts.isEmpty()) {
+        if (recentlyBooked(user, room, fiveMinutesAgo)) {
             throw new IllegalArgumentException("You have recently attempted to book this room. Please wait a few minutes before trying again or check your existing bookings.");
         }
-        
-        // Additional validation: Check for any active bookings by the same user in the same time range
-        List<Booking> userActiveBookings = bookingRepository.findByUser(user);
-        
-        for (Booking existingBooking : userActiveBookings) {
-            // Only check active bookings (PENDING or APPROVED) that are not cancelled
-            if (existingBooking.getIsActive() && 
-                (existingBooking.getStatus() == BookingStatus.PENDING || existingBooking.getStatus() == BookingStatus.APPROVED) &&
-                existingBooking.getRoom().getId().equals(room.getId()) && 
-                isTimeOverlapping(
-                    createDto.getStartTime(), 
-                    createDto.getEndTime(),
-                    existingBooking.getStartTime(), 
-                    existingBooking.getEndTime()
-                )) {
-                throw new IllegalArgumentException("You already have an active booking for this room that overlaps with the requested time.");
-            }
-        }
 
         // Create booking with PENDING status (approval needed)
         Booking booking = new Booking();
@@ -175,11 +228,21 @@ public class BookingService {
         booking.setStatus(BookingStatus.PENDING); // Bookings require approval
         booking.setIsActive(true); // Explicitly set isActive to true for new bookings
 
-        // Save and return booking DTO
-        Booking savedBooking = bookingRepository.save(booking);
+        // Save and return booking DTO. The partial unique index on pending bookings
+        // (see DuplicatePendingBookingCleanup) rejects a concurrent identical request at write time.
+        Booking savedBooking;
+        try {
+            savedBooking = bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("An identical booking request for this room, time, and purpose is already pending.");
+        }
+        bookingIndex.sync(savedBooking);
         logger.info("Booking created and saved: ID={}, Purpose={}, StartTime={}, EndTime={}, Status={}, IsActive={}",
                 savedBooking.getId(), savedBooking.getPurpose(), savedBooking.getStartTime(), savedBooking.getEndTime(),
                 savedBooking.getStatus(), savedBooking.getIsActive());
+        auditLogService.logAction(user, AuditAction.CREATE, "Booking", savedBooking.getId().toString(),
+                "Requested " + room.getName() + " from " + savedBooking.getStartTime() + " to "
+                        + savedBooking.getEndTime());
 
         // Email notifications
         // 1. Notify user
@@ -203,75 +266,233 @@ public class BookingService {
     }
 
     /**
-     * Create recurring bookings based on fields in BookingCreateDto
-     * Supported patterns: WEEKLY, DAILY, CUSTOM (comma-separated days, e.g., TUESDAY,THURSDAY)
+     * Create a recurring booking series. The recurrence rule is expanded in
+     * memory, every occurrence is checked against the room's existing bookings
+     * loaded with one range query, and the accepted occurrences are inserted in
+     * a single JDBC batch. Occurrences that cannot be booked are returned in the
+     * conflict report instead of failing the whole series, and one summary
+     * notification goes out per series.
+     * Supported patterns: WEEKLY, DAILY, CUSTOM (comma-separated days, e.g., CUSTOM:TUESDAY,THURSDAY)
      */
     @Transactional
-    public List<BookingResponseDto> createRecurringBookings(BookingCreateDto createDto, User user) {
+    public BookingSeriesResultDto createRecurringBookings(BookingCreateDto createDto, User user) {
         if (!createDto.isRecurring()) {
-            return java.util.List.of(createBooking(createDto, user));
+            return new BookingSeriesResultDto(null, List.of(createBooking(createDto, user)), List.of());
+        }
+        if (createDto.getStartTime() == null || createDto.getEndTime() == null) {
+            throw new IllegalArgumentException("Start time and end time are required.");
         }
         if (createDto.getRecurrenceEndDate() == null) {
             throw new IllegalArgumentException("recurrenceEndDate is required for recurring bookings.");
         }
+        if (!createDto.getEndTime().isAfter(createDto.getStartTime())) {
+            throw new IllegalArgumentException("End time must be after start time.");
+        }
+        // Rules that hold for every occurrence are checked once, on the first
+        long minutes = Duration.between(createDto.getStartTime(), createDto.getEndTime()).toMinutes();
+        if (minutes < 30) {
+            throw new IllegalArgumentException("Minimum booking duration is 30 minutes.");
+        }
+        if (minutes > 8 * 60) {
+            throw new IllegalArgumentException("Maximum booking duration is 8 hours.");
+        }
+        if (!createDto.getStartTime().toLocalDate().equals(createDto.getEndTime().toLocalDate())
+                || createDto.getStartTime().toLocalTime().isBefore(BUSINESS_START)
+                || createDto.getEndTime().toLocalTime().isAfter(BUSINESS_END)) {
+            throw new IllegalArgumentException("Bookings must be within business hours (07:00-17:00).");
+        }
+        Room room = roomRepository.findById(createDto.getRoomId())
+                .orElseThrow(() -> new IllegalArgumentException("Room not found"));
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Africa/Kigali"));
+        if (recentlyBooked(user, room, now.minusMinutes(5))) {
+            throw new IllegalArgumentException("You have recently attempted to book this room. Please wait a few minutes before trying again or check your existing bookings.");
+        }
 
-        java.time.LocalDateTime cursor = createDto.getStartTime();
-        java.time.LocalDateTime endCursor = createDto.getRecurrenceEndDate();
-        String pattern = createDto.getRecurrencePattern() == null ? "WEEKLY" : createDto.getRecurrencePattern().trim().toUpperCase();
-
-        java.util.Set<java.time.DayOfWeek> customDays = new java.util.HashSet<>();
-        if (pattern.startsWith("CUSTOM")) {
-            // Expect format: CUSTOM:TUESDAY,THURSDAY
-            int idx = pattern.indexOf(':');
-            if (idx > 0 && idx + 1 < pattern.length()) {
-                String days = pattern.substring(idx + 1);
-                for (String d : days.split(",")) {
-                    try {
-                        customDays.add(java.time.DayOfWeek.valueOf(d.trim()));
-                    } catch (Exception ignored) {}
-                }
+        BookingSeries series = new BookingSeries(user.getId(), room.getId(), createDto.getRecurrencePattern(),
+                createDto.getStartTime(), createDto.getEndTime(), createDto.getRecurrenceEndDate(),
+                createDto.getPurpose());
+        List<LocalDateTime> starts = series.expandStartTimes(MAX_SERIES_OCCURRENCES);
+        if (starts.isEmpty()) {
+            throw new IllegalArgumentException("The recurrence rule produces no occurrences before recurrenceEndDate.");
+        }
+        Duration length = series.getOccurrenceDuration();
+
+        // Every booking of the room that could touch the series, in one round-trip, ordered by start
+        List<Booking> existing = bookingRepository.findByRoomIdsOverlappingRange(List.of(room.getId()),
+                starts.get(0), starts.get(starts.size() - 1).plus(length)).stream()
+                .filter(b -> Boolean.TRUE.equals(b.getIsActive())
+                        && (b.getStatus() == BookingStatus.APPROVED || b.getStatus() == BookingStatus.PENDING))
+                .toList();
+
+        List<Booking> accepted = new ArrayList<>();
+        List<OccurrenceConflictDto> conflicts = new ArrayList<>();
+        int from = 0;
+        for (LocalDateTime start : starts) {
+            LocalDateTime end = start.plus(length);
+            // Occurrences ascend, so bookings that ended before this one can never overlap a later one
+            while (from < existing.size() && !existing.get(from).getEndTime().isAfter(start)) {
+                from++;
+            }
+            String reason = occurrenceConflict(start, end, now, existing, from, user, createDto.getPurpose());
+            if (reason != null) {
+                conflicts.add(new OccurrenceConflictDto(start, end, reason));
+                continue;
             }
-            if (customDays.isEmpty()) {
-                throw new IllegalArgumentException("CUSTOM recurrence requires at least one weekday.");
+            Booking booking = new Booking();
+            booking.setUser(user);
+            booking.setRoom(room);
+            booking.setStartTime(start);
+            booking.setEndTime(end);
+            booking.setPurpose(createDto.getPurpose());
+            booking.setNotes(createDto.getNotes());
+            booking.setAttendeeCount(createDto.getAttendeeCount());
+            booking.setStatus(BookingStatus.PENDING); // Bookings require approval
+            booking.setIsActive(true);
+            booking.setIsRecurring(true);
+            booking.setRecurrencePattern(series.getRecurrencePattern());
+            booking.setRecurrenceEndDate(series.getRecurrenceEndDate());
+            accepted.add(booking);
+        }
+
+        series.setOccurrenceCount(starts.size());
+        series.setCreatedCount(accepted.size());
+        bookingSeriesRepository.save(series);
+        if (accepted.isEmpty()) {
+            return new BookingSeriesResultDto(series.getId(), List.of(), conflicts);
+        }
+        accepted.forEach(b -> b.setSeriesId(series.getId()));
+
+        // Client-generated ids let Hibernate send every insert in one JDBC batch (hibernate.jdbc.batch_size)
+        List<Booking> saved;
+        try {
+            saved = bookingRepository.saveAllAndFlush(accepted);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("Another request took one of these slots while the series was being created. Please try again.");
+        }
+        saved.forEach(bookingIndex::sync);
+        logger.info("Booking series created: ID={}, Pattern={}, Occurrences={}, Created={}, Conflicts={}",
+                series.getId(), series.getRecurrencePattern(), starts.size(), saved.size(), conflicts.size());
+        auditLogService.logAction(user, AuditAction.CREATE, "BookingSeries", series.getId().toString(),
+                "Requested " + room.getName() + " " + series.getRecurrencePattern() + " from "
+                        + saved.get(0).getStartTime() + " to " + saved.get(saved.size() - 1).getEndTime() + " ("
+                        + saved.size() + " of " + starts.size() + " occurrences)");
+        sendSeriesNotifications(user, room, saved, conflicts);
+
+        return new BookingSeriesResultDto(series.getId(), saved.stream().map(this::convertToDto).toList(),
+                conflicts);
+    }
+
+    // Rejects a request that overlaps an approved booking, duplicates one of the user's
+    // pending requests or overlaps the user's own booking of the room
+    private void rejectConflicts(List<BookingIntervalIndex.IndexedBooking> overlapping, BookingCreateDto createDto,
+            User user) {
+        List<BookingIntervalIndex.IndexedBooking> conflicts = overlapping.stream()
+                .filter(b -> b.getStatus() == BookingStatus.APPROVED)
+                .toList();
+
+        if (!conflicts.isEmpty()) {
+            // Check for user's own overlapping bookings first
+            boolean userConflict = conflicts.stream().anyMatch(conflict -> conflict.isOwnedBy(user.getId()));
+
+            if (userConflict) {
+                throw new IllegalArgumentException("You have already booked this room for an overlapping time period.");
             }
+
+            // Check for other users' conflicts
+            Booking conflictingBooking = bookingRepository.findById(conflicts.get(0).getBookingId())
+                    .orElseThrow(() -> new IllegalArgumentException("Room is already booked for this time."));
+            throw new ConflictingBookingException(
+                    conflictingBooking.getStartTime().toString(),
+                    conflictingBooking.getEndTime().toString(),
+                    conflictingBooking.getUser().getFirstName() + " " + conflictingBooking.getUser().getLastName(),
+                    conflictingBooking.getUser().getEmail(),
+                    conflictingBooking.getRoom().getOrganization().getName());
         }
 
-        java.util.List<BookingResponseDto> results = new java.util.ArrayList<>();
-        while (!cursor.isAfter(endCursor)) {
-            boolean include = false;
-            switch (pattern) {
-                case "DAILY" -> include = cursor.getDayOfWeek().getValue() <= 5; // Mon-Fri
-                case "WEEKLY" -> include = true;
-                default -> {
-                    if (pattern.startsWith("CUSTOM")) {
-                        include = customDays.contains(cursor.getDayOfWeek());
-                    } else {
-                        include = true;
-                    }
-                }
+        // Check for exact duplicate bookings (same user, room, time, purpose)
+        boolean exactDuplicate = overlapping.stream()
+                .anyMatch(b -> b.isOwnedBy(user.getId())
+                        && b.getStartTime().equals(createDto.getStartTime())
+                        && b.getEndTime().equals(createDto.getEndTime())
+                        && java.util.Objects.equals(b.getPurpose(), createDto.getPurpose()));
+
+        if (exactDuplicate) {
+            throw new IllegalArgumentException("You have already created an identical booking for this room, time, and purpose. Please check your existing bookings.");
+        }
+
+        // Additional validation: Check for any active bookings by the same user in the same time range
+        if (overlapping.stream().anyMatch(b -> b.isOwnedBy(user.getId()))) {
+            throw new IllegalArgumentException("You already have an active booking for this room that overlaps with the requested time.");
+        }
+    }
+
+    // Pending or approved bookings the user made for the room since the given instant;
+    // cancelled and rejected requests do not count
+    private boolean recentlyBooked(User user, Room room, LocalDateTime since) {
+        return bookingIndex.hasBookingCreatedSince(user.getId(), room.getId(), since);
+    }
+
+    // Why an occurrence cannot be booked, or null when it can; existing is ordered by start time
+    private String occurrenceConflict(LocalDateTime start, LocalDateTime end, LocalDateTime now,
+            List<Booking> existing, int from, User user, String purpose) {
+        if (start.isBefore(now.plusMinutes(5))) {
+            return "Starts in the past or less than 5 minutes from now.";
+        }
+        if (start.isAfter(now.plusWeeks(4))) {
+            return "Beyond the 4-week advance booking window.";
+        }
+        if (start.getDayOfWeek() == java.time.DayOfWeek.SATURDAY
+                || start.getDayOfWeek() == java.time.DayOfWeek.SUNDAY) {
+            return "Bookings are allowed only on weekdays (Mon-Fri).";
+        }
+        for (int i = from; i < existing.size() && existing.get(i).getStartTime().isBefore(end); i++) {
+            Booking other = existing.get(i);
+            if (!other.getEndTime().isAfter(start)) {
+                continue;
             }
-            if (include) {
-                BookingCreateDto single = new BookingCreateDto();
-                single.setRoomId(createDto.getRoomId());
-                single.setStartTime(cursor);
-                single.setEndTime(cursor.plusMinutes(java.time.Duration.between(createDto.getStartTime(), createDto.getEndTime()).toMinutes()));
-                single.setPurpose(createDto.getPurpose());
-                single.setNotes(createDto.getNotes());
-                single.setAttendeeCount(createDto.getAttendeeCount());
-                try {
-                    results.add(createBooking(single, user));
-                } catch (RuntimeException ex) {
-                    // Skip conflicted instances, continue others
-                }
+            if (other.getUser().getId().equals(user.getId())) {
+                return "You already have a booking for this room that overlaps this time.";
             }
-            // Advance cursor
-            if ("DAILY".equals(pattern) || pattern.startsWith("CUSTOM")) {
-                cursor = cursor.plusDays(1);
-            } else { // WEEKLY default
-                cursor = cursor.plusWeeks(1);
+            if (other.getStatus() == BookingStatus.APPROVED) {
+                return "Room is already booked by " + other.getUser().getFirstName() + " "
+                        + other.getUser().getLastName() + " from " + other.getStartTime() + " to "
+                        + other.getEndTime() + ".";
+            }
+            if (other.getStartTime().equals(start) && other.getEndTime().equals(end)
+                    && java.util.Objects.equals(other.getPurpose(), purpose)) {
+                return "An identical booking request for this room, time, and purpose is already pending.";
+            }
+        }
+        return null;
+    }
+
+    // One summary to the requester and one to each admin, however many occurrences were created
+    private void sendSeriesNotifications(User user, Room room, List<Booking> created,
+            List<OccurrenceConflictDto> conflicts) {
+        String dates = created.stream()
+                .map(b -> b.getStartTime().toLocalDate() + " " + b.getStartTime().toLocalTime() + "-"
+                        + b.getEndTime().toLocalTime())
+                .collect(Collectors.joining("\n"));
+        StringBuilder body = new StringBuilder("Your recurring booking request for room: " + room.getName()
+                + " has been sent and is pending approval (" + created.size() + " occurrences).\n\n" + dates);
+        if (!conflicts.isEmpty()) {
+            body.append("\n\nThe following occurrences could not be booked:");
+            for (OccurrenceConflictDto conflict : conflicts) {
+                body.append("\n").append(conflict.getStartTime()).append(": ").append(conflict.getReason());
             }
         }
-        return results;
+        emailService.sendSimpleEmail(user.getEmail(), "Recurring Booking Request Sent", body.toString());
+
+        String adminBody = "A recurring booking of " + created.size() + " occurrences by " + user.getFirstName()
+                + " " + user.getLastName() + " is pending approval for room: " + room.getName() + "\n\n" + dates;
+        List<User> orgAdmins = userRepository.findByOrganizationAndRole(room.getOrganization(), UserRole.ADMIN);
+        for (User admin : orgAdmins) {
+            emailService.sendSimpleEmail(admin.getEmail(), "Recurring Booking Pending Approval", adminBody);
+        }
+        List<User> sysAdmins = userRepository.findByRole(UserRole.SYSTEM_ADMIN, Pageable.unpaged()).getContent();
+        for (User sysAdmin : sysAdmins) {
+            emailService.sendSimpleEmail(sysAdmin.getEmail(), "Recurring Booking Pending Approval", adminBody);
+        }
     }
 
     @Transactional
@@ -292,6 +513,9 @@ public class BookingService {
         }
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+        bookingIndex.sync(booking);
+        auditLogService.logAction(currentUser, AuditAction.CANCEL, "Booking", booking.getId().toString(),
+                "Cancelled by administrator");
 
         try {
             emailService.sendSimpleEmail(
@@ -352,6 +576,9 @@ public class BookingService {
 
         // Save booking
         Booking savedBooking = bookingRepository.save(booking);
+        bookingIndex.sync(savedBooking);
+        auditLogService.logAction(user, AuditAction.CANCEL, "Booking", savedBooking.getId().toString(),
+                "Cancelled by owner");
 
         // Send cancellation email notification to user
         try {
@@ -488,20 +715,12 @@ public class BookingService {
         long durationMinutes = java.time.temporal.ChronoUnit.MINUTES.between(startTime, endTime);
         return String.format("%dh %dm", durationMinutes / 60, durationMinutes % 60);
     }
-    
-    /**
-     * Check if two time ranges overlap
-     * Two time ranges overlap if: start1 < end2 AND start2 < end1
-     */
-    private boolean isTimeOverlapping(LocalDateTime start1, LocalDateTime end1, LocalDateTime start2, LocalDateTime end2) {
-        return start1.isBefore(end2) && start2.isBefore(end1);
-    }
 
     private BookingResponseDto convertToDto(Booking booking) {
         BookingResponseDto dto = new BookingResponseDto();
         dto.setId(booking.getId()); // BaseResponseDto expects UUID
 
-        logger.info("Converting booking to DTO: ID={}, Purpose={}, StartTime={}, EndTime={}, Status={}, IsActive={}",
+        logger.debug("Converting booking to DTO: ID={}, Purpose={}, StartTime={}, EndTime={}, Status={}, IsActive={}",
                 booking.getId(), booking.getPurpose(), booking.getStartTime(), booking.getEndTime(),
                 booking.getStatus(), booking.getIsActive());
 
@@ -551,26 +770,78 @@ public class BookingService {
         return dto;
     }
 
+    /**
+     * Keyset-paginated booking listing scoped by role: system admins see every
+     * booking, admins the bookings of their organization's rooms and users their
+     * own. Rows come from a single projection query; no entities are loaded.
+     */
     @Transactional(readOnly = true)
-    public List<BookingResponseDto> getAllBookingsForUserRole(User currentUser) {
-        List<Booking> bookings;
-        if (currentUser.getRole() == UserRole.SYSTEM_ADMIN) {
-            bookings = bookingRepository.findAll(); // Get all bookings for system admin
-        } else if (currentUser.getRole() == UserRole.ADMIN) {
+    public BookingPageDto listBookings(User currentUser, BookingListFilter filter, String cursor, int limit) {
+        if (currentUser.getRole() == UserRole.ADMIN) {
             if (currentUser.getOrganization() == null) {
                 throw new RuntimeException("Admin is not associated with an organization.");
             }
-            // Fetch all bookings for rooms owned by the admin's organization
-            bookings = bookingRepository.findByRoom_Organization(currentUser.getOrganization());
-        } else {
-            bookings = bookingRepository.findByUser(currentUser); // Get only user's own bookings
+            // Admins are always limited to rooms owned by their organization
+            filter.setOrganizationId(currentUser.getOrganization().getId());
+        } else if (currentUser.getRole() != UserRole.SYSTEM_ADMIN) {
+            filter.setUserId(currentUser.getId()); // Only the user's own bookings
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIST_PAGE_SIZE));
+        LocalDateTime afterStart = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(java.util.Base64.getUrlDecoder().decode(cursor),
+                        java.nio.charset.StandardCharsets.UTF_8).split("\\|", 2);
+                afterStart = LocalDateTime.parse(parts[0]);
+                afterId = UUID.fromString(parts[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
         }
-        // Deduplicate by booking ID
-        return bookings.stream()
-                .collect(java.util.stream.Collectors.toMap(Booking::getId, b -> b, (b1, b2) -> b1))
-                .values().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+
+        // Fetch one extra row to know whether another page follows
+        List<BookingListRow> rows = bookingRepository.findListingPage(filter, afterStart, afterId, pageSize + 1);
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            BookingListRow last = rows.get(pageSize - 1);
+            nextCursor = java.util.Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (last.getStartTime() + "|" + last.getId()).getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        }
+        return new BookingPageDto(rows.stream().map(this::convertToDto).collect(Collectors.toList()), nextCursor);
+    }
+
+    private BookingResponseDto convertToDto(BookingListRow row) {
+        BookingResponseDto dto = new BookingResponseDto();
+        dto.setId(row.getId());
+        dto.setUserName(row.getUserFirstName() + " " + row.getUserLastName());
+        dto.setUserEmail(row.getUserEmail());
+        dto.setRoomId(row.getRoomId());
+        dto.setRoomName(row.getRoomName());
+        dto.setRoomImages(row.getRoomImages());
+        dto.setOrganizationName(row.getRoomOrganizationName());
+        dto.setOrganizationId(row.getUserOrganizationId());
+        dto.setRoomOrganizationId(row.getRoomOrganizationId());
+        dto.setBookingDate(row.getStartTime().toLocalDate().toString());
+        dto.setStartTime(row.getStartTime().toString());
+        dto.setEndTime(row.getEndTime().toString());
+        dto.setDuration(calculateDuration(row.getStartTime(), row.getEndTime()));
+        dto.setStatus(row.getStatus().toString());
+        dto.setPurpose(row.getPurpose());
+        dto.setNotes(row.getNotes());
+        dto.setAttendeeCount(row.getAttendeeCount());
+        dto.setIsActive(row.getIsActive());
+        if (row.getApproverFirstName() != null || row.getApproverLastName() != null) {
+            dto.setApprovedByName(row.getApproverFirstName() + " " + row.getApproverLastName());
+            if (row.getApprovedAt() != null) {
+                dto.setApprovedTime(row.getApprovedAt().toString());
+            }
+        }
+        dto.setRejectionReason(row.getRejectionReason());
+        dto.setRecurringInfo(Boolean.TRUE.equals(row.getIsRecurring()) ? "Recurring" : "One-time meeting");
+        return dto;
     }
 
     @Transactional
@@ -583,8 +854,12 @@ public class BookingService {
             throw new IllegalArgumentException("You can only approve bookings in your own organization");
         }
 
+        BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(BookingStatus.APPROVED);
         bookingRepository.save(booking);
+        bookingIndex.sync(booking);
+        auditLogService.logAction(currentUser, AuditAction.APPROVE, "Booking", booking.getId().toString(),
+                previousStatus + " -> " + BookingStatus.APPROVED);
         // Notify user
         emailService.sendSimpleEmail(booking.getUser().getEmail(), "Booking Approved",
                 "Your booking for room: " + booking.getRoom().getName() + " has been approved.");
@@ -600,8 +875,12 @@ public class BookingService {
             throw new IllegalArgumentException("You can only reject bookings in your own organization");
         }
 
+        BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(BookingStatus.REJECTED);
         bookingRepository.save(booking);
+        bookingIndex.sync(booking);
+        auditLogService.logAction(currentUser, AuditAction.REJECT, "Booking", booking.getId().toString(),
+                previousStatus + " -> " + BookingStatus.REJECTED);
         // Notify user
         emailService.sendSimpleEmail(booking.getUser().getEmail(), "Booking Rejected",
                 "Your booking for room: " + booking.getRoom().getName() + " has been rejected.");
@@ -612,19 +891,12 @@ public class BookingService {
      * Runs every 5 minutes for better performance and less aggressive rejection.
      */
     @Scheduled(fixedRate = 300000) // every 5 minutes instead of 10 seconds
+    @Transactional
     public void autoRejectExpiredPendingBookings() {
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Africa/Kigali"));
-        List<Booking> expiredPending = bookingRepository.findByStatusAndStartTimeBefore(BookingStatus.PENDING, now);
-        for (Booking booking : expiredPending) {
-            booking.setStatus(BookingStatus.REJECTED);
-            bookingRepository.save(booking);
-            // Optionally, notify the user
-            emailService.sendSimpleEmail(
-                    booking.getUser().getEmail(),
-                    "Booking Automatically Rejected",
-                    "Your booking for room: " + booking.getRoom().getName()
-                            + " was automatically rejected because it was not approved before the meeting start time.");
-        }
+        autoRejectPendingStartingBefore("auto-reject-expired", now, now,
+                "Booking Automatically Rejected",
+                " was automatically rejected because it was not approved before the meeting start time.");
     }
     
     /**
@@ -632,65 +904,51 @@ public class BookingService {
      * This provides reasonable time for admin approval while preventing last-minute conflicts.
      */
     @Scheduled(fixedRate = 300000) // every 5 minutes instead of 5 seconds
+    @Transactional
     public void autoRejectImminentPendingBookings() {
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Africa/Kigali"));
         LocalDateTime imminentThreshold = now.plusMinutes(30); // Changed from 2 minutes to 30 minutes
-        List<Booking> imminentPending = bookingRepository.findByStatusAndStartTimeBefore(BookingStatus.PENDING, imminentThreshold);
-        for (Booking booking : imminentPending) {
-            if (booking.getStartTime().isBefore(now.plusMinutes(30))) { // Changed from 2 minutes to 30 minutes
-                booking.setStatus(BookingStatus.REJECTED);
-                bookingRepository.save(booking);
-                // Notify the user immediately
-                emailService.sendSimpleEmail(
-                        booking.getUser().getEmail(),
-                        "Booking Automatically Rejected - Too Close to Start Time",
-                        "Your booking for room: " + booking.getRoom().getName()
-                                + " was automatically rejected because it was not approved and is too close to the start time (within 30 minutes).");
-            }
-        }
+        autoRejectPendingStartingBefore("auto-reject-imminent", imminentThreshold, now,
+                "Booking Automatically Rejected - Too Close to Start Time",
+                " was automatically rejected because it was not approved and is too close to the start time (within 30 minutes).");
     }
-    
+
+    // Reject every PENDING booking starting before the threshold in one statement, then
+    // queue a notice for exactly the rejected rows
+    private void autoRejectPendingStartingBefore(String job, LocalDateTime threshold, LocalDateTime now,
+            String subject, String reason) {
+        long started = System.nanoTime();
+        List<BookingRepository.BookingTransition> rejected = bookingRepository
+                .rejectPendingStartingBefore(threshold, now);
+        bookingIndex.removeAll(rejected.stream().map(BookingRepository.BookingTransition::getId)
+                .collect(Collectors.toList()));
+        bookingRollupService.markDirty(rejected);
+        dashboardCacheInvalidator.bookingsTransitioned(rejected);
+
+        for (BookingRepository.BookingTransition booking : rejected) {
+            emailService.sendSimpleEmail(booking.getUserEmail(), subject,
+                    "Your booking for room: " + booking.getRoomName() + reason);
+        }
+
+        // Lag: how long past the cut-off the oldest rejected booking was
+        Duration lag = rejected.stream()
+                .map(BookingRepository.BookingTransition::getStartTime)
+                .min(LocalDateTime::compareTo)
+                .map(oldest -> Duration.between(oldest, threshold))
+                .orElse(Duration.ZERO);
+        schedulerRunMetrics.record(job, started, rejected.size(), lag);
+    }
+
     /**
-     * Clean up duplicate pending bookings for the same room and time.
-     * Runs every 30 seconds to prevent booking spam.
+     * Drop idempotency keys older than the replay window.
      */
-    @Scheduled(fixedRate = 30000) // every 30 seconds
-    public void cleanupDuplicatePendingBookings() {
-        try {
-            // Find and reject duplicate pending bookings for the same room and time
-            List<Booking> allPending = bookingRepository.findByStatus(BookingStatus.PENDING);
-            Map<String, List<Booking>> duplicatesByKey = new HashMap<>();
-            
-            for (Booking booking : allPending) {
-                String key = booking.getRoom().getId() + "_" + booking.getStartTime() + "_" + booking.getEndTime() + "_" + booking.getPurpose();
-                duplicatesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(booking);
-            }
-            
-            int cleanedCount = 0;
-            for (List<Booking> duplicates : duplicatesByKey.values()) {
-                if (duplicates.size() > 1) {
-                    // Keep the first one, reject the rest
-                    for (int i = 1; i < duplicates.size(); i++) {
-                        Booking duplicate = duplicates.get(i);
-                        duplicate.setStatus(BookingStatus.REJECTED);
-                        duplicate.setRejectionReason("Duplicate booking - automatically cleaned up");
-                        bookingRepository.save(duplicate);
-                        cleanedCount++;
-                        
-                        // Notify user about duplicate cleanup
-                        emailService.sendSimpleEmail(duplicate.getUser().getEmail(), 
-                            "Duplicate Booking Removed", 
-                            "Your duplicate booking for room " + duplicate.getRoom().getName() + 
-                            " has been automatically removed to prevent conflicts.");
-                    }
-                }
-            }
-            
-            if (cleanedCount > 0) {
-                logger.info("Cleaned up {} duplicate pending bookings", cleanedCount);
-            }
-        } catch (Exception e) {
-            logger.error("Error during duplicate booking cleanup", e);
+    @Scheduled(cron = "0 15 3 * * *")
+    @Transactional
+    public void purgeExpiredRequestKeys() {
+        int purged = bookingRequestKeyRepository.deleteCreatedBefore(
+                LocalDateTime.now().minusHours(idempotencyKeyTtlHours));
+        if (purged > 0) {
+            logger.info("Purged {} expired booking idempotency keys", purged);
         }
     }
 }
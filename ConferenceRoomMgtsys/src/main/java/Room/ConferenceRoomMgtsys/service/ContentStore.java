@@ -0,0 +1,164 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Content-addressed file store under {@code <upload-dir>/content}. A file is
+ * named by the SHA-256 of its bytes ({@code content/ab/abcd...ef.jpg}), so
+ * identical uploads are stored once and a URL never changes meaning, which
+ * is what lets {@code /uploads/content/**} be cached forever.
+ *
+ * Files can be shared between rooms, organizations and users, so nothing is
+ * deleted when a reference goes away; a daily sweep removes files that no
+ * row references any more.
+ */
+@Service
+public class ContentStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentStore.class);
+
+    public static final String URL_PREFIX = "uploads/content/";
+    public static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{64})\\.([a-z0-9]{1,8})");
+    private static final Pattern STORED_NAME = Pattern.compile(FILE_NAME.pattern() + "(\\.gz|\\.br)?");
+
+    // Every column that may hold a content URL
+    private static final List<String> REFERENCE_QUERIES = List.of(
+            "SELECT CONCAT_WS(' ', images, image_variants) FROM rooms",
+            "SELECT CONCAT_WS(' ', logo_url, logo_variants) FROM organizations",
+            "SELECT CONCAT_WS(' ', profile_picture_url, profile_picture_variants) FROM users");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerRunMetrics schedulerRunMetrics;
+
+    @Value("${file.upload-dir:/tmp/uploads}")
+    private String baseUploadDir;
+
+    // Unreferenced files younger than this are kept: their row may not be committed yet
+    @Value("${app.uploads.content.sweep-grace:PT24H}")
+    private Duration sweepGrace;
+
+    public ContentStore(JdbcTemplate jdbcTemplate, SchedulerRunMetrics schedulerRunMetrics) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schedulerRunMetrics = schedulerRunMetrics;
+    }
+
+    /**
+     * Store bytes under their hash and return the {@code uploads/content/...}
+     * URL. Writing content that is already stored is a no-op.
+     */
+    public String put(byte[] bytes, String extension) throws IOException {
+        String hash = sha256(bytes);
+        String name = hash + "." + extension;
+        Path file = resolve(name);
+        if (Files.exists(file)) {
+            // Restart the sweep's grace period for content that is being referenced again
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } else {
+            Files.createDirectories(file.getParent());
+            // Written to a temporary name and moved into place so readers never see a partial file
+            Path temp = Files.createTempFile(file.getParent(), ".content-", ".tmp");
+            try {
+                Files.write(temp, bytes);
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        return URL_PREFIX + hash.substring(0, 2) + "/" + name;
+    }
+
+    /**
+     * Path of a stored file by name ({@code <hash>.<ext>}, optionally followed by
+     * a precompressed suffix), or {@code null} when the name is not a content name.
+     */
+    public Path resolve(String name) {
+        if (name == null || !STORED_NAME.matcher(name).matches()) {
+            return null;
+        }
+        return contentRoot().resolve(name.substring(0, 2)).resolve(name);
+    }
+
+    public static boolean isContentUrl(String url) {
+        return url != null && (url.startsWith(URL_PREFIX) || url.startsWith("/" + URL_PREFIX));
+    }
+
+    /**
+     * Delete stored files that no row references and that are older than the
+     * grace period, together with their precompressed siblings.
+     */
+    @Scheduled(cron = "${app.uploads.content.sweep-cron:0 30 3 * * *}")
+    public int sweepUnreferenced() {
+        long started = System.nanoTime();
+        Path root = contentRoot();
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        // Read references before listing files so a file written in between is protected by the grace period
+        Set<String> referenced = new HashSet<>();
+        for (String query : REFERENCE_QUERIES) {
+            jdbcTemplate.query(query, rs -> {
+                String value = rs.getString(1);
+                if (value != null) {
+                    Matcher matcher = FILE_NAME.matcher(value);
+                    while (matcher.find()) {
+                        referenced.add(matcher.group(1));
+                    }
+                }
+            });
+        }
+
+        Instant cutoff = Instant.now().minus(sweepGrace);
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(root, 2)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (!matcher.lookingAt() || referenced.contains(matcher.group(1))) {
+                    continue;
+                }
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Content sweep failed: {}", e.getMessage());
+        }
+        schedulerRunMetrics.record("content-sweep", started, deleted, Duration.ZERO);
+        return deleted;
+    }
+
+    private Path contentRoot() {
+        return Paths.get(baseUploadDir).toAbsolutePath().normalize().resolve("content");
+    }
+
+    private String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.util.Collection;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import Room.ConferenceRoomMgtsys.config.CacheConfig;
+import Room.ConferenceRoomMgtsys.model.Booking;
+import Room.ConferenceRoomMgtsys.model.Organization;
+import Room.ConferenceRoomMgtsys.model.Room;
+import Room.ConferenceRoomMgtsys.model.User;
+
+/**
+ * Evicts the dashboard snapshots a booking, user, room or organization change
+ * affects. The cache manager is transaction-aware, so evictions issued inside
+ * a transaction are applied after commit.
+ */
+@Component
+public class DashboardCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public DashboardCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public void bookingChanged(Booking booking) {
+        Cache cache = dashboards();
+        cache.evict("system");
+        if (booking.getUser() != null) {
+            cache.evict("user:" + booking.getUser().getId());
+        }
+        if (booking.getRoom() != null && booking.getRoom().getOrganization() != null) {
+            cache.evict("org:" + booking.getRoom().getOrganization().getId());
+        }
+    }
+
+    public void userChanged(User user) {
+        Cache cache = dashboards();
+        cache.evict("system");
+        cache.evict("user:" + user.getId());
+        if (user.getOrganization() != null) {
+            cache.evict("org:" + user.getOrganization().getId());
+        }
+    }
+
+    public void roomChanged(Room room) {
+        organizationChanged(room.getOrganization());
+    }
+
+    public void organizationChanged(Organization organization) {
+        Cache cache = dashboards();
+        cache.evict("system");
+        if (organization != null) {
+            cache.evict("org:" + organization.getId());
+        }
+    }
+
+    /**
+     * The system dashboard's most used rooms are read from the booking rollups,
+     * which catch up with booking changes only when the rollup flush runs.
+     */
+    public void rollupsRefreshed() {
+        dashboards().evict("system");
+    }
+
+    /**
+     * Set-based status transitions touch bookings of many users at once.
+     */
+    public void bookingsTransitioned(Collection<?> transitions) {
+        if (!transitions.isEmpty()) {
+            dashboards().clear();
+        }
+    }
+
+    private Cache dashboards() {
+        return cacheManager.getCache(CacheConfig.DASHBOARDS);
+    }
+}
@@ -0,0 +1,64 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import Room.ConferenceRoomMgtsys.config.CacheConfig;
+import Room.ConferenceRoomMgtsys.model.DayVisibility;
+import Room.ConferenceRoomMgtsys.model.Organization;
+import Room.ConferenceRoomMgtsys.model.Room;
+import Room.ConferenceRoomMgtsys.repository.DayVisibilityRepository;
+
+/**
+ * Per-organization, per-day room visibility whitelist, served from cache.
+ */
+@Service
+public class DayVisibilityService {
+
+    private final DayVisibilityRepository dayVisibilityRepository;
+
+    public DayVisibilityService(DayVisibilityRepository dayVisibilityRepository) {
+        this.dayVisibilityRepository = dayVisibilityRepository;
+    }
+
+    /**
+     * IDs (as strings) of the organization's rooms marked visible on the date.
+     * An empty set means nothing has been made visible.
+     */
+    @Cacheable(cacheNames = CacheConfig.DAY_VISIBILITY, key = "#organizationId + ':' + #date")
+    @Transactional(readOnly = true)
+    public Set<String> getVisibleRoomIds(UUID organizationId, LocalDate date) {
+        return dayVisibilityRepository.findVisibleRoomIdsByOrganizationIdAndDate(organizationId, date).stream()
+                .map(UUID::toString)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Replace the organization's whitelist for the date with the given rooms.
+     */
+    @CacheEvict(cacheNames = CacheConfig.DAY_VISIBILITY, allEntries = true)
+    @Transactional
+    public void replaceVisibleRooms(Organization organization, LocalDate date, List<Room> rooms) {
+        List<DayVisibility> existing = dayVisibilityRepository.findVisibleByOrganizationAndDate(organization, date);
+        if (existing != null && !existing.isEmpty()) {
+            dayVisibilityRepository.deleteAll(existing);
+        }
+        List<DayVisibility> entries = rooms.stream().map(room -> {
+            DayVisibility dv = new DayVisibility();
+            dv.setDate(date);
+            dv.setRoom(room);
+            dv.setVisible(true);
+            return dv;
+        }).collect(Collectors.toList());
+        dayVisibilityRepository.saveAll(entries);
+    }
+}
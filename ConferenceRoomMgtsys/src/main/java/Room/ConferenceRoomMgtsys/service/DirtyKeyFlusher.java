@@ -0,0 +1,81 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import static Room.ConferenceRoomMgtsys.service.TransactionHooks.afterCommit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The bookkeeping behind a derived table that is kept up to date incrementally:
+ * writes mark keys dirty after commit, a scheduled flush recomputes the dirty
+ * keys in one transaction, and a periodic rebuild recomputes everything.
+ *
+ * Flushes and rebuilds of one flusher never overlap. Keys of a failed flush
+ * are queued again for the next one.
+ *
+ * @param <K> key of one derived row or document; needs equals and hashCode
+ */
+public class DirtyKeyFlusher<K> {
+
+    private static final Logger logger = LoggerFactory.getLogger(DirtyKeyFlusher.class);
+
+    private final String name;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<K> dirtyKeys = ConcurrentHashMap.newKeySet();
+
+    public DirtyKeyFlusher(String name, PlatformTransactionManager transactionManager) {
+        this.name = name;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Queue a key once the current transaction commits.
+     */
+    public void markDirty(K key) {
+        afterCommit(() -> dirtyKeys.add(key));
+    }
+
+    /**
+     * Recompute the queued keys in one transaction.
+     *
+     * @return how many keys were refreshed; 0 when none were queued or the
+     *         refresh failed
+     */
+    public synchronized int flush(Consumer<List<K>> refresh) {
+        if (dirtyKeys.isEmpty()) {
+            return 0;
+        }
+        List<K> batch = new ArrayList<>(dirtyKeys);
+        dirtyKeys.removeAll(batch);
+        try {
+            transactionTemplate.executeWithoutResult(status -> refresh.accept(batch));
+            logger.debug("Refreshed {} {}", batch.size(), name);
+            return batch.size();
+        } catch (RuntimeException e) {
+            dirtyKeys.addAll(batch);
+            logger.error("Failed to refresh {}: {}", name, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Recompute everything in one transaction.
+     *
+     * @param rebuild returns the number of rows written
+     */
+    public synchronized int rebuild(Supplier<Integer> rebuild) {
+        long started = System.currentTimeMillis();
+        Integer rows = transactionTemplate.execute(status -> rebuild.get());
+        logger.info("Rebuilt {}: {} rows in {} ms", name, rows, System.currentTimeMillis() - started);
+        return rows != null ? rows : 0;
+    }
+}
@@ -0,0 +1,102 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Room.ConferenceRoomMgtsys.enums.AuditAction;
+import Room.ConferenceRoomMgtsys.enums.BookingStatus;
+import Room.ConferenceRoomMgtsys.model.Booking;
+import Room.ConferenceRoomMgtsys.repository.BookingRepository;
+
+/**
+ * One-off migration that introduces {@code ux_bookings_pending_slot}, the
+ * unique index allowing at most one pending request per room, time range and
+ * purpose. Identical pending requests made before the index existed are
+ * resolved first: the earliest of each group is kept and the rest are
+ * rejected like any other rejection, so the requester is emailed, the change
+ * is audited and the interval index, rollups, dashboards and search index
+ * follow. Once the index exists this does nothing.
+ */
+@Service
+public class DuplicatePendingBookingCleanup {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicatePendingBookingCleanup.class);
+
+    private static final String INDEX_NAME = "ux_bookings_pending_slot";
+    private static final String REJECTION_REASON = "Duplicate of an identical pending booking request";
+    // Serialises the migration across instances starting together
+    private static final long ADVISORY_LOCK_KEY = 0x6475706c6963L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingRepository bookingRepository;
+    private final BookingIntervalIndex bookingIndex;
+    private final AuditLogService auditLogService;
+    private final EmailService emailService;
+
+    public DuplicatePendingBookingCleanup(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            BookingRepository bookingRepository, BookingIntervalIndex bookingIndex,
+            AuditLogService auditLogService, EmailService emailService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bookingRepository = bookingRepository;
+        this.bookingIndex = bookingIndex;
+        this.auditLogService = auditLogService;
+        this.emailService = emailService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + ADVISORY_LOCK_KEY + ")");
+            Boolean indexed = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                    INDEX_NAME);
+            if (Boolean.TRUE.equals(indexed)) {
+                return;
+            }
+            int rejected = rejectDuplicates();
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + INDEX_NAME
+                    + " ON bookings (room_id, start_time, end_time, COALESCE(purpose, '')) WHERE status = 'PENDING'");
+            logger.info("Created {} after rejecting {} duplicate pending bookings", INDEX_NAME, rejected);
+        });
+    }
+
+    // Every pending request with an identical, earlier pending request for the same slot
+    private int rejectDuplicates() {
+        List<UUID> duplicateIds = jdbcTemplate.queryForList("SELECT b.id FROM bookings b "
+                + "WHERE b.status = 'PENDING' AND EXISTS (SELECT 1 FROM bookings d "
+                + "WHERE d.status = 'PENDING' AND d.room_id = b.room_id "
+                + "AND d.start_time = b.start_time AND d.end_time = b.end_time "
+                + "AND COALESCE(d.purpose, '') = COALESCE(b.purpose, '') "
+                + "AND (d.created_at < b.created_at OR (d.created_at = b.created_at AND d.id < b.id)))",
+                UUID.class);
+        if (duplicateIds.isEmpty()) {
+            return 0;
+        }
+        for (Booking booking : bookingRepository.findAllById(duplicateIds)) {
+            booking.setStatus(BookingStatus.REJECTED);
+            booking.setRejectionReason(REJECTION_REASON);
+            bookingRepository.save(booking);
+            bookingIndex.sync(booking);
+            auditLogService.logAction(null, AuditAction.REJECT, "Booking", booking.getId().toString(),
+                    BookingStatus.PENDING + " -> " + BookingStatus.REJECTED + " (" + REJECTION_REASON + ")");
+            emailService.sendSimpleEmail(booking.getUser().getEmail(), "Booking Rejected",
+                    "Your booking request for room: " + booking.getRoom().getName() + " from "
+                            + booking.getStartTime() + " to " + booking.getEndTime()
+                            + " was rejected because an identical request for the same room, time and purpose"
+                            + " was already pending. The earlier request is still awaiting approval.");
+        }
+        // Flush before the index is built so the rejected rows no longer count as pending
+        bookingRepository.flush();
+        return duplicateIds.size();
+    }
+}
@@ -0,0 +1,271 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Room.ConferenceRoomMgtsys.enums.EmailOutboxStatus;
+import Room.ConferenceRoomMgtsys.model.EmailOutbox;
+import Room.ConferenceRoomMgtsys.repository.EmailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Transactional outbox for outgoing email.
+ *
+ * {@link #enqueue} only inserts a row, so it joins the caller's transaction and
+ * returns immediately; a message is never sent for a rolled-back business
+ * change. A scheduled drain claims only as many due rows as the bounded
+ * {@code mailExecutor} pool has room for and hands them over in chunks; a
+ * worker re-stamps its chunk's claim before sending and skips rows whose claim
+ * was released in the meantime. Each worker delivers its chunk through a single
+ * {@link JavaMailSender#send(MimeMessage...)} call, which reuses one SMTP
+ * connection for the whole chunk. Failed messages are retried with exponential
+ * backoff until {@code app.mail.outbox.max-attempts} is reached.
+ */
+@Service
+public class EmailOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxService.class);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final ThreadPoolTaskExecutor mailExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.workers:2}")
+    private int workers;
+
+    @Value("${app.mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds;
+
+    @Value("${app.mail.outbox.sent-retention-days:7}")
+    private int sentRetentionDays;
+
+    public EmailOutboxService(EmailOutboxRepository emailOutboxRepository,
+            JavaMailSender mailSender,
+            @Qualifier("mailExecutor") ThreadPoolTaskExecutor mailExecutor,
+            PlatformTransactionManager transactionManager) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.mailExecutor = mailExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Queue a message for delivery as part of the current transaction.
+     */
+    @Transactional
+    public void enqueue(String toEmail, String subject, String body, boolean html) {
+        if (toEmail == null || toEmail.isBlank()) {
+            logger.warn("Skipping email '{}' with no recipient", subject);
+            return;
+        }
+        EmailOutbox message = new EmailOutbox();
+        message.setToEmail(toEmail);
+        message.setSubject(subject);
+        message.setBody(body);
+        message.setIsHtml(html);
+        message.setStatus(EmailOutboxStatus.PENDING);
+        message.setAttempts(0);
+        message.setNextAttemptAt(LocalDateTime.now());
+        emailOutboxRepository.save(message);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:2000}")
+    public void drain() {
+        // Each chunk shares one SMTP connection; claim no more chunks than the pool can take now
+        int chunkSize = Math.max(1, (batchSize + workers - 1) / workers);
+        int freeSlots = freeWorkerSlots();
+        if (freeSlots <= 0) {
+            return;
+        }
+        int limit = (int) Math.min(batchSize, (long) freeSlots * chunkSize);
+        // Postgres keeps microseconds; the claim is compared for equality when a worker starts
+        LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<EmailOutbox> claimed;
+        try {
+            claimed = transactionTemplate.execute(status -> claimBatch(claimedAt, limit));
+        } catch (Exception e) {
+            logger.error("Failed to claim outbox messages: {}", e.getMessage());
+            return;
+        }
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < claimed.size(); i += chunkSize) {
+            List<UUID> ids = claimed.subList(i, Math.min(claimed.size(), i + chunkSize)).stream()
+                    .map(EmailOutbox::getId).toList();
+            try {
+                mailExecutor.execute(() -> deliver(ids, claimedAt));
+            } catch (TaskRejectedException e) {
+                // Never send on the scheduler thread: hand the rows back for the next run
+                transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.releaseClaims(ids));
+                logger.warn("Mail pool is full; released {} claimed outbox messages", ids.size());
+            }
+        }
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void purgeDelivered() {
+        int deleted = emailOutboxRepository.deleteSentBefore(LocalDateTime.now().minusDays(sentRetentionDays));
+        if (deleted > 0) {
+            logger.info("Purged {} delivered outbox messages", deleted);
+        }
+    }
+
+    // Idle workers plus free queue slots, each good for one chunk
+    private int freeWorkerSlots() {
+        ThreadPoolExecutor pool = mailExecutor.getThreadPoolExecutor();
+        return Math.max(0, pool.getMaximumPoolSize() - pool.getActiveCount()) + pool.getQueue().remainingCapacity();
+    }
+
+    private List<EmailOutbox> claimBatch(LocalDateTime now, int limit) {
+        emailOutboxRepository.releaseStaleClaims(now.minusMinutes(10));
+        List<EmailOutbox> due = emailOutboxRepository.lockDueMessages(now, limit);
+        for (EmailOutbox message : due) {
+            message.setStatus(EmailOutboxStatus.SENDING);
+            message.setClaimedAt(now);
+        }
+        return emailOutboxRepository.saveAll(due);
+    }
+
+    private void deliver(List<UUID> ids, LocalDateTime claimedAt) {
+        // Rows released as stale while this chunk waited may already belong to a newer claim
+        LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<EmailOutbox> chunk;
+        try {
+            chunk = transactionTemplate.execute(status -> {
+                emailOutboxRepository.restampClaims(ids, claimedAt, startedAt);
+                return emailOutboxRepository.findClaimed(ids, startedAt);
+            });
+        } catch (Exception e) {
+            // Rows stay in SENDING and are released by releaseStaleClaims
+            logger.error("Failed to start outbox delivery: {}", e.getMessage());
+            return;
+        }
+        if (chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        if (chunk.size() < ids.size()) {
+            logger.info("Skipping {} outbox messages claimed again since they were queued", ids.size() - chunk.size());
+        }
+
+        Map<MimeMessage, EmailOutbox> byMessage = new IdentityHashMap<>();
+        Map<EmailOutbox, String> failures = new IdentityHashMap<>();
+        List<MimeMessage> mimeMessages = new ArrayList<>();
+
+        for (EmailOutbox outbox : chunk) {
+            try {
+                MimeMessage mime = toMimeMessage(outbox);
+                byMessage.put(mime, outbox);
+                mimeMessages.add(mime);
+            } catch (MessagingException e) {
+                failures.put(outbox, e.getMessage());
+            }
+        }
+
+        if (!mimeMessages.isEmpty()) {
+            try {
+                mailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                Map<Object, Exception> failed = e.getFailedMessages();
+                if (failed.isEmpty()) {
+                    byMessage.values().forEach(outbox -> failures.put(outbox, e.getMessage()));
+                } else {
+                    failed.forEach((msg, ex) -> {
+                        EmailOutbox outbox = byMessage.get(msg);
+                        if (outbox != null) {
+                            failures.put(outbox, ex.getMessage());
+                        }
+                    });
+                }
+            } catch (MailException e) {
+                byMessage.values().forEach(outbox -> failures.put(outbox, e.getMessage()));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (EmailOutbox outbox : chunk) {
+            String error = failures.get(outbox);
+            if (error == null) {
+                outbox.setStatus(EmailOutboxStatus.SENT);
+                outbox.setSentAt(now);
+                outbox.setLastError(null);
+            } else {
+                scheduleRetry(outbox, error, now);
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.saveAll(chunk));
+        } catch (Exception e) {
+            // Rows stay in SENDING and are released by releaseStaleClaims
+            logger.error("Failed to record outbox delivery results: {}", e.getMessage());
+        }
+        if (!failures.isEmpty()) {
+            logger.warn("Email outbox: {} of {} messages failed in this chunk", failures.size(), chunk.size());
+        }
+    }
+
+    private void scheduleRetry(EmailOutbox outbox, String error, LocalDateTime now) {
+        int attempts = (outbox.getAttempts() == null ? 0 : outbox.getAttempts()) + 1;
+        outbox.setAttempts(attempts);
+        outbox.setLastError(error);
+        outbox.setClaimedAt(null);
+        if (attempts >= maxAttempts) {
+            outbox.setStatus(EmailOutboxStatus.FAILED);
+            logger.error("Giving up on email '{}' to {} after {} attempts: {}", outbox.getSubject(),
+                    outbox.getToEmail(), attempts, error);
+            return;
+        }
+        // 30s, 1m, 2m, 4m, ... capped at one hour
+        long backoff = Math.min(initialBackoffSeconds << (attempts - 1), Duration.ofHours(1).getSeconds());
+        outbox.setStatus(EmailOutboxStatus.PENDING);
+        outbox.setNextAttemptAt(now.plusSeconds(backoff));
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox outbox) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        if (fromEmail != null && !fromEmail.isBlank()) {
+            helper.setFrom(fromEmail);
+        }
+        helper.setTo(outbox.getToEmail());
+        helper.setSubject(outbox.getSubject() == null ? "" : outbox.getSubject());
+        helper.setText(outbox.getBody() == null ? "" : outbox.getBody(), Boolean.TRUE.equals(outbox.getIsHtml()));
+        return message;
+    }
+}
@@ -25,33 +25,31 @@ public class EmailService {
     @Autowired
     private JavaMailSender mailSender;
 
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
     @Value("${spring.mail.username}")
     private String fromEmail;
 
     @Value("${app.name:Conference Room Management System}")
     private String appName;
 
-    // Basic email sending
+    // Basic email sending - queued in the outbox and delivered in the background
     public void sendSimpleEmail(String toEmail, String subject, String body) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromEmail);
-        message.setTo(toEmail);
-        message.setSubject(subject);
-        message.setText(body);
-        mailSender.send(message);
+        emailOutboxService.enqueue(toEmail, subject, body, false);
     }
 
-    // HTML email sending
+    // HTML email sending - queued in the outbox and delivered in the background
     public void sendHtmlEmail(String toEmail, String subject, String htmlBody) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-        helper.setFrom(fromEmail);
-        helper.setTo(toEmail);
-        helper.setSubject(subject);
-        helper.setText(htmlBody, true);
+        emailOutboxService.enqueue(toEmail, subject, htmlBody, true);
+    }
 
-        mailSender.send(message);
+    private void send(SimpleMailMessage message) {
+        if (message.getTo() != null) {
+            for (String to : message.getTo()) {
+                emailOutboxService.enqueue(to, message.getSubject(), message.getText(), false);
+            }
+        }
     }
 
     // Email with attachment
@@ -235,7 +233,7 @@ public class EmailService {
                 message.setTo(admin.getEmail());
                 message.setSubject(subject);
                 message.setText(body);
-                mailSender.send(message);
+                send(message);
             }
         }
     }
@@ -645,7 +643,7 @@ public class EmailService {
                         "Welcome aboard!\n\n" +
                         "Best regards,\n" +
                         "Conference Room Booking System Team");
-        mailSender.send(message);
+        send(message);
     }
 
     public void sendRejectionEmail(String to, String firstName) {
@@ -661,7 +659,7 @@ public class EmailService {
                         "2. Visit our registration page to create a new account with updated information\n\n" +
                         "Best regards,\n" +
                         "Conference Room Booking System Team");
-        mailSender.send(message);
+        send(message);
     }
 
     public void sendPendingApprovalNotification(User pendingUser, User orgAdmin, List<User> systemAdmins) {
@@ -677,7 +675,7 @@ public class EmailService {
             message.setTo(orgAdmin.getEmail());
             message.setSubject(subject);
             message.setText(body);
-            mailSender.send(message);
+            send(message);
         }
         // Notify all system admins
         for (User sysAdmin : systemAdmins) {
@@ -686,7 +684,7 @@ public class EmailService {
                 message.setTo(sysAdmin.getEmail());
                 message.setSubject(subject);
                 message.setText(body);
-                mailSender.send(message);
+                send(message);
             }
         }
     }
@@ -736,6 +734,6 @@ public class EmailService {
                         "If you have any questions or need assistance, please contact your system administrator.\n\n" +
                         "Best regards,\n" +
                         "Conference Room Booking System Team");
-        mailSender.send(message);
+        send(message);
     }
 }
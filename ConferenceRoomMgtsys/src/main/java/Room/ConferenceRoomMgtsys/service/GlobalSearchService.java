@@ -2,73 +2,161 @@ package Room.ConferenceRoomMgtsys.service;
 
 import Room.ConferenceRoomMgtsys.dto.search.GlobalSearchRequestDto;
 import Room.ConferenceRoomMgtsys.dto.search.GlobalSearchResultDto;
-import Room.ConferenceRoomMgtsys.model.Room;
-import Room.ConferenceRoomMgtsys.model.Booking;
+import Room.ConferenceRoomMgtsys.enums.UserRole;
 import Room.ConferenceRoomMgtsys.model.User;
-import Room.ConferenceRoomMgtsys.repository.RoomRepository;
-import Room.ConferenceRoomMgtsys.repository.BookingRepository;
-import Room.ConferenceRoomMgtsys.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
 
+/**
+ * Ranked search over {@code search_documents} (see {@link SearchIndexService}).
+ * Every word of the query is matched as a prefix against the weighted
+ * full-text vector, and the title is also matched by trigram similarity so
+ * typos still find something (when pg_trgm is installed). Rooms, bookings and
+ * users come back as one list ordered by score, with per-type counts and an
+ * HTML-escaped snippet whose matches are wrapped in {@code <mark>}.
+ */
 @Service
 @RequiredArgsConstructor
 public class GlobalSearchService {
 
-    private final RoomRepository roomRepository;
-    private final BookingRepository bookingRepository;
-    private final UserRepository userRepository;
+    // Matches the @Max on GlobalSearchRequestDto.size, for callers that skip validation
+    private static final int MAX_PAGE_SIZE = 50;
 
-    public GlobalSearchResultDto search(GlobalSearchRequestDto request) {
-        Pageable pageRequest = PageRequest.of(
-                request.getPage(),
-                request.getSize(),
-                Sort.Direction.fromString(request.getSortOrder().toUpperCase()),
-                request.getSortField());
+    private static final Set<String> TYPES = Set.of(SearchIndexService.ROOM, SearchIndexService.BOOKING,
+            SearchIndexService.USER);
 
-        List<Map<String, Object>> results = new ArrayList<>();
-        long totalResults = 0;
+    // Control characters mark the highlighted words so the snippet can be escaped before they become <mark> tags
+    private static final String START_SEL = "\u0002";
+    private static final String STOP_SEL = "\u0003";
+
+    private static final String QUERY_CTE = "WITH q AS (SELECT to_tsquery('simple', ?) AS ts, CAST(? AS text) AS raw) ";
+    private static final String MATCH = "(d.document @@ q.ts {trigramMatch})";
+
+    private static final String RESULTS_SQL = QUERY_CTE
+            + "SELECT m.entity_type, m.entity_id, m.organization_id, m.title, m.body, m.score, "
+            + "ts_headline('simple', translate(CONCAT_WS(' - ', m.title, m.body), chr(2) || chr(3), ''), q.ts, "
+            + "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MaxWords=25, MinWords=8, MaxFragments=1') "
+            + "AS highlight "
+            + "FROM (SELECT d.entity_type, d.entity_id, d.organization_id, d.title, d.body, "
+            + "ts_rank_cd(d.document, q.ts, 32) * 2 {trigramScore} AS score "
+            + "FROM search_documents d, q WHERE " + MATCH + " {filter} "
+            + "ORDER BY score DESC, d.entity_id LIMIT ? OFFSET ?) m, q "
+            + "ORDER BY m.score DESC, m.entity_id";
+
+    private static final String FACETS_SQL = QUERY_CTE
+            + "SELECT d.entity_type, COUNT(*) FROM search_documents d, q WHERE " + MATCH
+            + " {filter} GROUP BY d.entity_type";
 
-        // Search across all repositories
-        if (request.getType() == null || "room".equalsIgnoreCase(request.getType())) {
-            Page<Room> rooms = roomRepository.search(request.getQuery(), pageRequest);
-            totalResults += rooms.getTotalElements();
-            rooms.forEach(room -> results.add(mapToResult("room", room)));
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchIndexService searchIndexService;
+
+    /**
+     * Search the documents the user may see: system admins see everything,
+     * everyone else only their own organization's rooms and bookings, and
+     * people only when they are an admin.
+     */
+    public GlobalSearchResultDto search(GlobalSearchRequestDto request, User currentUser) {
+        String type = request.getType() != null && !request.getType().isBlank()
+                ? request.getType().trim().toLowerCase(Locale.ROOT)
+                : null;
+        String raw = request.getQuery() != null ? request.getQuery().trim() : "";
+        String tsQuery = toPrefixQuery(raw);
+        int page = Math.max(request.getPage(), 0);
+        int size = Math.min(Math.max(request.getSize(), 1), MAX_PAGE_SIZE);
+
+        Map<String, Long> facets = new LinkedHashMap<>();
+        TYPES.stream().sorted().forEach(t -> facets.put(t, 0L));
+        List<Map<String, Object>> results = new ArrayList<>();
+        boolean systemAdmin = currentUser.getRole() == UserRole.SYSTEM_ADMIN;
+        boolean peopleVisible = systemAdmin || currentUser.getRole() == UserRole.ADMIN;
+        if (tsQuery.isEmpty() || (type != null && !TYPES.contains(type))
+                || (!systemAdmin && currentUser.getOrganization() == null)
+                || (!peopleVisible && SearchIndexService.USER.equals(type))) {
+            return new GlobalSearchResultDto(0, 0, page, size, results, facets);
         }
 
-        if (request.getType() == null || "booking".equalsIgnoreCase(request.getType())) {
-            Page<Booking> bookings = bookingRepository.search(request.getQuery(), pageRequest);
-            totalResults += bookings.getTotalElements();
-            bookings.forEach(booking -> results.add(mapToResult("booking", booking)));
+        StringBuilder scope = new StringBuilder();
+        List<Object> scopeArgs = new ArrayList<>();
+        if (!systemAdmin) {
+            scope.append(" AND d.organization_id = ?");
+            scopeArgs.add(currentUser.getOrganization().getId());
+        }
+        if (!peopleVisible) {
+            scope.append(" AND d.entity_type <> '").append(SearchIndexService.USER).append("'");
         }
+        boolean trigram = searchIndexService.isTrigramAvailable();
 
-        if (request.getType() == null || "user".equalsIgnoreCase(request.getType())) {
-            Page<User> users = userRepository.search(request.getQuery(), pageRequest);
-            totalResults += users.getTotalElements();
-            users.forEach(user -> results.add(mapToResult("user", user)));
+        List<Object> facetArgs = new ArrayList<>(List.of(tsQuery, raw));
+        facetArgs.addAll(scopeArgs);
+        jdbcTemplate.query(withTrigram(FACETS_SQL, trigram).replace("{filter}", scope), rs -> {
+            facets.put(rs.getString(1), rs.getLong(2));
+        }, facetArgs.toArray());
+        long totalResults = type != null ? facets.get(type)
+                : facets.values().stream().mapToLong(Long::longValue).sum();
+
+        if (totalResults > 0) {
+            List<Object> args = new ArrayList<>(List.of(tsQuery, raw));
+            args.addAll(scopeArgs);
+            if (type != null) {
+                args.add(type);
+            }
+            args.add(size);
+            args.add((long) page * size);
+            String sql = withTrigram(RESULTS_SQL, trigram)
+                    .replace("{filter}", scope + (type != null ? " AND d.entity_type = ?" : ""));
+            jdbcTemplate.query(sql, rs -> {
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("type", rs.getString("entity_type"));
+                result.put("id", rs.getObject("entity_id"));
+                result.put("name", rs.getString("title"));
+                result.put("description", rs.getString("body"));
+                result.put("organizationId", rs.getObject("organization_id"));
+                result.put("score", rs.getDouble("score"));
+                result.put("highlight", toHtml(rs.getString("highlight")));
+                results.add(result);
+            }, args.toArray());
         }
 
         return new GlobalSearchResultDto(
                 totalResults,
-                (int) Math.ceil((double) totalResults / request.getSize()),
-                request.getPage(),
-                request.getSize(),
-                results);
+                (int) Math.ceil((double) totalResults / size),
+                page,
+                size,
+                results,
+                facets);
+    }
+
+    // Trigram matching needs pg_trgm; without it the search is full-text only
+    private String withTrigram(String sql, boolean trigram) {
+        return sql.replace("{trigramMatch}", trigram ? "OR d.title % q.raw" : "")
+                .replace("{trigramScore}", trigram ? "+ similarity(d.title, q.raw)" : "");
     }
 
-    private Map<String, Object> mapToResult(String entityType, Object entity) {
-        Map<String, Object> result = new HashMap<>();
-        result.put("type", entityType);
-        result.put("id", "id".equals(entityType) ? entity : null);
-        result.put("name", "name".equals(entityType) ? entity : null);
-        return result;
+    // Escape the snippet, then turn the selection markers into <mark> tags
+    private String toHtml(String highlight) {
+        if (highlight == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(highlight).replace(START_SEL, "<mark>").replace(STOP_SEL, "</mark>");
+    }
+
+    // "conf roo" -> "conf:* & roo:*"; only letters and digits reach to_tsquery
+    private String toPrefixQuery(String query) {
+        StringJoiner joiner = new StringJoiner(" & ");
+        for (String token : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                joiner.add(token + ":*");
+            }
+        }
+        return joiner.toString();
     }
 }
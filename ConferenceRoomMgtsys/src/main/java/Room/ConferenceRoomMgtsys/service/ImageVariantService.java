@@ -0,0 +1,374 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.w3c.dom.Node;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import Room.ConferenceRoomMgtsys.dto.image.ImageVariantsDto;
+
+/**
+ * Turns uploaded images into thumbnail, card and full-size copies. Each upload
+ * is decoded once (subsampled while decoding when it is far larger than the
+ * full-size variant), rotated upright from its EXIF orientation, scaled down
+ * in steps and re-encoded without any of the original metadata: progressive
+ * JPEG for opaque images, PNG when the image has transparency.
+ *
+ * Decoding and encoding run on the bounded {@code imageExecutor}; the caller
+ * waits for its own images so the URLs it stores point at files that exist.
+ * Variants are written to the {@link ContentStore}, so an image uploaded
+ * twice is stored once.
+ */
+@Service
+public class ImageVariantService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageVariantService.class);
+
+    private static final int THUMBNAIL_EDGE = 160;
+    private static final int CARD_EDGE = 640;
+    private static final int FULL_EDGE = 1600;
+
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private final ThreadPoolTaskExecutor imageExecutor;
+    private final ObjectMapper objectMapper;
+    private final ContentStore contentStore;
+
+    @Value("${file.upload-dir:/tmp/uploads}")
+    private String baseUploadDir;
+
+    @Value("${app.images.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    // Rejects decompression bombs before any pixels are decoded
+    @Value("${app.images.max-pixels:50000000}")
+    private long maxPixels;
+
+    public ImageVariantService(@Qualifier("imageExecutor") ThreadPoolTaskExecutor imageExecutor,
+            ObjectMapper objectMapper, ContentStore contentStore) {
+        this.imageExecutor = imageExecutor;
+        this.objectMapper = objectMapper;
+        this.contentStore = contentStore;
+    }
+
+    /**
+     * Store the variants of one upload and return their {@code uploads/...} URLs.
+     */
+    public ImageVariantsDto store(MultipartFile file) {
+        return storeAll(List.of(file)).get(0);
+    }
+
+    /**
+     * Store the variants of several uploads, processing them in parallel on the
+     * image pool. Empty parts are skipped. Variants already written when another
+     * image fails are left to the content sweep.
+     */
+    public List<ImageVariantsDto> storeAll(List<MultipartFile> files) {
+        List<CompletableFuture<ImageVariantsDto>> futures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) {
+                continue;
+            }
+            byte[] bytes;
+            try {
+                bytes = file.getBytes();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read uploaded image: " + e.getMessage());
+            }
+            futures.add(CompletableFuture.supplyAsync(() -> process(bytes), imageExecutor));
+        }
+
+        List<ImageVariantsDto> stored = new ArrayList<>();
+        RuntimeException failure = null;
+        for (CompletableFuture<ImageVariantsDto> future : futures) {
+            try {
+                stored.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException re ? re : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return stored;
+    }
+
+    /**
+     * Every URL in a stored variants JSON value, which may be a single object
+     * or an array of objects.
+     */
+    public List<String> variantUrls(String variantsJson) {
+        List<String> urls = new ArrayList<>();
+        if (variantsJson == null || variantsJson.isBlank()) {
+            return urls;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(variantsJson);
+            for (JsonNode node : root.isArray() ? root : List.of(root)) {
+                node.forEach(url -> {
+                    if (url.isTextual()) {
+                        urls.add(url.asText());
+                    }
+                });
+            }
+        } catch (JsonProcessingException e) {
+            logger.warn("Ignoring unreadable image variants {}: {}", variantsJson, e.getMessage());
+        }
+        return urls;
+    }
+
+    public String toJson(Object variants) {
+        try {
+            return objectMapper.writeValueAsString(variants);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize image variants: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Delete files referenced by {@code uploads/...} URLs. Content-addressed
+     * files may be shared and are left to the content sweep; anything outside
+     * the upload root is ignored.
+     */
+    public void deleteFiles(Collection<String> urls) {
+        Path root = Paths.get(baseUploadDir).toAbsolutePath().normalize();
+        for (String url : urls) {
+            if (url == null || ContentStore.isContentUrl(url)) {
+                continue;
+            }
+            String relative = url.startsWith("/") ? url.substring(1) : url;
+            if (!relative.startsWith("uploads/")) {
+                continue;
+            }
+            Path file = root.resolve(relative.substring("uploads/".length())).normalize();
+            if (!file.startsWith(root)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Failed to delete image file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private ImageVariantsDto process(byte[] bytes) {
+        BufferedImage source = decode(bytes);
+        boolean alpha = source.getColorModel().hasAlpha();
+
+        // Each variant is scaled from the next larger one
+        BufferedImage full = scaleToFit(source, FULL_EDGE);
+        BufferedImage card = scaleToFit(full, CARD_EDGE);
+        BufferedImage thumbnail = scaleToFit(card, THUMBNAIL_EDGE);
+
+        try {
+            ImageVariantsDto variants = new ImageVariantsDto(write(thumbnail, alpha), write(card, alpha),
+                    write(full, alpha));
+            logger.debug("Stored image variants {} ({}x{})", variants.getFull(), source.getWidth(),
+                    source.getHeight());
+            return variants;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store image: " + e.getMessage());
+        }
+    }
+
+    private BufferedImage decode(byte[] bytes) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("Unsupported image format. Upload a JPEG, PNG, GIF or BMP image.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("Image dimensions are too large");
+                }
+                int orientation = exifOrientation(reader.getImageMetadata(0));
+
+                // Decode at a fraction of the resolution when the full-size variant needs far less
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / FULL_EDGE);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return orient(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read image: " + e.getMessage());
+        }
+    }
+
+    // The Orientation tag from a JPEG's EXIF block, 1 (upright) when there is none
+    private int exifOrientation(IIOMetadata metadata) {
+        if (metadata == null || !"javax_imageio_jpeg_image_1.0".equals(metadata.getNativeMetadataFormatName())) {
+            return 1;
+        }
+        Node root = metadata.getAsTree("javax_imageio_jpeg_image_1.0");
+        for (Node sequence = root.getFirstChild(); sequence != null; sequence = sequence.getNextSibling()) {
+            if (!"markerSequence".equals(sequence.getNodeName())) {
+                continue;
+            }
+            for (Node marker = sequence.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                Node tag = marker.getAttributes() != null ? marker.getAttributes().getNamedItem("MarkerTag") : null;
+                if (tag != null && "225".equals(tag.getNodeValue())
+                        && ((IIOMetadataNode) marker).getUserObject() instanceof byte[] data) {
+                    int orientation = readOrientation(data);
+                    if (orientation > 0) {
+                        return orientation;
+                    }
+                }
+            }
+        }
+        return 1;
+    }
+
+    // APP1 payload: "Exif\0\0", then a TIFF header and IFD0
+    private int readOrientation(byte[] data) {
+        if (data.length < 14 || data[0] != 'E' || data[1] != 'x' || data[2] != 'i' || data[3] != 'f') {
+            return 0;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(data, 6, data.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd + 2 > tiff.limit()) {
+            return 0;
+        }
+        int entries = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == EXIF_ORIENTATION_TAG) {
+                int value = tiff.getShort(entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    // Applies the EXIF orientation and normalises to an RGB or ARGB raster
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);
+            default -> new AffineTransform();
+        };
+        boolean swap = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+
+    // Halves repeatedly, then one bilinear step to the target; never upscales
+    private BufferedImage scaleToFit(BufferedImage image, int maxEdge) {
+        int longest = Math.max(image.getWidth(), image.getHeight());
+        if (longest <= maxEdge) {
+            return image;
+        }
+        double ratio = (double) maxEdge / longest;
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = resize(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return current.getWidth() == targetWidth && current.getHeight() == targetHeight ? current
+                : resize(current, targetWidth, targetHeight);
+    }
+
+    private BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, image.getType());
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+
+    private String write(BufferedImage image, boolean png) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (png) {
+            ImageIO.write(image, "png", out);
+        } else {
+            writeJpeg(image, out);
+        }
+        return contentStore.put(out.toByteArray(), png ? "png" : "jpg");
+    }
+
+    private void writeJpeg(BufferedImage image, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -1,56 +1,58 @@
 package Room.ConferenceRoomMgtsys.service;
 
-import Room.ConferenceRoomMgtsys.enums.BookingStatus;
-import Room.ConferenceRoomMgtsys.model.Booking;
 import Room.ConferenceRoomMgtsys.repository.BookingRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import Room.ConferenceRoomMgtsys.repository.BookingRepository.BookingTransition;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 public class MeetingStatusUpdateService {
 
-    private static final Logger logger = LoggerFactory.getLogger(MeetingStatusUpdateService.class);
-
     private final BookingRepository bookingRepository;
-
-    public MeetingStatusUpdateService(BookingRepository bookingRepository) {
+    private final BookingIntervalIndex bookingIndex;
+    private final SchedulerRunMetrics schedulerRunMetrics;
+    private final BookingRollupService bookingRollupService;
+    private final DashboardCacheInvalidator dashboardCacheInvalidator;
+    private final RoomStatusPublisher roomStatusPublisher;
+
+    public MeetingStatusUpdateService(BookingRepository bookingRepository, BookingIntervalIndex bookingIndex,
+            SchedulerRunMetrics schedulerRunMetrics, BookingRollupService bookingRollupService,
+            DashboardCacheInvalidator dashboardCacheInvalidator, RoomStatusPublisher roomStatusPublisher) {
         this.bookingRepository = bookingRepository;
+        this.bookingIndex = bookingIndex;
+        this.schedulerRunMetrics = schedulerRunMetrics;
+        this.bookingRollupService = bookingRollupService;
+        this.dashboardCacheInvalidator = dashboardCacheInvalidator;
+        this.roomStatusPublisher = roomStatusPublisher;
     }
 
     @Scheduled(fixedRate = 60000) // Run every minute
     @Transactional
     public void updateMeetingStatuses() {
-        logger.info("Running scheduled meeting status update at {}", LocalDateTime.now(ZoneId.of("Africa/Kigali")));
+        long started = System.nanoTime();
         // Get current time in Africa/Kigali timezone
         LocalDateTime currentTime = LocalDateTime.now(ZoneId.of("Africa/Kigali"));
 
-        // Find all approved bookings that have ended
-        List<Booking> endedBookings = bookingRepository.findEndedBookings(currentTime);
-
-        if (endedBookings.isEmpty()) {
-            logger.info("No ended bookings found to update.");
-            return;
-        }
-
-        logger.info("Found {} ended bookings to update.", endedBookings.size());
-        for (Booking booking : endedBookings) {
-            logger.info("Updating booking ID: {} for room {} - Purpose: {}", booking.getId(),
-                    booking.getRoom().getName(), booking.getPurpose());
-            // Update booking status to COMPLETED
-            booking.setStatus(BookingStatus.COMPLETED);
-            booking.setIsActive(false);
-
-            // Save the updated booking
-            bookingRepository.save(booking);
-            logger.info("Booking ID: {} updated to COMPLETED and isActive=false.", booking.getId());
-        }
-        logger.info("Finished scheduled meeting status update.");
+        // Mark all approved bookings that have ended as COMPLETED in one statement
+        List<BookingTransition> completed = bookingRepository.completeEndedBookings(currentTime, currentTime);
+        bookingIndex.removeAll(completed.stream().map(BookingTransition::getId).collect(Collectors.toList()));
+        bookingRollupService.markDirty(completed);
+        dashboardCacheInvalidator.bookingsTransitioned(completed);
+        roomStatusPublisher.bookingsChanged(completed);
+
+        // Lag: how long the oldest completed meeting had already been over
+        Duration lag = completed.stream()
+                .map(BookingTransition::getEndTime)
+                .min(LocalDateTime::compareTo)
+                .map(oldest -> Duration.between(oldest, currentTime))
+                .orElse(Duration.ZERO);
+        schedulerRunMetrics.record("meeting-status-update", started, completed.size(), lag);
     }
-}
\ No newline at end of file
+}
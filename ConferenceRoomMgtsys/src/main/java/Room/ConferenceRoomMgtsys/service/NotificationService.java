@@ -1,9 +1,12 @@
 package Room.ConferenceRoomMgtsys.service;
 
+import static Room.ConferenceRoomMgtsys.service.TransactionHooks.afterCommit;
+
 import Room.ConferenceRoomMgtsys.dto.notification.NotificationResponseDto;
 import Room.ConferenceRoomMgtsys.dto.notification.FrontendNotificationDto;
 import Room.ConferenceRoomMgtsys.model.Notification;
 import Room.ConferenceRoomMgtsys.model.User;
+import Room.ConferenceRoomMgtsys.model.Organization;
 import Room.ConferenceRoomMgtsys.model.Room;
 import Room.ConferenceRoomMgtsys.repository.NotificationRepository;
 import Room.ConferenceRoomMgtsys.repository.RoomRepository;
@@ -11,28 +14,59 @@ import Room.ConferenceRoomMgtsys.repository.UserRepository;
 import Room.ConferenceRoomMgtsys.enums.NotificationType;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 public class NotificationService {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+    private static final Pattern ISO_DATE = Pattern.compile("(\\d{4}-\\d{2}-\\d{2})");
+
     private final NotificationRepository notificationRepository;
     private final WebSocketNotificationService webSocketNotificationService;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
+    private final UnreadNotificationCounter unreadCounter;
+    private final SchedulerRunMetrics schedulerRunMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final long retentionReadHours;
+    private final int retentionChunkSize;
 
     public NotificationService(NotificationRepository notificationRepository,
             WebSocketNotificationService webSocketNotificationService, RoomRepository roomRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository, UnreadNotificationCounter unreadCounter,
+            SchedulerRunMetrics schedulerRunMetrics, PlatformTransactionManager transactionManager,
+            @Value("${app.notifications.retention.read-hours:24}") long retentionReadHours,
+            @Value("${app.notifications.retention.chunk-size:1000}") int retentionChunkSize) {
         this.notificationRepository = notificationRepository;
         this.webSocketNotificationService = webSocketNotificationService;
         this.roomRepository = roomRepository;
         this.userRepository = userRepository;
+        this.unreadCounter = unreadCounter;
+        this.schedulerRunMetrics = schedulerRunMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionReadHours = retentionReadHours;
+        this.retentionChunkSize = retentionChunkSize;
     }
 
     @Transactional
@@ -48,7 +82,10 @@ public class NotificationService {
         notification.setActionUrl(actionUrl);
 
         Notification savedNotification = notificationRepository.save(notification);
-        webSocketNotificationService.sendNotification(user, savedNotification);
+        afterCommit(() -> {
+            int unread = unreadCounter.add(user.getId(), 1);
+            webSocketNotificationService.sendNotification(user, savedNotification, unread);
+        });
         return savedNotification;
     }
 
@@ -58,14 +95,6 @@ public class NotificationService {
      */
     @Transactional
     public void createRoomAvailableNotification(Room room, User adminUser) {
-        // Get all active users across all organizations to notify them about the new
-        // room
-        List<User> allActiveUsers = userRepository.findByIsActive(true);
-
-        System.out.println(
-                "Creating notifications for room: " + room.getName() + " by admin: " + adminUser.getEmail());
-        System.out.println("Found " + allActiveUsers.size() + " active users to notify");
-
         String title = "New Room Available";
         java.time.LocalDate todayKigali = java.time.LocalDate.now(java.time.ZoneId.of("Africa/Kigali"));
         String message = String.format(
@@ -77,17 +106,9 @@ public class NotificationService {
                 room.getOrganization() != null ? room.getOrganization().getName() : "Unknown Organization");
         String actionUrl = "/rooms/" + room.getId() + "?visibleDate=" + todayKigali.toString();
 
-        // Create notifications for all active users (except the admin who made the room
-        // available)
-        int notificationCount = 0;
-        for (User user : allActiveUsers) {
-            if (!user.getId().equals(adminUser.getId())) {
-                createNotification(user, NotificationType.ROOM_AVAILABLE, title, message, null, room.getId().toString(),
-                        actionUrl);
-                notificationCount++;
-            }
-        }
-        System.out.println("Created " + notificationCount + " notifications for room: " + room.getName());
+        // Notify all active users (except the admin who made the room available)
+        int notificationCount = broadcastToActiveUsers(adminUser, room, title, message, actionUrl, todayKigali);
+        logger.info("Created {} notifications for room: {}", notificationCount, room.getName());
     }
 
     /**
@@ -96,143 +117,124 @@ public class NotificationService {
      */
     @Transactional
     public void createRoomVisibilityNotification(Room room, User adminUser, java.time.LocalDate date) {
-        // Get all active users across all organizations to notify them about the new
-        // room visibility
-        List<User> allActiveUsers = userRepository.findByIsActive(true);
+        createRoomVisibilityNotifications(List.of(room), adminUser, date);
+    }
 
+    /**
+     * Notify all active users that the given rooms are visible for a date.
+     * Issues one INSERT...SELECT per room.
+     */
+    @Transactional
+    public void createRoomVisibilityNotifications(List<Room> rooms, User adminUser, java.time.LocalDate date) {
         String title = "Room Now Visible";
-        String message = String.format(
-                "Room '%s' is now visible and available for booking on %s. Added by %s (%s) from %s",
-                room.getName(),
-                date.toString(),
-                adminUser.getFirstName() + " " + adminUser.getLastName(),
-                adminUser.getRole(),
-                room.getOrganization() != null ? room.getOrganization().getName() : "Unknown Organization");
-        String actionUrl = "/rooms/" + room.getId();
-
-        // Create notifications for all active users (except the admin who made the room
-        // visible)
-        int notificationCount = 0;
-        for (User user : allActiveUsers) {
-            if (!user.getId().equals(adminUser.getId())) {
-                createNotification(user, NotificationType.ROOM_AVAILABLE, title, message, null, room.getId().toString(),
-                        actionUrl);
-                notificationCount++;
-            }
+        for (Room room : rooms) {
+            String message = String.format(
+                    "Room '%s' is now visible and available for booking on %s. Added by %s (%s) from %s",
+                    room.getName(),
+                    date.toString(),
+                    adminUser.getFirstName() + " " + adminUser.getLastName(),
+                    adminUser.getRole(),
+                    room.getOrganization() != null ? room.getOrganization().getName() : "Unknown Organization");
+            String actionUrl = "/rooms/" + room.getId();
+
+            int notificationCount = broadcastToActiveUsers(adminUser, room, title, message, actionUrl, date);
+            logger.info("Created {} visibility notifications for room: {} for date: {}", notificationCount,
+                    room.getName(), date);
         }
-        System.out.println("Created " + notificationCount + " visibility notifications for room: " + room.getName()
-                + " for date: " + date);
+    }
+
+    // Insert one ROOM_AVAILABLE row per active user in a single statement. No frame is
+    // pushed: clients pick the rows up on their next notification poll
+    private int broadcastToActiveUsers(User actor, Room room, String title, String message, String actionUrl,
+            java.time.LocalDate visibleDate) {
+        LocalDateTime now = LocalDateTime.now();
+        String roomId = room.getId().toString();
+        Organization organization = room.getOrganization();
+        List<UUID> recipients = notificationRepository.insertForAllActiveUsersExcept(actor.getId(),
+                NotificationType.ROOM_AVAILABLE.name(), title, message, roomId, actionUrl,
+                actor.getFirstName() + " " + actor.getLastName(), actor.getRole().name(),
+                organization != null ? organization.getId() : null,
+                organization != null ? organization.getName() : null, visibleDate, now);
+        afterCommit(() -> unreadCounter.incrementAll(recipients));
+        return recipients.size();
     }
 
     /**
-     * Get frontend notifications for the notification bell
-     * Returns notifications in the format expected by the frontend
-     * Notifications disappear after 24 hours ONLY if they've been read
+     * Get frontend notifications for the notification bell, newest first.
+     * Unread notifications are always included; read ones only for 24 hours
+     * after they were read.
      */
-    public List<FrontendNotificationDto> getFrontendNotifications(User user) {
-        // Get all notifications for the user (using a large page size to get all)
-        Pageable pageable = org.springframework.data.domain.PageRequest.of(0, 1000); // Get up to 1000 notifications
-        Page<Notification> notificationPage = notificationRepository.findByUser(user, pageable);
-        List<Notification> allNotifications = notificationPage.getContent();
-
-        System.out.println("Found " + allNotifications.size() + " total notifications for user: " + user.getEmail());
-
-        // For debugging, let's show all notifications first
-        for (Notification n : allNotifications) {
-            System.out.println("Notification: ID=" + n.getId() + ", Type=" + n.getType() + ", IsRead=" + n.getIsRead()
-                    + ", CreatedAt=" + n.getCreatedAt());
+    public List<FrontendNotificationDto> getFrontendNotifications(User user, int page, int size) {
+        LocalDateTime readSince = LocalDateTime.now(ZoneId.of("Africa/Kigali")).minusHours(24);
+        List<Notification> notifications = notificationRepository.findBellNotifications(user,
+                NotificationType.ROOM_AVAILABLE, readSince, PageRequest.of(page, size));
+
+        // Resolve every referenced room with one IN query
+        Set<UUID> roomIds = new HashSet<>();
+        for (Notification notification : notifications) {
+            UUID roomId = parseUuid(notification.getRoomId());
+            if (roomId != null) {
+                roomIds.add(roomId);
+            }
         }
+        Map<UUID, Room> rooms = roomIds.isEmpty() ? Map.of()
+                : roomRepository.findAllById(roomIds).stream()
+                        .collect(Collectors.toMap(Room::getId, Function.identity()));
 
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("Africa/Kigali"));
-        LocalDateTime twentyFourHoursAgo = now.minusHours(24);
-
-        // Filter notifications based on read status and time
-        List<Notification> filteredNotifications = allNotifications.stream()
-                .filter(n -> {
-                    System.out.println("Checking notification: Type=" + n.getType() + ", IsRead=" + n.getIsRead());
-                    return n.getType() == NotificationType.ROOM_AVAILABLE;
-                })
-                .filter(n -> {
-                    // If notification is unread, show it regardless of time
-                    if (!n.getIsRead()) {
-                        System.out.println("Including unread notification: " + n.getId());
-                        return true;
-                    }
-                    // If notification is read, only show if it was read within last 24 hours
-                    if (n.getReadAt() != null && n.getReadAt().isAfter(twentyFourHoursAgo)) {
-                        System.out.println("Including recently read notification: " + n.getId());
-                        return true;
-                    }
-                    // Hide read notifications older than 24 hours
-                    System.out.println("Excluding old read notification: " + n.getId());
-                    return false;
-                })
+        logger.debug("Returning {} bell notifications for user {}", notifications.size(), user.getId());
+        return notifications.stream()
+                .map(n -> convertToFrontendDto(n, rooms.get(parseUuid(n.getRoomId()))))
                 .collect(Collectors.toList());
-
-        System.out.println("Filtering for ROOM_AVAILABLE notifications...");
-        System.out.println("Returning " + filteredNotifications.size() + " ROOM_AVAILABLE notifications");
-
-        List<FrontendNotificationDto> result = filteredNotifications.stream()
-                .map(this::convertToFrontendDto)
-                .collect(Collectors.toList());
-
-        System.out.println("Converted to " + result.size() + " FrontendNotificationDto objects");
-        for (FrontendNotificationDto dto : result) {
-            System.out.println("DTO: " + dto.getRoomName() + " by " + dto.getAdminName() + " (" + dto.getAdminRole()
-                    + ") from " + dto.getOrganizationName());
-        }
-
-        return result;
     }
 
     @Transactional
     public Notification markAsRead(UUID notificationId) {
-        Notification notification = notificationRepository.findById(notificationId)
+        // Conditional update: of two concurrent calls only one sees the row unread
+        boolean wasUnread = notificationRepository.markAsReadIfUnread(notificationId,
+                LocalDateTime.now(ZoneId.of("Africa/Kigali"))) == 1;
+        Notification savedNotification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new RuntimeException("Notification not found"));
-        notification.setIsRead(true);
-        notification.setReadAt(LocalDateTime.now(ZoneId.of("Africa/Kigali")));
-
-        Notification savedNotification = notificationRepository.save(notification);
-        webSocketNotificationService.sendNotification(notification.getUser(), savedNotification);
+        User user = savedNotification.getUser();
+        afterCommit(() -> {
+            int unread = wasUnread ? unreadCounter.add(user.getId(), -1) : unreadCounter.get(user.getId());
+            webSocketNotificationService.sendNotification(user, savedNotification, unread);
+        });
         return savedNotification;
     }
 
     @Transactional
-    public void markAllNotificationsAsRead(User user) {
-        List<Notification> unreadNotifications = notificationRepository.findUnreadNotificationsByUser(user);
-
-        System.out.println(
-                "Marking " + unreadNotifications.size() + " notifications as read for user: " + user.getEmail());
-
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("Africa/Kigali"));
-        for (Notification notification : unreadNotifications) {
-            notification.setIsRead(true);
-            notification.setReadAt(now);
-            notificationRepository.save(notification);
-        }
-
-        System.out.println("Successfully marked all notifications as read for user: " + user.getEmail());
+    public int markAllNotificationsAsRead(User user) {
+        int updated = notificationRepository.markAllAsReadByUser(user, LocalDateTime.now(ZoneId.of("Africa/Kigali")));
+        afterCommit(() -> {
+            unreadCounter.reset(user.getId());
+            webSocketNotificationService.sendUnreadCount(user.getId(), 0);
+        });
+        logger.info("Marked {} notifications as read for user {}", updated, user.getId());
+        return updated;
     }
 
     /**
-     * Clean up old read notifications (older than 24 hours)
-     * This can be called periodically or manually
+     * Retention job: delete notifications read more than
+     * {@code app.notifications.retention.read-hours} ago, in chunks of
+     * {@code app.notifications.retention.chunk-size}, each in its own transaction.
      */
-    @Transactional
-    public void cleanupOldReadNotifications() {
-        LocalDateTime cutoffTime = LocalDateTime.now(ZoneId.of("Africa/Kigali")).minusHours(24);
-        Pageable pageable = org.springframework.data.domain.PageRequest.of(0, 1000);
-
-        Page<Notification> oldReadNotifications = notificationRepository.findOldReadNotifications(cutoffTime, pageable);
-
-        System.out.println("Found " + oldReadNotifications.getTotalElements() + " old read notifications to cleanup");
-
-        for (Notification notification : oldReadNotifications.getContent()) {
-            notificationRepository.delete(notification);
-        }
-
-        System.out.println(
-                "Successfully cleaned up " + oldReadNotifications.getTotalElements() + " old read notifications");
+    @Scheduled(cron = "${app.notifications.retention.cron:0 15 * * * *}")
+    public int cleanupOldReadNotifications() {
+        long started = System.nanoTime();
+        LocalDateTime cutoffTime = LocalDateTime.now(ZoneId.of("Africa/Kigali")).minusHours(retentionReadHours);
+        LocalDateTime oldest = notificationRepository.findOldestReadBefore(cutoffTime);
+
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(
+                    status -> notificationRepository.deleteReadBefore(cutoffTime, retentionChunkSize));
+            total += deleted;
+        } while (deleted == retentionChunkSize);
+
+        Duration lag = oldest != null ? Duration.between(oldest, cutoffTime) : Duration.ZERO;
+        schedulerRunMetrics.record("notification-retention", started, total, lag);
+        return total;
     }
 
     public Page<NotificationResponseDto> getUserNotifications(User user, Pageable pageable) {
@@ -248,102 +250,90 @@ public class NotificationService {
     }
 
     public int getUnreadCount(User user) {
-        return notificationRepository.findUnreadNotificationsByUser(user).size();
+        return unreadCounter.get(user.getId());
     }
 
-    private FrontendNotificationDto convertToFrontendDto(Notification notification) {
-        // Get room details
-        Room room = null;
-        if (notification.getRoomId() != null) {
-            try {
-                room = roomRepository.findById(UUID.fromString(notification.getRoomId())).orElse(null);
-            } catch (Exception e) {
-                // Handle invalid UUID
-            }
+    private FrontendNotificationDto convertToFrontendDto(Notification notification, Room room) {
+        String adminName = notification.getActorName();
+        String adminRole = notification.getActorRole();
+        String organizationName = notification.getOrganizationName();
+        LocalDate visibleDate = notification.getVisibleDate();
+
+        // Rows written before the structured columns existed only carry the details in the message
+        if (adminName == null) {
+            String[] legacy = parseLegacyActor(notification.getMessage());
+            adminName = legacy[0];
+            adminRole = legacy[1];
+            organizationName = legacy[2];
         }
-
-        // Extract admin information from the notification message
-        String adminName = "Admin";
-        String adminRole = "ADMIN";
-        String organizationName = "Unknown Organization";
-
-        // Parse the message to extract admin information
-        String message = notification.getMessage();
-        if (message != null && message.contains("Added by")) {
-            try {
-                // Extract admin name and role from message
-                // Format: "Room 'X' is now available for booking. Added by John Doe (ADMIN)
-                // from Organization Name"
-                int addedByIndex = message.indexOf("Added by");
-                if (addedByIndex != -1) {
-                    String afterAddedBy = message.substring(addedByIndex + 9); // "Added by " is 9 characters
-                    int fromIndex = afterAddedBy.indexOf(" from ");
-                    if (fromIndex != -1) {
-                        String adminInfo = afterAddedBy.substring(0, fromIndex);
-                        organizationName = afterAddedBy.substring(fromIndex + 6); // " from " is 6 characters
-
-                        // Extract admin name and role from "John Doe (ADMIN)"
-                        int roleStart = adminInfo.lastIndexOf(" (");
-                        int roleEnd = adminInfo.lastIndexOf(")");
-                        if (roleStart != -1 && roleEnd != -1) {
-                            adminName = adminInfo.substring(0, roleStart);
-                            adminRole = adminInfo.substring(roleStart + 2, roleEnd);
-                        } else {
-                            adminName = adminInfo;
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                System.out.println("Error parsing admin info from message: " + e.getMessage());
-            }
-        }
-
-        // Fallback to room organization if parsing failed
-        if (room != null && room.getOrganization() != null && organizationName.equals("Unknown Organization")) {
+        if (organizationName == null && room != null && room.getOrganization() != null) {
             organizationName = room.getOrganization().getName();
         }
+        if (visibleDate == null) {
+            visibleDate = parseLegacyVisibleDate(notification);
+        }
 
         FrontendNotificationDto dto = new FrontendNotificationDto(
                 notification.getId().toString(),
                 room != null ? room.getName() : "Unknown Room",
-                adminName,
-                adminRole,
-                organizationName,
+                adminName != null ? adminName : "Admin",
+                adminRole != null ? adminRole : "ADMIN",
+                organizationName != null ? organizationName : "Unknown Organization",
                 notification.getCreatedAt(),
                 notification.getType().name());
+        dto.setVisibleDate(visibleDate);
+        return dto;
+    }
 
-        // Try to parse a visible date from the message when present
-        try {
-            String msg = notification.getMessage();
-            if (msg != null && msg.contains("available for booking on")) {
-                // Expecting: ... available for booking on YYYY-MM-DD
-                int idx = msg.indexOf("available for booking on");
-                String after = msg.substring(idx + "available for booking on".length()).trim();
-                String dateStr = after.split("[ .]")[0];
-                dto.setVisibleDate(java.time.LocalDate.parse(dateStr));
-            }
-            // Generic fallback: find the first YYYY-MM-DD in the message
-            if (dto.getVisibleDate() == null && msg != null) {
-                java.util.regex.Matcher m = java.util.regex.Pattern.compile("(\\d{4}-\\d{2}-\\d{2})").matcher(msg);
-                if (m.find()) {
-                    dto.setVisibleDate(java.time.LocalDate.parse(m.group(1)));
+    // "... Added by John Doe (ADMIN) from Organization Name" -> { name, role, organization }
+    private String[] parseLegacyActor(String message) {
+        String[] result = new String[3];
+        int addedByIndex = message != null ? message.indexOf("Added by ") : -1;
+        if (addedByIndex == -1) {
+            return result;
+        }
+        String afterAddedBy = message.substring(addedByIndex + "Added by ".length());
+        int fromIndex = afterAddedBy.indexOf(" from ");
+        if (fromIndex == -1) {
+            return result;
+        }
+        String adminInfo = afterAddedBy.substring(0, fromIndex);
+        result[2] = afterAddedBy.substring(fromIndex + " from ".length());
+        int roleStart = adminInfo.lastIndexOf(" (");
+        int roleEnd = adminInfo.lastIndexOf(")");
+        if (roleStart != -1 && roleEnd > roleStart) {
+            result[0] = adminInfo.substring(0, roleStart);
+            result[1] = adminInfo.substring(roleStart + 2, roleEnd);
+        } else {
+            result[0] = adminInfo;
+        }
+        return result;
+    }
+
+    // First YYYY-MM-DD in the message or action URL, else the creation date
+    private LocalDate parseLegacyVisibleDate(Notification notification) {
+        for (String source : new String[] { notification.getMessage(), notification.getActionUrl() }) {
+            Matcher matcher = ISO_DATE.matcher(source != null ? source : "");
+            if (matcher.find()) {
+                try {
+                    return LocalDate.parse(matcher.group(1));
+                } catch (RuntimeException e) {
+                    // not a real date; keep looking
                 }
             }
-            // Parse from actionUrl query param if present
-            if (dto.getVisibleDate() == null && notification.getActionUrl() != null && notification.getActionUrl().contains("visibleDate=")) {
-                String q = notification.getActionUrl();
-                int i = q.indexOf("visibleDate=");
-                String value = q.substring(i + "visibleDate=".length());
-                if (value.contains("&")) value = value.substring(0, value.indexOf('&'));
-                dto.setVisibleDate(java.time.LocalDate.parse(value));
-            }
-            // Final fallback: use notification creation date (Kigali)
-            if (dto.getVisibleDate() == null && notification.getCreatedAt() != null) {
-                dto.setVisibleDate(notification.getCreatedAt().atZone(java.time.ZoneId.of("Africa/Kigali")).toLocalDate());
-            }
-        } catch (Exception ignored) {}
+        }
+        return notification.getCreatedAt() != null ? notification.getCreatedAt().toLocalDate() : null;
+    }
 
-        return dto;
+    private UUID parseUuid(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     private NotificationResponseDto convertToDto(Notification notification) {
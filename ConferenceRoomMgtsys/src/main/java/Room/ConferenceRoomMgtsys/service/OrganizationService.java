@@ -1,12 +1,16 @@
 package Room.ConferenceRoomMgtsys.service;
 
+import Room.ConferenceRoomMgtsys.dto.image.ImageVariantsDto;
 import Room.ConferenceRoomMgtsys.dto.organization.OrganizationCreateDto;
 import Room.ConferenceRoomMgtsys.dto.organization.OrganizationResponseDto;
 import Room.ConferenceRoomMgtsys.model.*;
 import Room.ConferenceRoomMgtsys.enums.UserRole;
 import Room.ConferenceRoomMgtsys.enums.ApprovalStatus;
 import Room.ConferenceRoomMgtsys.repository.*;
+import Room.ConferenceRoomMgtsys.config.CacheConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -17,8 +21,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import jakarta.annotation.PostConstruct;
 
 @Service
@@ -29,6 +35,8 @@ public class OrganizationService {
     private final BookingRepository bookingRepository;
     private final AvailabilityRepository availabilityRepository;
     private final RoomCommunicationRepository roomCommunicationRepository;
+    private final BookingIntervalIndex bookingIndex;
+    private final ImageVariantService imageVariantService;
 
     @Value("${file.upload-dir}")
     private String baseUploadDir;
@@ -40,13 +48,17 @@ public class OrganizationService {
             RoomRepository roomRepository,
             BookingRepository bookingRepository,
             AvailabilityRepository availabilityRepository,
-            RoomCommunicationRepository roomCommunicationRepository) {
+            RoomCommunicationRepository roomCommunicationRepository,
+            BookingIntervalIndex bookingIndex,
+            ImageVariantService imageVariantService) {
         this.organizationRepository = organizationRepository;
         this.userRepository = userRepository;
         this.roomRepository = roomRepository;
         this.bookingRepository = bookingRepository;
         this.availabilityRepository = availabilityRepository;
         this.roomCommunicationRepository = roomCommunicationRepository;
+        this.bookingIndex = bookingIndex;
+        this.imageVariantService = imageVariantService;
     }
 
     @PostConstruct
@@ -59,13 +71,23 @@ public class OrganizationService {
         }
     }
 
-    private String sanitizeFilename(String filename) {
-        // Remove any path components
-        String name = filename.substring(filename.lastIndexOf('/') + 1);
-        // Replace spaces and special characters with underscores
-        return name.replaceAll("[^a-zA-Z0-9.-]", "_");
+    // logoUrl points at the card-size variant, which covers every place a logo is shown
+    private void setLogo(Organization organization, ImageVariantsDto variants) {
+        organization.setLogoUrl(variants.getCard());
+        organization.setLogoVariants(imageVariantService.toJson(variants));
     }
 
+    // Removes a local logo and its variants; external (http) logos are left alone
+    private void deleteLogo(Organization organization) {
+        List<String> urls = new ArrayList<>(imageVariantService.variantUrls(organization.getLogoVariants()));
+        if (organization.getLogoUrl() != null && !organization.getLogoUrl().isBlank()
+                && !organization.getLogoUrl().startsWith("http")) {
+            urls.add(organization.getLogoUrl());
+        }
+        imageVariantService.deleteFiles(urls);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.ORGANIZATIONS, allEntries = true)
     @Transactional
     public Organization createOrganization(OrganizationCreateDto createDto, MultipartFile logo) {
         // Check if organization exists
@@ -85,20 +107,7 @@ public class OrganizationService {
 
         // Handle logo upload
         if (logo != null && !logo.isEmpty()) {
-            try {
-                // Generate unique filename with sanitized original filename
-                String sanitizedFilename = sanitizeFilename(logo.getOriginalFilename());
-                String filename = UUID.randomUUID().toString() + "_" + sanitizedFilename;
-                Path filePath = this.organizationLogosDir.resolve(filename);
-
-                // Save the file
-                Files.copy(logo.getInputStream(), filePath);
-
-                // Set the logo URL, making sure to use forward slashes for the URL
-                organization.setLogoUrl("uploads/organizations/" + filename);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to upload logo: " + e.getMessage());
-            }
+            setLogo(organization, imageVariantService.store(logo));
         }
 
         // Save organization
@@ -107,12 +116,13 @@ public class OrganizationService {
         return organization;
     }
 
+    @Cacheable(cacheNames = CacheConfig.ORGANIZATIONS, key = "'active'")
     @Transactional(readOnly = true)
     public List<OrganizationResponseDto> getAllOrganizations() {
         return organizationRepository.findByIsActive(true)
                 .stream()
                 .map(this::convertToDto)
-                .toList();
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -160,6 +170,7 @@ public class OrganizationService {
                 .orElseThrow(() -> new IllegalArgumentException("Organization not found"));
     }
 
+    @CacheEvict(cacheNames = { CacheConfig.ORGANIZATIONS, CacheConfig.ROOMS }, allEntries = true)
     @Transactional
     public Organization updateOrganization(UUID id, OrganizationCreateDto updateDto, MultipartFile logo) {
         Organization organization = organizationRepository.findById(id)
@@ -180,51 +191,22 @@ public class OrganizationService {
 
         // Handle logo upload
         if (logo != null && !logo.isEmpty()) {
-            try {
-                // Delete old logo if it's a local file and exists
-                if (organization.getLogoUrl() != null && !organization.getLogoUrl().isBlank()
-                        && !organization.getLogoUrl().startsWith("http")) {
-                    String oldLogoPath = organization.getLogoUrl().replace("uploads/organizations/", "");
-                    Path oldLogoFile = this.organizationLogosDir.resolve(oldLogoPath);
-                    Files.deleteIfExists(oldLogoFile);
-                }
-
-                // Generate unique filename with sanitized original filename
-                String sanitizedFilename = sanitizeFilename(logo.getOriginalFilename());
-                String filename = UUID.randomUUID().toString() + "_" + sanitizedFilename;
-                Path filePath = this.organizationLogosDir.resolve(filename);
-
-                // Save the file
-                Files.copy(logo.getInputStream(), filePath);
-
-                // Set the logo URL
-                organization.setLogoUrl("uploads/organizations/" + filename);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to upload logo: " + e.getMessage());
-            }
+            ImageVariantsDto variants = imageVariantService.store(logo);
+            deleteLogo(organization);
+            setLogo(organization, variants);
         }
 
         return organizationRepository.save(organization);
     }
 
+    @CacheEvict(cacheNames = { CacheConfig.ORGANIZATIONS, CacheConfig.ROOMS, CacheConfig.DAY_VISIBILITY }, allEntries = true)
     @Transactional
     public void deleteOrganization(UUID id) {
         Organization organization = organizationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Organization not found"));
 
-        // Delete the logo file if it exists and is a local file
-        if (organization.getLogoUrl() != null && !organization.getLogoUrl().isBlank()
-                && !organization.getLogoUrl().startsWith("http")) {
-            try {
-                String logoPath = organization.getLogoUrl().replace("uploads/organizations/", "");
-                Path logoFile = this.organizationLogosDir.resolve(logoPath);
-                Files.deleteIfExists(logoFile);
-            } catch (IOException e) {
-                // Log the exception but don't rethrow, as we want to proceed with deleting the
-                // organization
-                System.err.println("Failed to delete organization logo: " + e.getMessage());
-            }
-        }
+        // Delete the logo files if they are local files
+        deleteLogo(organization);
 
         // Find all rooms for the organization
         List<Room> rooms = roomRepository.findAllByOrganization(organization);
@@ -239,6 +221,7 @@ public class OrganizationService {
                 }
                 bookingRepository.deleteAll(bookings);
             }
+            bookingIndex.removeRoom(room.getId());
 
             List<Availability> availabilities = availabilityRepository.findByRoom(room);
             if (availabilities != null && !availabilities.isEmpty()) {
@@ -272,6 +255,7 @@ public class OrganizationService {
         dto.setPhone(organization.getPhone());
         dto.setEmail(organization.getEmail());
         dto.setLogoUrl(organization.getLogoUrl());
+        dto.setLogoVariants(organization.getLogoVariants());
         dto.setTotalUsers(organizationRepository.countActiveUsersByOrganization(organization).intValue());
         dto.setTotalRooms(organizationRepository.countActiveRoomsByOrganization(organization).intValue());
         return dto;
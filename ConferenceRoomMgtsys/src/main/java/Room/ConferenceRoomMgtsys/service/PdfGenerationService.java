@@ -11,6 +11,9 @@ import org.thymeleaf.context.Context;
 import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 
+import com.openhtmltopdf.extend.FSCacheEx;
+import com.openhtmltopdf.extend.FSCacheValue;
+import com.openhtmltopdf.extend.impl.FSDefaultCacheStore;
 import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
 
 @Service
@@ -18,6 +21,8 @@ public class PdfGenerationService {
 
     private static final Logger logger = LoggerFactory.getLogger(PdfGenerationService.class);
     private final TemplateEngine templateEngine;
+    // Font metrics shared across renders instead of being re-read for every document
+    private final FSCacheEx<String, FSCacheValue> fontMetricsCache = new FSDefaultCacheStore();
 
     public PdfGenerationService() {
         ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
@@ -25,6 +30,9 @@ public class PdfGenerationService {
         templateResolver.setSuffix(".html");
         templateResolver.setTemplateMode(TemplateMode.HTML);
         templateResolver.setCharacterEncoding("UTF-8");
+        // Parsed templates are kept for the lifetime of the engine
+        templateResolver.setCacheable(true);
+        templateResolver.setCacheTTLMs(null);
 
         this.templateEngine = new TemplateEngine();
         this.templateEngine.setTemplateResolver(templateResolver);
@@ -38,22 +46,16 @@ public class PdfGenerationService {
         // Log the generated HTML for debugging
         logger.debug("Generated HTML for template {}: {}", templateName, html);
 
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            PdfRendererBuilder builder = new PdfRendererBuilder();
-            builder.useFastMode();
-
-            // Use a more robust approach for HTML content
-            builder.withHtmlContent(html, "/");
-            builder.toStream(outputStream);
-            builder.run();
-            return outputStream.toByteArray();
+        try {
+            return render(html);
         } catch (Exception e) {
             logger.error("Error generating PDF for template {}: {}", templateName, e.getMessage(), e);
 
-            // Try with a simpler HTML structure if the original fails
+            // Retry the already-rendered HTML wrapped in a simpler, well-formed structure
             try {
                 logger.info("Attempting to generate PDF with simplified HTML structure");
-                return generatePdfWithSimpleHtml(templateName, data);
+                return render("<!DOCTYPE html><html><head><meta charset=\"UTF-8\"></head><body>" + html
+                        + "</body></html>");
             } catch (Exception fallbackException) {
                 logger.error("Fallback PDF generation also failed: {}", fallbackException.getMessage(),
                         fallbackException);
@@ -62,22 +64,15 @@ public class PdfGenerationService {
         }
     }
 
-    private byte[] generatePdfWithSimpleHtml(String templateName, Map<String, Object> data) throws Exception {
-        Context context = new Context();
-        context.setVariables(data);
-        String html = templateEngine.process(templateName, context);
-
-        // Create a simple, well-formed HTML structure
-        String simpleHtml = "<!DOCTYPE html><html><head><meta charset=\"UTF-8\"></head><body>" + html
-                + "</body></html>";
-
+    private byte[] render(String html) throws Exception {
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
             PdfRendererBuilder builder = new PdfRendererBuilder();
             builder.useFastMode();
-            builder.withHtmlContent(simpleHtml, "/");
+            builder.useCacheStore(PdfRendererBuilder.CacheStore.PDF_FONT_METRICS, fontMetricsCache);
+            builder.withHtmlContent(html, "/");
             builder.toStream(outputStream);
             builder.run();
             return outputStream.toByteArray();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,7 @@
 package Room.ConferenceRoomMgtsys.service;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
@@ -12,13 +9,13 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import Room.ConferenceRoomMgtsys.dto.image.ImageVariantsDto;
 import Room.ConferenceRoomMgtsys.dto.user.PasswordChangeRequestDto;
 import Room.ConferenceRoomMgtsys.dto.user.ProfileUpdateDto;
 import Room.ConferenceRoomMgtsys.enums.ApprovalStatus;
@@ -50,8 +47,8 @@ public class ProfileService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
-    @Value("${file.upload-dir:/tmp/uploads}/profiles")
-    private String uploadPath;
+    @Autowired
+    private ImageVariantService imageVariantService;
 
     /**
      * Update basic profile information (names, profile picture)
@@ -351,34 +348,18 @@ public class ProfileService {
             throw new IllegalArgumentException("File size must be less than 5MB");
         }
 
-        try {
-            // Create upload directory if it doesn't exist
-            Path uploadDir = Paths.get(uploadPath);
-            if (!Files.exists(uploadDir)) {
-                Files.createDirectories(uploadDir);
-            }
-
-            // Generate unique filename
-            String originalFilename = file.getOriginalFilename();
-            String fileExtension = originalFilename != null ? 
-                originalFilename.substring(originalFilename.lastIndexOf(".")) : ".jpg";
-            String filename = userId + "_" + System.currentTimeMillis() + fileExtension;
+        // Thumbnail, card and full-size copies; the card size is plenty for any avatar
+        ImageVariantsDto variants = imageVariantService.store(file);
+        List<String> previous = new ArrayList<>(imageVariantService.variantUrls(user.getProfilePictureVariants()));
+        previous.add(user.getProfilePictureUrl());
 
-            // Save file
-            Path filePath = uploadDir.resolve(filename);
-            Files.copy(file.getInputStream(), filePath);
-
-            // Generate URL for the uploaded file
-            String profilePictureUrl = "/uploads/profiles/" + filename;
-
-            // Update user's profile picture URL
-            user.setProfilePictureUrl(profilePictureUrl);
-            userRepository.save(user);
+        // Update user's profile picture URL
+        String profilePictureUrl = "/" + variants.getCard();
+        user.setProfilePictureUrl(profilePictureUrl);
+        user.setProfilePictureVariants(imageVariantService.toJson(variants));
+        userRepository.save(user);
+        imageVariantService.deleteFiles(previous);
 
-            return profilePictureUrl;
-        } catch (IOException e) {
-            logger.error("Failed to upload profile picture", e);
-            throw new IllegalArgumentException("Failed to upload file: " + e.getMessage());
-        }
+        return profilePictureUrl;
     }
 }
@@ -0,0 +1,244 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import Room.ConferenceRoomMgtsys.dto.report.ReportRequestDto;
+import Room.ConferenceRoomMgtsys.enums.UserRole;
+import Room.ConferenceRoomMgtsys.model.User;
+import Room.ConferenceRoomMgtsys.service.export.CsvReportRowWriter;
+import Room.ConferenceRoomMgtsys.service.export.ReportRowWriter;
+import Room.ConferenceRoomMgtsys.service.export.XlsxReportRowWriter;
+
+/**
+ * Streams report rows straight from a JDBC cursor into CSV or XLSX. Rows are
+ * fetched in batches of {@code app.reports.export.fetch-size} and written as
+ * they arrive, so memory use stays flat regardless of the date range.
+ */
+@Service
+public class ReportExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportExportService.class);
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String BOOKING_SQL = "SELECT b.id, r.name AS room_name, o.name AS organization_name, "
+            + "u.first_name, u.last_name, u.email, b.start_time, b.end_time, b.status, b.purpose, "
+            + "b.attendee_count, b.created_at "
+            + "FROM bookings b JOIN rooms r ON r.id = b.room_id JOIN users u ON u.id = b.user_id "
+            + "LEFT JOIN organizations o ON o.id = r.organization_id "
+            + "WHERE b.start_time >= ? AND b.start_time <= ? %s "
+            + "ORDER BY b.start_time, b.id";
+
+    private static final String ROOM_USAGE_SQL = "SELECT r.name AS room_name, o.name AS organization_name, "
+            + "r.location, r.capacity, r.is_active, COUNT(b.id) AS total_bookings, "
+            + "COUNT(b.id) FILTER (WHERE b.status IN ('APPROVED', 'COMPLETED')) AS confirmed_bookings, "
+            + "COUNT(b.id) FILTER (WHERE b.status = 'CANCELLED') AS cancelled_bookings, "
+            + "COALESCE(ROUND(CAST(SUM(EXTRACT(EPOCH FROM (b.end_time - b.start_time)) / 3600.0) "
+            + "FILTER (WHERE b.status IN ('APPROVED', 'COMPLETED')) AS numeric), 2), 0) AS booked_hours "
+            + "FROM rooms r LEFT JOIN organizations o ON o.id = r.organization_id "
+            + "LEFT JOIN bookings b ON b.room_id = r.id AND b.start_time >= ? AND b.start_time <= ? "
+            + "WHERE 1 = 1 %s "
+            + "GROUP BY r.id, r.name, o.name, r.location, r.capacity, r.is_active "
+            + "ORDER BY total_bookings DESC, r.name";
+
+    private static final String USER_SQL = "SELECT u.first_name, u.last_name, u.email, u.role, "
+            + "o.name AS organization_name, u.is_active, u.approval_status, u.created_at, u.last_login_at, "
+            + "(SELECT COUNT(*) FROM bookings b WHERE b.user_id = u.id "
+            + "AND b.start_time >= ? AND b.start_time <= ?) AS bookings_in_period "
+            + "FROM users u LEFT JOIN organizations o ON o.id = u.organization_id "
+            + "WHERE 1 = 1 %s "
+            + "ORDER BY u.created_at, u.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReportingService reportingService;
+
+    public ReportExportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ReportingService reportingService,
+            @Value("${app.reports.export.fetch-size:1000}") int fetchSize) {
+        // Dedicated template so the fetch size does not leak into other JDBC users
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.reportingService = reportingService;
+    }
+
+    /**
+     * Validate the request and prepare a streaming export. Access and parameter
+     * errors surface here, before any bytes are committed to the response.
+     */
+    public ReportExport prepareExport(ReportRequestDto request, User currentUser) {
+        if (request.getReportType() == null) {
+            throw new IllegalArgumentException("Report type is required.");
+        }
+        ExportFormat format = ExportFormat.from(request.getFormat());
+        UUID organizationId = resolveOrganization(request, currentUser);
+        LocalDateTime startDate = reportingService.getStartDate(request);
+        LocalDateTime endDate = reportingService.getEndDate(request);
+
+        String sql;
+        String[] header;
+        String sheetName;
+        switch (request.getReportType()) {
+            case "BOOKING_REPORT":
+                sql = BOOKING_SQL;
+                header = new String[] { "Booking ID", "Room", "Organization", "First Name", "Last Name", "Email",
+                        "Start Time", "End Time", "Status", "Purpose", "Attendees", "Created At" };
+                sheetName = "Bookings";
+                break;
+            case "ROOM_USAGE_REPORT":
+                sql = ROOM_USAGE_SQL;
+                header = new String[] { "Room", "Organization", "Location", "Capacity", "Active", "Total Bookings",
+                        "Confirmed Bookings", "Cancelled Bookings", "Booked Hours" };
+                sheetName = "Room Usage";
+                break;
+            case "USER_REPORT":
+                sql = USER_SQL;
+                header = new String[] { "First Name", "Last Name", "Email", "Role", "Organization", "Active",
+                        "Approval Status", "Created At", "Last Login", "Bookings In Period" };
+                sheetName = "Users";
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid report type specified.");
+        }
+
+        String scopeColumn = "USER_REPORT".equals(request.getReportType()) ? "u.organization_id" : "r.organization_id";
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(startDate));
+        args.add(Timestamp.valueOf(endDate));
+        if (organizationId != null) {
+            args.add(organizationId);
+        }
+        String scopedSql = String.format(sql, organizationId != null ? "AND " + scopeColumn + " = ?" : "");
+
+        String filename = request.getReportType().toLowerCase().replace("_report", "") + "-report-"
+                + startDate.format(FILE_DATE) + "-" + endDate.format(FILE_DATE) + "." + format.extension;
+
+        StreamingResponseBody body = out -> stream(scopedSql, args.toArray(), header, sheetName, format, out);
+        return new ReportExport(filename, format.contentType, body);
+    }
+
+    private void stream(String sql, Object[] args, String[] header, String sheetName, ExportFormat format,
+            OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        try (ReportRowWriter writer = format == ExportFormat.CSV
+                ? new CsvReportRowWriter(out, header.length)
+                : new XlsxReportRowWriter(out, sheetName)) {
+            writer.writeRow((Object[]) header);
+            int columns = header.length;
+            // PostgreSQL only honours the fetch size (server-side cursor) with autocommit off
+            Integer rows = readOnlyTransaction.execute(status -> {
+                int[] count = { 0 };
+                jdbcTemplate.query(sql, rs -> {
+                    try {
+                        writer.writeRow(readRow(rs, columns));
+                        count[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, args);
+                return count[0];
+            });
+            logger.info("Streamed {} report rows as {} in {} ms", rows, format, System.currentTimeMillis() - started);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Object[] readRow(ResultSet rs, int columns) throws SQLException {
+        Object[] cells = new Object[columns];
+        for (int i = 0; i < columns; i++) {
+            Object value = rs.getObject(i + 1);
+            if (value instanceof Timestamp) {
+                value = ((Timestamp) value).toLocalDateTime();
+            }
+            cells[i] = value;
+        }
+        return cells;
+    }
+
+    // ADMINs are always confined to their own organization; SYSTEM_ADMINs may narrow to one
+    private UUID resolveOrganization(ReportRequestDto request, User currentUser) {
+        if (currentUser.getRole() == UserRole.SYSTEM_ADMIN) {
+            return request.getOrganizationId();
+        }
+        if (currentUser.getOrganization() == null) {
+            throw new IllegalArgumentException("Admin must belong to an organization to export reports.");
+        }
+        UUID ownOrganization = currentUser.getOrganization().getId();
+        if (request.getOrganizationId() != null
+                && !reportingService.hasAccessToOrganization(currentUser, request.getOrganizationId())) {
+            throw new IllegalArgumentException("You do not have access to this organization's reports.");
+        }
+        return ownOrganization;
+    }
+
+    private enum ExportFormat {
+        CSV("csv", "text/csv"),
+        XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+        private final String extension;
+        private final String contentType;
+
+        ExportFormat(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        static ExportFormat from(String format) {
+            if (format == null || format.isBlank() || format.equalsIgnoreCase("CSV")) {
+                return CSV;
+            }
+            if (format.equalsIgnoreCase("EXCEL") || format.equalsIgnoreCase("XLSX")) {
+                return XLSX;
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+    }
+
+    /**
+     * A prepared export: download metadata plus the body that streams the rows.
+     */
+    public static final class ReportExport {
+        private final String filename;
+        private final String contentType;
+        private final StreamingResponseBody body;
+
+        ReportExport(String filename, String contentType, StreamingResponseBody body) {
+            this.filename = filename;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        public String getFilename() {
+            return filename;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public StreamingResponseBody getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import Room.ConferenceRoomMgtsys.dto.report.BookingReportDto;
+import Room.ConferenceRoomMgtsys.dto.report.ReportJobDto;
+import Room.ConferenceRoomMgtsys.dto.report.ReportRequestDto;
+import Room.ConferenceRoomMgtsys.dto.report.RoomUsageReportDto;
+import Room.ConferenceRoomMgtsys.dto.report.UserReportDto;
+import Room.ConferenceRoomMgtsys.enums.UserRole;
+import Room.ConferenceRoomMgtsys.model.User;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Renders PDF reports off the request thread on the bounded
+ * {@code reportExecutor} pool. Output is stored on disk keyed by a hash of the
+ * resolved request (type, scope and date range), so identical requests share a
+ * single render while it is in flight and reuse the stored file while it is
+ * fresh.
+ */
+@Service
+public class ReportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobService.class);
+
+    private final ReportingService reportingService;
+    private final PdfGenerationService pdfGenerationService;
+    private final ThreadPoolTaskExecutor reportExecutor;
+    private final Path storeDir;
+    private final Duration outputTtl;
+    private final Duration jobRetention;
+
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+    // Renders in flight, by request hash
+    private final Map<String, Render> renders = new ConcurrentHashMap<>();
+
+    public ReportJobService(ReportingService reportingService, PdfGenerationService pdfGenerationService,
+            @Qualifier("reportExecutor") ThreadPoolTaskExecutor reportExecutor,
+            @Value("${app.reports.jobs.dir:/app/reports}") String storeDir,
+            @Value("${app.reports.jobs.output-ttl-minutes:60}") long outputTtlMinutes,
+            @Value("${app.reports.jobs.retention-hours:24}") long jobRetentionHours) {
+        this.reportingService = reportingService;
+        this.pdfGenerationService = pdfGenerationService;
+        this.reportExecutor = reportExecutor;
+        this.storeDir = Paths.get(storeDir).toAbsolutePath().normalize();
+        this.outputTtl = Duration.ofMinutes(outputTtlMinutes);
+        this.jobRetention = Duration.ofHours(jobRetentionHours);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(storeDir);
+    }
+
+    /**
+     * Queue a PDF report and return its job handle immediately.
+     */
+    public ReportJobDto submit(ReportRequestDto request, User user) {
+        String hash = requestHash(request, user);
+        Path output = outputPath(hash);
+        ReportJob job = new ReportJob(UUID.randomUUID(), user.getId(), request.getReportType());
+        if (isFresh(output)) {
+            job.cached = true;
+            job.future = CompletableFuture.completedFuture(output);
+            job.completedAt = LocalDateTime.now();
+        } else {
+            Render render = startRender(hash, request, user);
+            job.render = render;
+            job.future = render.future;
+            render.future.whenComplete((path, error) -> job.completedAt = LocalDateTime.now());
+        }
+        jobs.put(job.id, job);
+        return toDto(job);
+    }
+
+    /**
+     * Render (or reuse) a PDF report and complete with its bytes; used by the
+     * synchronous-looking {@code /reports/pdf} endpoint without holding a
+     * request thread while rendering.
+     */
+    public CompletableFuture<byte[]> renderPdf(ReportRequestDto request, User user) {
+        String hash = requestHash(request, user);
+        Path output = outputPath(hash);
+        CompletableFuture<Path> file = isFresh(output)
+                ? CompletableFuture.completedFuture(output)
+                : startRender(hash, request, user).future;
+        return file.thenApply(path -> {
+            try {
+                return Files.readAllBytes(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public ReportJobDto getJob(UUID jobId, User user) {
+        return toDto(findJob(jobId, user));
+    }
+
+    /**
+     * The rendered file of a completed job.
+     */
+    public Path getOutput(UUID jobId, User user) {
+        ReportJob job = findJob(jobId, user);
+        if (!job.future.isDone() || job.future.isCompletedExceptionally()) {
+            throw new IllegalStateException("Report is not ready for download.");
+        }
+        Path output = job.future.join();
+        if (!Files.exists(output)) {
+            throw new IllegalStateException("Report output has expired, please submit it again.");
+        }
+        return output;
+    }
+
+    // Warm the template cache, PDF font metrics and renderer classes before the first real request
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reportExecutor.execute(() -> {
+                long started = System.currentTimeMillis();
+                LocalDateTime now = LocalDateTime.now();
+                Map<String, Object> samples = new HashMap<>();
+                UserReportDto userReport = new UserReportDto();
+                userReport.setReportGeneratedAt(now);
+                userReport.setStartDate(now);
+                userReport.setEndDate(now);
+                samples.put("user-report", userReport);
+                BookingReportDto bookingReport = new BookingReportDto();
+                bookingReport.setReportGeneratedAt(now);
+                bookingReport.setStartDate(now);
+                bookingReport.setEndDate(now);
+                samples.put("booking-report", bookingReport);
+                RoomUsageReportDto roomUsageReport = new RoomUsageReportDto();
+                roomUsageReport.setReportGeneratedAt(now);
+                roomUsageReport.setStartDate(now);
+                roomUsageReport.setEndDate(now);
+                samples.put("room-usage-report", roomUsageReport);
+
+                samples.forEach((template, report) -> {
+                    try {
+                        pdfGenerationService.generatePdfFromHtml(template, Map.of("report", report));
+                    } catch (RuntimeException e) {
+                        logger.warn("PDF warm-up failed for template {}: {}", template, e.getMessage());
+                    }
+                });
+                logger.info("PDF report templates warmed up in {} ms", System.currentTimeMillis() - started);
+            });
+        } catch (TaskRejectedException e) {
+            logger.warn("Skipping PDF warm-up: report pool is busy");
+        }
+    }
+
+    /**
+     * Forget finished jobs and delete stored output past the retention window.
+     */
+    @Scheduled(fixedRate = 600000)
+    public void purgeExpired() {
+        LocalDateTime jobCutoff = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.future.isDone() && job.submittedAt.isBefore(jobCutoff));
+
+        Instant fileCutoff = Instant.now().minus(jobRetention);
+        try (Stream<Path> files = Files.list(storeDir)) {
+            files.filter(path -> path.toString().endsWith(".pdf")).forEach(path -> {
+                try {
+                    if (Files.getLastModifiedTime(path).toInstant().isBefore(fileCutoff)) {
+                        Files.deleteIfExists(path);
+                    }
+                } catch (IOException e) {
+                    logger.warn("Could not delete expired report {}: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Could not list report store {}: {}", storeDir, e.getMessage());
+        }
+    }
+
+    // Join the in-flight render of an identical request, or queue a new one
+    private Render startRender(String hash, ReportRequestDto request, User user) {
+        Render created = new Render();
+        Render existing = renders.putIfAbsent(hash, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            reportExecutor.execute(() -> render(hash, request, user, created));
+        } catch (TaskRejectedException e) {
+            renders.remove(hash, created);
+            throw new IllegalStateException("Too many reports are being generated, please try again shortly.");
+        }
+        return created;
+    }
+
+    private void render(String hash, ReportRequestDto request, User user, Render render) {
+        render.started = true;
+        long started = System.currentTimeMillis();
+        try {
+            byte[] pdf = reportingService.generatePdfReport(request, user);
+            Path output = outputPath(hash);
+            Path temp = Files.createTempFile(storeDir, hash, ".tmp");
+            Files.write(temp, pdf);
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            render.future.complete(output);
+            logger.info("Rendered {} ({} bytes) in {} ms", request.getReportType(), pdf.length,
+                    System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            logger.error("Failed to render {}: {}", request.getReportType(), e.getMessage(), e);
+            render.future.completeExceptionally(e);
+        } finally {
+            renders.remove(hash, render);
+        }
+    }
+
+    private ReportJob findJob(UUID jobId, User user) {
+        ReportJob job = jobs.get(jobId);
+        if (job == null || !job.ownerId.equals(user.getId())) {
+            throw new IllegalArgumentException("Report job not found.");
+        }
+        return job;
+    }
+
+    private boolean isFresh(Path output) {
+        try {
+            return Files.exists(output)
+                    && Files.getLastModifiedTime(output).toInstant().isAfter(Instant.now().minus(outputTtl));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Path outputPath(String hash) {
+        return storeDir.resolve(hash + ".pdf");
+    }
+
+    // Identity of a report: type, whose data it covers and the resolved day range
+    private String requestHash(ReportRequestDto request, User user) {
+        String type = request.getReportType();
+        if (!"USER_REPORT".equals(type) && !"BOOKING_REPORT".equals(type) && !"ROOM_USAGE_REPORT".equals(type)) {
+            throw new IllegalArgumentException("Invalid report type: " + type);
+        }
+        String scope = user.getRole() == UserRole.SYSTEM_ADMIN
+                ? "system"
+                : "org:" + (user.getOrganization() != null ? user.getOrganization().getId() : "none");
+        String key = type + "|" + scope + "|" + reportingService.calculateTimePeriod(request) + "|"
+                + reportingService.getStartDate(request).toLocalDate() + "|"
+                + reportingService.getEndDate(request).toLocalDate();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private ReportJobDto toDto(ReportJob job) {
+        ReportJobDto dto = new ReportJobDto();
+        dto.setJobId(job.id);
+        dto.setReportType(job.reportType);
+        dto.setCached(job.cached);
+        dto.setSubmittedAt(job.submittedAt);
+        dto.setCompletedAt(job.completedAt);
+        if (!job.future.isDone()) {
+            dto.setStatus(job.render != null && job.render.started ? "RUNNING" : "QUEUED");
+        } else if (job.future.isCompletedExceptionally()) {
+            dto.setStatus("FAILED");
+            dto.setError(failureMessage(job.future));
+        } else {
+            dto.setStatus("COMPLETED");
+            dto.setDownloadUrl("/reports/jobs/" + job.id + "/download");
+        }
+        return dto;
+    }
+
+    private String failureMessage(CompletableFuture<Path> future) {
+        try {
+            future.join();
+            return null;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getMessage();
+        }
+    }
+
+    private static final class Render {
+        private final CompletableFuture<Path> future = new CompletableFuture<>();
+        private volatile boolean started;
+    }
+
+    private static final class ReportJob {
+        private final UUID id;
+        private final UUID ownerId;
+        private final String reportType;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile CompletableFuture<Path> future;
+        private volatile Render render;
+        private volatile boolean cached;
+        private volatile LocalDateTime completedAt;
+
+        ReportJob(UUID id, UUID ownerId, String reportType) {
+            this.id = id;
+            this.ownerId = ownerId;
+            this.reportType = reportType;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package Room.ConferenceRoomMgtsys.service;
 import Room.ConferenceRoomMgtsys.dto.report.*;
 import Room.ConferenceRoomMgtsys.model.User;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface ReportingService {
@@ -27,5 +28,9 @@ public interface ReportingService {
     // Helper methods
     ReportTimePeriod calculateTimePeriod(ReportRequestDto request);
 
+    LocalDateTime getStartDate(ReportRequestDto request);
+
+    LocalDateTime getEndDate(ReportRequestDto request);
+
     boolean hasAccessToOrganization(User user, UUID organizationId);
 }
\ No newline at end of file
@@ -0,0 +1,286 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import Room.ConferenceRoomMgtsys.dto.room.RoomCandidateDto;
+import Room.ConferenceRoomMgtsys.dto.room.RoomCandidateDto.FreeSlot;
+import Room.ConferenceRoomMgtsys.dto.room.RoomFinderRequestDto;
+import Room.ConferenceRoomMgtsys.enums.BookingStatus;
+import Room.ConferenceRoomMgtsys.enums.UserRole;
+import Room.ConferenceRoomMgtsys.model.Organization;
+import Room.ConferenceRoomMgtsys.model.Room;
+import Room.ConferenceRoomMgtsys.model.User;
+import Room.ConferenceRoomMgtsys.repository.RoomRepository;
+
+/**
+ * "Find me a room": ranks the rooms a user can book by how well they fit the
+ * requested attendee count, preferred window, amenities and floor, and lists
+ * each room's earliest free slots of the requested duration within the
+ * booking horizon.
+ *
+ * Busy time comes from the in-memory {@link BookingIntervalIndex}, so a search
+ * costs one room query and one ordered pass over each room's bookings, instead
+ * of one availability query per time window tried.
+ */
+@Service
+public class RoomFinderService {
+
+    private static final ZoneId ZONE = ZoneId.of("Africa/Kigali");
+    // Same booking rules as BookingService
+    private static final LocalTime BUSINESS_START = LocalTime.of(7, 0);
+    private static final LocalTime BUSINESS_END = LocalTime.of(17, 0);
+    private static final int HORIZON_WEEKS = 4;
+    private static final int MIN_LEAD_MINUTES = 5;
+    // Suggested start times are aligned to quarter hours
+    private static final int SLOT_STEP_MINUTES = 15;
+    private static final int MAX_SLOTS_PER_ROOM = 10;
+    private static final int MAX_RESULTS = 50;
+
+    // Ranking weights, out of 100
+    private static final int WINDOW_WEIGHT = 40;
+    private static final int CAPACITY_WEIGHT = 25;
+    private static final int AMENITY_WEIGHT = 25;
+    private static final int FLOOR_WEIGHT = 10;
+
+    private final RoomRepository roomRepository;
+    private final BookingIntervalIndex bookingIndex;
+    private final DayVisibilityService dayVisibilityService;
+
+    public RoomFinderService(RoomRepository roomRepository, BookingIntervalIndex bookingIndex,
+            DayVisibilityService dayVisibilityService) {
+        this.roomRepository = roomRepository;
+        this.bookingIndex = bookingIndex;
+        this.dayVisibilityService = dayVisibilityService;
+    }
+
+    @Transactional(readOnly = true)
+    public List<RoomCandidateDto> findRooms(RoomFinderRequestDto request, User user) {
+        if (request.getAttendeeCount() < 1) {
+            throw new IllegalArgumentException("Attendee count must be at least 1.");
+        }
+        if (request.getDurationMinutes() < 30 || request.getDurationMinutes() > 8 * 60) {
+            throw new IllegalArgumentException("Duration must be between 30 minutes and 8 hours.");
+        }
+        if (request.getWindowStart() != null && request.getWindowEnd() != null
+                && !request.getWindowEnd().isAfter(request.getWindowStart())) {
+            throw new IllegalArgumentException("Preferred window end must be after its start.");
+        }
+        Duration duration = Duration.ofMinutes(request.getDurationMinutes());
+        int slotsPerRoom = Math.max(1, Math.min(request.getSlotsPerRoom(), MAX_SLOTS_PER_ROOM));
+        int limit = Math.max(1, Math.min(request.getLimit(), MAX_RESULTS));
+
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        LocalDateTime earliest = alignUp(now.plusMinutes(MIN_LEAD_MINUTES));
+        LocalDateTime latestStart = now.plusWeeks(HORIZON_WEEKS);
+        LocalDateTime windowStart = request.getWindowStart() != null && request.getWindowStart().isAfter(earliest)
+                ? request.getWindowStart()
+                : earliest;
+        LocalDateTime windowEnd = request.getWindowEnd() != null ? request.getWindowEnd()
+                : latestStart.plus(duration);
+
+        Organization organization = user.getOrganization();
+        // Same rule as RoomService.getRoomsWithAvailabilityDetails: only the USER role is held to the
+        // day-visibility whitelist, and a user without an organization sees no rooms
+        boolean whitelisted = user.getRole() == UserRole.USER;
+        if (whitelisted && organization == null) {
+            return List.of();
+        }
+        List<Room> rooms = organization != null
+                ? roomRepository.findByOrganizationAndIsActive(organization, true)
+                : roomRepository.findAll().stream().filter(r -> Boolean.TRUE.equals(r.getIsActive())).toList();
+        Map<LocalDate, Set<String>> visibleByDate = whitelisted
+                ? visibleRoomIds(organization, earliest.toLocalDate(), latestStart.toLocalDate())
+                : null;
+        List<String> wanted = normalize(request.getAmenities());
+        String floor = request.getFloor() != null && !request.getFloor().isBlank() ? request.getFloor().trim() : null;
+
+        List<RoomCandidateDto> candidates = new ArrayList<>();
+        for (Room room : rooms) {
+            if (room.getCapacity() == null || room.getCapacity() < request.getAttendeeCount()) {
+                continue;
+            }
+            RoomCandidateDto candidate = new RoomCandidateDto();
+            if (!collectFreeSlots(room, user, duration, earliest, latestStart, windowStart, windowEnd,
+                    slotsPerRoom, visibleByDate, candidate)) {
+                continue;
+            }
+            candidate.setRoomId(room.getId());
+            candidate.setName(room.getName());
+            candidate.setLocation(room.getLocation());
+            candidate.setFloor(room.getFloor());
+            candidate.setCapacity(room.getCapacity());
+            candidate.setOrganizationName(room.getOrganization() != null ? room.getOrganization().getName() : null);
+            matchAmenities(room, wanted, candidate);
+            candidate.setScore(score(candidate, request.getAttendeeCount(), wanted.size(), floor, windowStart));
+            candidates.add(candidate);
+        }
+
+        return candidates.stream()
+                .sorted(Comparator.comparingInt(RoomCandidateDto::getScore).reversed()
+                        .thenComparing(c -> c.getNextFreeSlots().get(0).getStartTime())
+                        .thenComparing(RoomCandidateDto::getName, Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Walk the room's business days and its bookings together, in start order,
+     * and record the earliest free slots and the first one inside the
+     * preferred window. Returns false when the room has no free slot at all.
+     */
+    private boolean collectFreeSlots(Room room, User user, Duration duration, LocalDateTime earliest,
+            LocalDateTime latestStart, LocalDateTime windowStart, LocalDateTime windowEnd, int slotsPerRoom,
+            Map<LocalDate, Set<String>> visibleByDate, RoomCandidateDto candidate) {
+        // Only approved bookings block others; the user's own pending requests block them too
+        List<BookingIntervalIndex.IndexedBooking> busy = bookingIndex
+                .findOverlapping(room.getId(), earliest, latestStart.plus(duration)).stream()
+                .filter(b -> b.getStatus() == BookingStatus.APPROVED || b.isOwnedBy(user.getId()))
+                .toList();
+        String roomId = room.getId().toString();
+
+        List<FreeSlot> slots = new ArrayList<>();
+        FreeSlot preferred = null;
+        int first = 0;
+        for (LocalDate date = earliest.toLocalDate(); !date.isAfter(latestStart.toLocalDate()); date = date
+                .plusDays(1)) {
+            if (slots.size() >= slotsPerRoom && (preferred != null || date.atStartOfDay().isAfter(windowEnd))) {
+                break;
+            }
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            if (visibleByDate != null && !visibleByDate.get(date).contains(roomId)) {
+                continue;
+            }
+            LocalDateTime dayStart = max(date.atTime(BUSINESS_START), earliest);
+            LocalDateTime dayEnd = date.atTime(BUSINESS_END);
+            while (first < busy.size() && !busy.get(first).getEndTime().isAfter(dayStart)) {
+                first++;
+            }
+            // Free gaps of the day are the spaces between its bookings
+            LocalDateTime cursor = dayStart;
+            for (int i = first; i <= busy.size(); i++) {
+                boolean last = i == busy.size() || !busy.get(i).getStartTime().isBefore(dayEnd);
+                LocalDateTime gapEnd = last ? dayEnd : busy.get(i).getStartTime();
+                if (gapEnd.isAfter(cursor)) {
+                    if (slots.size() < slotsPerRoom) {
+                        FreeSlot slot = fit(cursor, gapEnd, duration, latestStart);
+                        if (slot != null) {
+                            slots.add(slot);
+                        }
+                    }
+                    if (preferred == null) {
+                        preferred = fit(max(cursor, windowStart), min(gapEnd, windowEnd), duration, latestStart);
+                    }
+                }
+                if (last) {
+                    break;
+                }
+                cursor = max(cursor, busy.get(i).getEndTime());
+            }
+        }
+        if (slots.isEmpty()) {
+            return false;
+        }
+        candidate.setNextFreeSlots(slots);
+        candidate.setPreferredSlot(preferred);
+        candidate.setFitsPreferredWindow(preferred != null);
+        return true;
+    }
+
+    // Earliest aligned slot of the given length inside [from, to), or null
+    private FreeSlot fit(LocalDateTime from, LocalDateTime to, Duration duration, LocalDateTime latestStart) {
+        LocalDateTime start = alignUp(from);
+        LocalDateTime end = start.plus(duration);
+        if (start.isAfter(latestStart) || end.isAfter(to)) {
+            return null;
+        }
+        return new FreeSlot(start, end);
+    }
+
+    private int score(RoomCandidateDto candidate, int attendees, int amenitiesWanted, String floor,
+            LocalDateTime windowStart) {
+        double window;
+        if (candidate.isFitsPreferredWindow()) {
+            window = 1.0;
+        } else {
+            // Partial credit for rooms free soon after the window, fading out over a week
+            long hoursLate = Duration.between(windowStart, candidate.getNextFreeSlots().get(0).getStartTime())
+                    .toHours();
+            window = 0.5 * Math.max(0.0, 1.0 - Math.abs(hoursLate) / (7.0 * 24));
+        }
+        // Snug rooms first, so large rooms stay free for large meetings
+        double capacity = (double) attendees / candidate.getCapacity();
+        double amenities = amenitiesWanted == 0 ? 1.0
+                : (double) candidate.getMatchedAmenities().size() / amenitiesWanted;
+        double floorMatch = floor == null || floor.equalsIgnoreCase(String.valueOf(candidate.getFloor())) ? 1.0
+                : 0.0;
+        return (int) Math.round(WINDOW_WEIGHT * window + CAPACITY_WEIGHT * capacity + AMENITY_WEIGHT * amenities
+                + FLOOR_WEIGHT * floorMatch);
+    }
+
+    private void matchAmenities(Room room, List<String> wanted, RoomCandidateDto candidate) {
+        String offered = ((room.getAmenities() != null ? room.getAmenities() : "") + " "
+                + (room.getEquipment() != null ? room.getEquipment() : "")).toLowerCase(Locale.ROOT);
+        List<String> matched = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (String amenity : wanted) {
+            (offered.contains(amenity) ? matched : missing).add(amenity);
+        }
+        candidate.setMatchedAmenities(matched);
+        candidate.setMissingAmenities(missing);
+    }
+
+    // Day-visibility whitelist of every date in the horizon (cached per organization and date)
+    private Map<LocalDate, Set<String>> visibleRoomIds(Organization organization, LocalDate from, LocalDate to) {
+        Map<LocalDate, Set<String>> visible = new HashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            visible.put(date, dayVisibilityService.getVisibleRoomIds(organization.getId(), date));
+        }
+        return visible;
+    }
+
+    private List<String> normalize(List<String> amenities) {
+        if (amenities == null) {
+            return List.of();
+        }
+        return amenities.stream()
+                .filter(a -> a != null && !a.isBlank())
+                .map(a -> a.trim().toLowerCase(Locale.ROOT))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static LocalDateTime alignUp(LocalDateTime time) {
+        LocalDateTime truncated = time.withSecond(0).withNano(0);
+        int remainder = truncated.getMinute() % SLOT_STEP_MINUTES;
+        if (remainder == 0 && truncated.equals(time)) {
+            return truncated;
+        }
+        return truncated.plusMinutes(SLOT_STEP_MINUTES - remainder);
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
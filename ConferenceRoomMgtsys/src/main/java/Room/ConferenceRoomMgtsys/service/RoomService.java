@@ -1,5 +1,6 @@
 package Room.ConferenceRoomMgtsys.service;
 
+import Room.ConferenceRoomMgtsys.dto.image.ImageVariantsDto;
 import Room.ConferenceRoomMgtsys.dto.room.RoomCreateDto;
 import Room.ConferenceRoomMgtsys.dto.room.RoomAccessUpdateDto;
 import Room.ConferenceRoomMgtsys.dto.room.RoomResponseDto;
@@ -12,11 +13,13 @@ import Room.ConferenceRoomMgtsys.repository.OrganizationRepository;
 import Room.ConferenceRoomMgtsys.repository.BookingRepository;
 import Room.ConferenceRoomMgtsys.repository.AvailabilityRepository;
 import Room.ConferenceRoomMgtsys.repository.RoomCommunicationRepository;
-import Room.ConferenceRoomMgtsys.repository.DayVisibilityRepository;
+import Room.ConferenceRoomMgtsys.config.CacheConfig;
 import Room.ConferenceRoomMgtsys.enums.RoomAccessLevel;
 import Room.ConferenceRoomMgtsys.enums.UserRole;
 import Room.ConferenceRoomMgtsys.model.User;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -54,8 +57,12 @@ public class RoomService {
     private final AvailabilityRepository availabilityRepository;
     private final RoomCommunicationRepository roomCommunicationRepository;
     private final ObjectMapper objectMapper;
-    private final DayVisibilityRepository dayVisibilityRepository;
+    private final DayVisibilityService dayVisibilityService;
     private final NotificationService notificationService;
+    private final SlotAvailabilityEngine slotAvailabilityEngine;
+    private final BookingIntervalIndex bookingIndex;
+    private final RoomStatusPublisher roomStatusPublisher;
+    private final ImageVariantService imageVariantService;
 
     @Value("${file.upload-dir}")
     private String baseUploadDir;
@@ -68,16 +75,24 @@ public class RoomService {
             AvailabilityRepository availabilityRepository,
             RoomCommunicationRepository roomCommunicationRepository,
             ObjectMapper objectMapper,
-            DayVisibilityRepository dayVisibilityRepository,
-            NotificationService notificationService) {
+            DayVisibilityService dayVisibilityService,
+            NotificationService notificationService,
+            SlotAvailabilityEngine slotAvailabilityEngine,
+            BookingIntervalIndex bookingIndex,
+            RoomStatusPublisher roomStatusPublisher,
+            ImageVariantService imageVariantService) {
         this.roomRepository = roomRepository;
         this.organizationRepository = organizationRepository;
         this.bookingRepository = bookingRepository;
         this.availabilityRepository = availabilityRepository;
         this.roomCommunicationRepository = roomCommunicationRepository;
         this.objectMapper = objectMapper;
-        this.dayVisibilityRepository = dayVisibilityRepository;
+        this.dayVisibilityService = dayVisibilityService;
         this.notificationService = notificationService;
+        this.slotAvailabilityEngine = slotAvailabilityEngine;
+        this.bookingIndex = bookingIndex;
+        this.roomStatusPublisher = roomStatusPublisher;
+        this.imageVariantService = imageVariantService;
     }
 
     @PostConstruct
@@ -90,6 +105,7 @@ public class RoomService {
         }
     }
 
+    @CacheEvict(cacheNames = { CacheConfig.ROOMS, CacheConfig.ORGANIZATIONS }, allEntries = true)
     @Transactional
     public RoomResponseDto createRoom(RoomCreateDto createDto, Organization organization, List<MultipartFile> images) {
         // Validate organization
@@ -115,45 +131,16 @@ public class RoomService {
         room.setAccessLevel(RoomAccessLevel.PUBLIC); // Set to PUBLIC for any user access
         room.setAllowedOrganizations(null); // No need for allowed organizations since it's PUBLIC
 
-        // Handle image uploads
+        // Handle image uploads: each image is stored as thumbnail, card and full-size variants
         if (images != null && !images.isEmpty()) {
-            List<String> imageUrls = new ArrayList<>();
-            for (MultipartFile image : images) {
-                if (!image.isEmpty()) {
-                    try {
-                        // Create organization-specific directory within the rooms directory
-                        Path orgDir = this.roomsDir.resolve(organization.getId().toString());
-                        if (!Files.exists(orgDir)) {
-                            Files.createDirectories(orgDir);
-                        }
-
-                        // Generate unique filename
-                        String filename = UUID.randomUUID().toString() + "_" + image.getOriginalFilename();
-                        Path filePath = orgDir.resolve(filename);
-
-                        // Save the file
-                        Files.copy(image.getInputStream(), filePath);
-
-                        // Add the relative URL to the list
-                        imageUrls.add("uploads/rooms/" + organization.getId() + "/" + filename);
-                    } catch (IOException e) {
-                        logger.error("Failed to upload image: {}", e.getMessage(), e);
-                        throw new RuntimeException("Failed to upload image: " + e.getMessage());
-                    }
-                }
-            }
-            try {
-                room.setImages(objectMapper.writeValueAsString(imageUrls));
-            } catch (IOException e) {
-                logger.error("Failed to serialize image URLs: {}", e.getMessage(), e);
-                throw new RuntimeException("Failed to serialize image URLs: " + e.getMessage());
-            }
+            setRoomImages(room, imageVariantService.storeAll(images));
         }
 
         Room savedRoom = roomRepository.save(room);
         return convertToDto(savedRoom);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ROOMS, allEntries = true)
     @Transactional
     public RoomResponseDto updateRoomAccess(RoomAccessUpdateDto updateDto, Organization organization) {
         // Find room by ID
@@ -203,6 +190,15 @@ public class RoomService {
     public List<RoomResponseDto> getAvailableRooms(Organization organization,
             LocalDateTime startTime,
             LocalDateTime endTime) {
+        return getAvailableRooms(organization, startTime, endTime, null);
+    }
+
+    // Capacity is filtered in the query, before any room is converted to a DTO
+    @Transactional(readOnly = true)
+    public List<RoomResponseDto> getAvailableRooms(Organization organization,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            Integer minCapacity) {
         // Close-of-day rule: after 17:00 local server time, do not show rooms for today
         try {
             java.time.LocalDate today = java.time.LocalDate.now();
@@ -214,21 +210,21 @@ public class RoomService {
         } catch (Exception ignored) {
         }
 
-        List<Room> rooms = roomRepository.findAvailableRooms(organization, startTime, endTime);
+        List<Room> rooms = minCapacity == null
+                ? roomRepository.findAvailableRooms(organization, startTime, endTime)
+                : roomRepository.findAvailableRoomsWithCapacity(organization, startTime, endTime, minCapacity);
         // Apply day-visibility whitelist for that date.
         try {
             java.time.LocalDate date = startTime.toLocalDate();
             List<Room> filtered = new java.util.ArrayList<>(rooms);
             List<Room> allowedRooms = null;
             if (organization != null) {
-                var vis = dayVisibilityRepository.findVisibleByOrganizationAndDate(organization, date);
+                Set<String> allowedIds = dayVisibilityService.getVisibleRoomIds(organization.getId(), date);
                 // Default deny when there are no visibility entries
-                if (vis == null || vis.isEmpty()) {
+                if (allowedIds.isEmpty()) {
                     return java.util.List.of();
                 }
-                java.util.Set<java.util.UUID> allowedIds = vis.stream().map(v -> v.getRoom().getId())
-                        .collect(java.util.stream.Collectors.toSet());
-                allowedRooms = rooms.stream().filter(r -> allowedIds.contains(r.getId())).toList();
+                allowedRooms = rooms.stream().filter(r -> allowedIds.contains(r.getId().toString())).toList();
             }
             if (allowedRooms != null) {
                 filtered = new java.util.ArrayList<>(allowedRooms);
@@ -258,6 +254,9 @@ public class RoomService {
         return convertToDto(room);
     }
 
+    // Cached per scope: admins see their organization's rooms, everyone else sees all rooms
+    @Cacheable(cacheNames = CacheConfig.ROOMS,
+            key = "#currentUser.role.name() == 'ADMIN' ? 'org:' + #currentUser.organization?.id : 'all'")
     @Transactional(readOnly = true)
     public List<RoomResponseDto> getAllRoomsForUserRole(User currentUser) {
         List<Room> rooms;
@@ -309,35 +308,38 @@ public class RoomService {
                     return java.util.List.of();
                 }
 
-                var vis = dayVisibilityRepository
-                        .findVisibleByOrganizationAndDate(currentUser.getOrganization(), selectedDate);
+                Set<String> allowedIds = dayVisibilityService
+                        .getVisibleRoomIds(currentUser.getOrganization().getId(), selectedDate);
 
                 // If there are no visibility entries for this org/date → default deny
-                if (vis == null || vis.isEmpty()) {
+                if (allowedIds.isEmpty()) {
                     return java.util.List.of();
                 }
 
-                java.util.Set<java.util.UUID> allowedIds = vis.stream()
-                        .map(v -> v.getRoom().getId())
-                        .collect(java.util.stream.Collectors.toSet());
                 List<Room> allowedRooms = rooms.stream()
-                        .filter(r -> allowedIds.contains(r.getId()))
+                        .filter(r -> allowedIds.contains(r.getId().toString()))
                         .toList();
                 filtered = new java.util.ArrayList<>(allowedRooms);
             }
 
-            return filtered.stream()
-                    .map(room -> convertToAvailabilityDto(room, date))
-                    .collect(Collectors.toList());
+            return toAvailabilityDtos(filtered, date);
         } catch (Exception e) {
             // Fallback if anything goes wrong
-            return rooms.stream()
-                    .map(room -> convertToAvailabilityDto(room, date))
-                    .collect(Collectors.toList());
+            return toAvailabilityDtos(rooms, date);
         }
     }
 
-    private RoomAvailabilityDto convertToAvailabilityDto(Room room, LocalDateTime date) {
+    private List<RoomAvailabilityDto> toAvailabilityDtos(List<Room> rooms, LocalDateTime date) {
+        // One range query for every room, then slots are computed in memory
+        java.time.LocalDate day = date.toLocalDate();
+        java.util.Map<UUID, List<Booking>> bookingsByRoom = slotAvailabilityEngine.loadDay(rooms, day);
+        return rooms.stream()
+                .map(room -> convertToAvailabilityDto(room, day,
+                        bookingsByRoom.getOrDefault(room.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private RoomAvailabilityDto convertToAvailabilityDto(Room room, java.time.LocalDate date, List<Booking> roomBookings) {
         RoomAvailabilityDto dto = new RoomAvailabilityDto();
         dto.setId(room.getId());
         dto.setName(room.getName());
@@ -351,13 +353,17 @@ public class RoomService {
         dto.setAmenities(room.getAmenities());
         dto.setEquipment(room.getEquipment());
         dto.setImages(room.getImages());
+        dto.setImageVariants(room.getImageVariants() != null ? room.getImageVariants() : "[]");
 
         // Generate time slots for the day (7 AM to 5 PM)
-        List<RoomAvailabilityDto.TimeSlotDto> timeSlots = generateTimeSlots(room, date);
+        List<RoomAvailabilityDto.TimeSlotDto> timeSlots = slotAvailabilityEngine.computeSlots(roomBookings, date);
         dto.setTimeSlots(timeSlots);
 
         // Get today's bookings for this room
-        List<RoomAvailabilityDto.BookingDetailDto> todaysBookings = getTodaysBookings(room, date);
+        List<RoomAvailabilityDto.BookingDetailDto> todaysBookings = slotAvailabilityEngine
+                .startingOn(roomBookings, date).stream()
+                .map(this::convertBookingToDetailDto)
+                .collect(Collectors.toList());
         dto.setTodaysBookings(todaysBookings);
 
         // Check if room has any available time slots
@@ -367,48 +373,6 @@ public class RoomService {
         return dto;
     }
 
-    private List<RoomAvailabilityDto.TimeSlotDto> generateTimeSlots(Room room, LocalDateTime date) {
-        List<RoomAvailabilityDto.TimeSlotDto> timeSlots = new ArrayList<>();
-
-        // Generate 1-hour slots from 7 AM to 5 PM
-        for (int hour = 7; hour < 17; hour++) {
-            LocalDateTime slotStart = date.toLocalDate().atTime(hour, 0);
-            LocalDateTime slotEnd = date.toLocalDate().atTime(hour + 1, 0);
-
-            RoomAvailabilityDto.TimeSlotDto timeSlot = new RoomAvailabilityDto.TimeSlotDto();
-            timeSlot.setStartTime(slotStart.toString());
-            timeSlot.setEndTime(slotEnd.toString());
-
-            // Check if this time slot is available
-            boolean isAvailable = isTimeSlotAvailable(room, slotStart, slotEnd);
-            timeSlot.setAvailable(isAvailable);
-            timeSlot.setStatus(isAvailable ? "AVAILABLE" : "BOOKED");
-
-            timeSlots.add(timeSlot);
-        }
-
-        return timeSlots;
-    }
-
-    private boolean isTimeSlotAvailable(Room room, LocalDateTime startTime, LocalDateTime endTime) {
-        // Check if there are any approved bookings that overlap with this time slot
-        List<Booking> overlappingBookings = bookingRepository.findOverlappingBookings(
-                room, startTime, endTime);
-
-        return overlappingBookings.isEmpty();
-    }
-
-    private List<RoomAvailabilityDto.BookingDetailDto> getTodaysBookings(Room room, LocalDateTime date) {
-        LocalDateTime dayStart = date.toLocalDate().atTime(0, 0);
-        LocalDateTime dayEnd = date.toLocalDate().atTime(23, 59, 59);
-
-        List<Booking> todaysBookings = bookingRepository.findByRoomAndStartTimeBetween(room, dayStart, dayEnd);
-
-        return todaysBookings.stream()
-                .map(this::convertBookingToDetailDto)
-                .collect(Collectors.toList());
-    }
-
     private RoomAvailabilityDto.BookingDetailDto convertBookingToDetailDto(Booking booking) {
         RoomAvailabilityDto.BookingDetailDto dto = new RoomAvailabilityDto.BookingDetailDto();
         dto.setUserName(booking.getUser().getFirstName() + " " + booking.getUser().getLastName());
@@ -422,6 +386,7 @@ public class RoomService {
         return dto;
     }
 
+    @CacheEvict(cacheNames = { CacheConfig.ROOMS, CacheConfig.ORGANIZATIONS, CacheConfig.DAY_VISIBILITY }, allEntries = true)
     @Transactional
     public void deleteRoom(UUID roomId) {
         Room room = roomRepository.findById(roomId)
@@ -446,8 +411,10 @@ public class RoomService {
         }
 
         roomRepository.delete(room);
+        bookingIndex.removeRoom(roomId);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ROOMS, allEntries = true)
     @Transactional
     public void bulkUpdateRoomStatus(RoomStatusBulkUpdateDto dto, User currentUser) {
         if (dto == null || dto.getRoomIds() == null || dto.getRoomIds().isEmpty()) {
@@ -461,8 +428,12 @@ public class RoomService {
                     (room.getOrganization() == null || !room.getOrganization().equals(currentUser.getOrganization()))) {
                 throw new IllegalArgumentException("Cannot modify rooms outside your organization");
             }
+            boolean changed = !Boolean.valueOf(activate).equals(room.getIsActive());
             room.setIsActive(activate);
             roomRepository.save(room);
+            if (changed) {
+                roomStatusPublisher.roomActivationChanged(room);
+            }
 
             // Create notification when room is activated
             if (activate && room.getIsActive()) {
@@ -477,6 +448,7 @@ public class RoomService {
         }
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ROOMS, allEntries = true)
     @Transactional
     public RoomResponseDto updateRoom(UUID roomId, RoomCreateDto updateDto, Organization organization,
             List<MultipartFile> newImages) {
@@ -496,105 +468,44 @@ public class RoomService {
         room.setAmenities(updateDto.getAmenities());
         room.setEquipment(updateDto.getEquipment());
 
-        // Handle images update
+        // Handle images update: store the new images before removing the old files
         if (newImages != null && !newImages.isEmpty()) {
-            // Delete old images first
-            if (room.getImages() != null && !room.getImages().isEmpty()) {
-                try {
-                    List<String> oldImageUrls = objectMapper.readValue(room.getImages(),
-                            new com.fasterxml.jackson.core.type.TypeReference<List<String>>() {
-                            });
-                    for (String imageUrl : oldImageUrls) {
-                        if (imageUrl != null && imageUrl.startsWith("uploads/")) {
-                            try {
-                                // Construct the full path correctly
-                                Path imagePath = Paths.get(baseUploadDir).resolve(imageUrl.substring(8)); // Remove
-                                                                                                          // "uploads/"
-                                                                                                          // prefix
-                                if (Files.exists(imagePath)) {
-                                    try {
-                                        Files.delete(imagePath);
-                                        logger.info("Deleted old image file: {}", imagePath);
-                                    } catch (Exception e) {
-                                        logger.warn("Failed to delete old image file {}: {}", imagePath,
-                                                e.getMessage());
-                                    }
-                                } else {
-                                    logger.warn("Old image file not found for deletion: {}", imagePath);
-                                }
-                            } catch (Exception e) {
-                                logger.warn("Exception while handling old image file {}: {}", imageUrl, e.getMessage());
-                            }
-                        }
-                    }
-                } catch (IOException e) {
-                    logger.error("Failed to parse old images for room {}: {}", roomId, e.getMessage());
-                }
-            }
-
-            // Upload new images
-            List<String> newImageUrls = new ArrayList<>();
-            for (MultipartFile image : newImages) {
-                if (!image.isEmpty()) {
-                    try {
-                        Path orgDir = this.roomsDir.resolve(organization.getId().toString());
-                        if (!Files.exists(orgDir)) {
-                            Files.createDirectories(orgDir);
-                        }
-                        String filename = UUID.randomUUID().toString() + "_" + image.getOriginalFilename();
-                        Path filePath = orgDir.resolve(filename);
-                        Files.copy(image.getInputStream(), filePath);
-                        newImageUrls.add("uploads/rooms/" + organization.getId() + "/" + filename);
-                    } catch (IOException e) {
-                        logger.error("Failed to upload new image: {}", e.getMessage(), e);
-                        throw new RuntimeException("Failed to upload new image: " + e.getMessage());
-                    }
-                }
-            }
-            try {
-                room.setImages(objectMapper.writeValueAsString(newImageUrls));
-            } catch (IOException e) {
-                logger.error("Failed to serialize new image URLs: {}", e.getMessage(), e);
-                throw new RuntimeException("Failed to serialize new image URLs: " + e.getMessage());
-            }
+            List<ImageVariantsDto> variants = imageVariantService.storeAll(newImages);
+            deleteRoomImages(room);
+            setRoomImages(room, variants);
         } else if (newImages != null && newImages.isEmpty()) {
             // If newImages is provided but empty, it means no images are to be associated
             // So delete all existing images
-            if (room.getImages() != null && !room.getImages().isEmpty()) {
-                try {
-                    List<String> oldImageUrls = objectMapper.readValue(room.getImages(),
-                            new com.fasterxml.jackson.core.type.TypeReference<List<String>>() {
-                            });
-                    for (String imageUrl : oldImageUrls) {
-                        if (imageUrl != null && imageUrl.startsWith("uploads/")) {
-                            try {
-                                Path imagePath = Paths.get(baseUploadDir).resolve(imageUrl.substring(8));
-                                if (Files.exists(imagePath)) {
-                                    try {
-                                        Files.delete(imagePath);
-                                        logger.info("Deleted old image file (no new images provided): {}", imagePath);
-                                    } catch (Exception e) {
-                                        logger.warn("Failed to delete old image file {}: {}", imagePath,
-                                                e.getMessage());
-                                    }
-                                }
-                            } catch (Exception e) {
-                                logger.warn("Exception while handling old image file {}: {}", imageUrl, e.getMessage());
-                            }
-                        }
-                    }
-                } catch (IOException e) {
-                    logger.error("Failed to parse old images when no new images provided for room {}: {}", roomId,
-                            e.getMessage());
-                }
-            }
+            deleteRoomImages(room);
             room.setImages("[]"); // Set to empty JSON array
+            room.setImageVariants("[]");
         }
 
         Room updatedRoom = roomRepository.save(room);
         return convertToDto(updatedRoom);
     }
 
+    // Room.images keeps the full-size URLs for existing clients; imageVariants has all three sizes
+    private void setRoomImages(Room room, List<ImageVariantsDto> variants) {
+        room.setImages(imageVariantService.toJson(variants.stream().map(ImageVariantsDto::getFull).toList()));
+        room.setImageVariants(imageVariantService.toJson(variants));
+    }
+
+    // Removes the files behind a room's current images, including every variant
+    private void deleteRoomImages(Room room) {
+        List<String> urls = new ArrayList<>(imageVariantService.variantUrls(room.getImageVariants()));
+        if (room.getImages() != null && room.getImages().startsWith("[")) {
+            try {
+                urls.addAll(objectMapper.readValue(room.getImages(),
+                        new com.fasterxml.jackson.core.type.TypeReference<List<String>>() {
+                        }));
+            } catch (IOException e) {
+                logger.error("Failed to parse old images for room {}: {}", room.getId(), e.getMessage());
+            }
+        }
+        imageVariantService.deleteFiles(urls);
+    }
+
     private RoomResponseDto convertToDto(Room room) {
         RoomResponseDto dto = new RoomResponseDto();
         dto.setId(room.getId());
@@ -651,6 +562,8 @@ public class RoomService {
             dto.setImages("[]"); // Default to empty JSON array on error
         }
 
+        dto.setImageVariants(room.getImageVariants() != null ? room.getImageVariants() : "[]");
+
         dto.setCreatedAt(room.getCreatedAt());
         dto.setUpdatedAt(room.getUpdatedAt());
         return dto;
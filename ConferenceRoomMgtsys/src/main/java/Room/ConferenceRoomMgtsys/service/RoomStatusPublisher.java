@@ -0,0 +1,160 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import static Room.ConferenceRoomMgtsys.service.TransactionHooks.afterCommit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import Room.ConferenceRoomMgtsys.dto.room.RoomAvailabilityDto;
+import Room.ConferenceRoomMgtsys.dto.room.RoomSlotUpdateDto;
+import Room.ConferenceRoomMgtsys.model.Booking;
+import Room.ConferenceRoomMgtsys.model.Room;
+import Room.ConferenceRoomMgtsys.repository.BookingRepository.BookingTransition;
+import Room.ConferenceRoomMgtsys.repository.RoomRepository;
+
+/**
+ * Pushes availability-grid changes so clients can keep a local grid instead of
+ * polling {@code /room/availability}. Booking writes mark their (room, day)
+ * once the transaction commits; a short scheduled flush recomputes the hourly
+ * slots of every marked key and publishes the whole day for it. Frames carry
+ * the full state rather than a diff so every instance can publish any key
+ * without a shared baseline, and a client that missed a frame is corrected by
+ * the next one. Keys whose flush fails are marked again for the next run.
+ */
+@Service
+public class RoomStatusPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomStatusPublisher.class);
+
+    private final RoomRepository roomRepository;
+    private final SlotAvailabilityEngine slotAvailabilityEngine;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Set<SlotKey> dirty = ConcurrentHashMap.newKeySet();
+
+    public RoomStatusPublisher(RoomRepository roomRepository, SlotAvailabilityEngine slotAvailabilityEngine,
+            WebSocketNotificationService webSocketNotificationService,
+            PlatformTransactionManager transactionManager) {
+        this.roomRepository = roomRepository;
+        this.slotAvailabilityEngine = slotAvailabilityEngine;
+        this.webSocketNotificationService = webSocketNotificationService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Mark every day a booking touches for republishing once the current
+     * transaction commits.
+     */
+    public void bookingChanged(UUID roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (roomId == null || startTime == null) {
+            return;
+        }
+        List<SlotKey> keys = new ArrayList<>();
+        LocalDate last = endTime != null && endTime.isAfter(startTime) ? endTime.toLocalDate() : startTime.toLocalDate();
+        for (LocalDate day = startTime.toLocalDate(); !day.isAfter(last); day = day.plusDays(1)) {
+            keys.add(new SlotKey(roomId, day));
+        }
+        afterCommit(() -> dirty.addAll(keys));
+    }
+
+    public void bookingsChanged(Collection<BookingTransition> transitions) {
+        for (BookingTransition transition : transitions) {
+            bookingChanged(transition.getRoomId(), transition.getStartTime(), transition.getEndTime());
+        }
+    }
+
+    /**
+     * Announce a room being activated or deactivated once the current
+     * transaction commits.
+     */
+    public void roomActivationChanged(Room room) {
+        RoomSlotUpdateDto update = new RoomSlotUpdateDto();
+        update.setType("ROOM_STATUS");
+        update.setRoomId(room.getId());
+        update.setOrganizationId(room.getOrganization() != null ? room.getOrganization().getId() : null);
+        update.setActive(room.getIsActive());
+        afterCommit(() -> {
+            update.setGeneratedAt(LocalDateTime.now(ZoneId.of("Africa/Kigali")));
+            webSocketNotificationService.sendRoomSlotUpdate(update);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.rooms.live-status.flush-interval-ms:1000}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<SlotKey> keys = new ArrayList<>(dirty);
+        dirty.removeAll(keys);
+        Map<LocalDate, Set<UUID>> roomsByDay = new HashMap<>();
+        for (SlotKey key : keys) {
+            roomsByDay.computeIfAbsent(key.day(), d -> new HashSet<>()).add(key.roomId());
+        }
+        try {
+            List<RoomSlotUpdateDto> updates = readOnlyTransaction.execute(status -> computeUpdates(roomsByDay));
+            updates.forEach(webSocketNotificationService::sendRoomSlotUpdate);
+        } catch (RuntimeException e) {
+            // Frames are full state, so republishing keys that already went out is harmless
+            dirty.addAll(keys);
+            logger.warn("Failed to publish room slot updates for {} keys, retrying: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    // One room lookup plus one booking range query per affected day
+    private List<RoomSlotUpdateDto> computeUpdates(Map<LocalDate, Set<UUID>> roomsByDay) {
+        List<RoomSlotUpdateDto> updates = new ArrayList<>();
+        for (Map.Entry<LocalDate, Set<UUID>> entry : roomsByDay.entrySet()) {
+            LocalDate day = entry.getKey();
+            List<Room> rooms = roomRepository.findAllById(entry.getValue());
+            Map<UUID, List<Booking>> bookingsByRoom = slotAvailabilityEngine.loadDay(rooms, day);
+            for (Room room : rooms) {
+                List<RoomAvailabilityDto.TimeSlotDto> slots = slotAvailabilityEngine
+                        .computeSlots(bookingsByRoom.getOrDefault(room.getId(), List.of()), day);
+                updates.add(toUpdate(room, day, slots));
+            }
+        }
+        return updates;
+    }
+
+    private RoomSlotUpdateDto toUpdate(Room room, LocalDate day, List<RoomAvailabilityDto.TimeSlotDto> slots) {
+        List<RoomSlotUpdateDto.SlotState> states = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            states.add(new RoomSlotUpdateDto.SlotState(SlotAvailabilityEngine.FIRST_SLOT_HOUR + i,
+                    slots.get(i).getStatus()));
+        }
+
+        RoomSlotUpdateDto update = new RoomSlotUpdateDto();
+        update.setType("SLOTS");
+        update.setRoomId(room.getId());
+        update.setOrganizationId(room.getOrganization() != null ? room.getOrganization().getId() : null);
+        update.setDate(day);
+        update.setFull(true);
+        update.setSlots(states);
+        update.setAvailable(slots.stream().anyMatch(RoomAvailabilityDto.TimeSlotDto::isAvailable));
+        update.setActive(room.getIsActive());
+        update.setGeneratedAt(LocalDateTime.now(ZoneId.of("Africa/Kigali")));
+        return update;
+    }
+
+    private record SlotKey(UUID roomId, LocalDate day) {
+    }
+}
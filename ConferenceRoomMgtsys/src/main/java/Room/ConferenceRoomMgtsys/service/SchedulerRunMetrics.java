@@ -0,0 +1,49 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Per-run metrics for scheduled jobs: execution time, rows affected and lag
+ * (how far past its deadline the oldest affected row was when the run picked it
+ * up). Exposed through Micrometer under {@code scheduler.job.*} tagged by job.
+ */
+@Component
+public class SchedulerRunMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerRunMetrics.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> lagSeconds = new ConcurrentHashMap<>();
+
+    public SchedulerRunMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String job, long startNanos, int rows, Duration lag) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        meterRegistry.timer("scheduler.job.duration", "job", job).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("scheduler.job.rows", "job", job).increment(rows);
+        lagSeconds.computeIfAbsent(job,
+                j -> meterRegistry.gauge("scheduler.job.lag.seconds", Tags.of("job", j), new AtomicLong()))
+                .set(lag.getSeconds());
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (rows > 0) {
+            logger.info("Scheduled job {} updated {} rows in {} ms (lag {} s)", job, rows, elapsedMs,
+                    lag.getSeconds());
+        } else {
+            logger.debug("Scheduled job {} found nothing to update ({} ms)", job, elapsedMs);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Maintains {@code search_documents}: one row per room, booking and user with a
+ * weighted {@code tsvector} (GIN indexed) and a title for trigram matching.
+ *
+ * Entity writes mark the document dirty after commit; dirty documents are
+ * rebuilt from their source row in small batches, and deleted when the source
+ * row is gone. A nightly rebuild repairs anything a crash may have left behind.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexService.class);
+
+    public static final String ROOM = "room";
+    public static final String BOOKING = "booking";
+    public static final String USER = "user";
+
+    private static final String UPSERT = "INSERT INTO search_documents "
+            + "(entity_type, entity_id, organization_id, title, body, document, updated_at) %s "
+            + "ON CONFLICT (entity_type, entity_id) DO UPDATE SET organization_id = EXCLUDED.organization_id, "
+            + "title = EXCLUDED.title, body = EXCLUDED.body, document = EXCLUDED.document, "
+            + "updated_at = EXCLUDED.updated_at";
+
+    // 'simple' keeps names and emails unstemmed so prefix queries match what was typed
+    private static final Map<String, String> SOURCE_SQL = Map.of(
+            ROOM, "SELECT 'room', r.id, r.organization_id, COALESCE(r.name, ''), "
+                    + "CONCAT_WS(' - ', r.location, r.floor, r.description), "
+                    + "setweight(to_tsvector('simple', COALESCE(r.name, '')), 'A') "
+                    + "|| setweight(to_tsvector('simple', CONCAT_WS(' ', r.location, r.floor)), 'B') "
+                    + "|| setweight(to_tsvector('simple', CONCAT_WS(' ', r.description, r.amenities, r.equipment)), 'C'), "
+                    + "now() FROM rooms r",
+            BOOKING, "SELECT 'booking', b.id, r.organization_id, COALESCE(NULLIF(b.purpose, ''), 'Booking'), "
+                    + "CONCAT_WS(' - ', r.name, CONCAT_WS(' ', u.first_name, u.last_name), "
+                    + "to_char(b.start_time, 'YYYY-MM-DD HH24:MI'), b.notes), "
+                    + "setweight(to_tsvector('simple', COALESCE(b.purpose, '')), 'A') "
+                    + "|| setweight(to_tsvector('simple', CONCAT_WS(' ', r.name, u.first_name, u.last_name)), 'B') "
+                    + "|| setweight(to_tsvector('simple', COALESCE(b.notes, '')), 'C'), "
+                    + "now() FROM bookings b JOIN rooms r ON r.id = b.room_id JOIN users u ON u.id = b.user_id",
+            // Emails stay searchable but are not part of the displayed body
+            USER, "SELECT 'user', u.id, u.organization_id, CONCAT_WS(' ', u.first_name, u.last_name), "
+                    + "CAST(u.role AS text), "
+                    + "setweight(to_tsvector('simple', CONCAT_WS(' ', u.first_name, u.last_name)), 'A') "
+                    + "|| setweight(to_tsvector('simple', COALESCE(u.email, '')), 'B') "
+                    + "|| setweight(to_tsvector('simple', translate(COALESCE(u.email, ''), '@._-+', '     ')), 'B'), "
+                    + "now() FROM users u");
+
+    private static final Map<String, String> ID_COLUMN = Map.of(ROOM, "r.id", BOOKING, "b.id", USER, "u.id");
+    private static final Map<String, String> SOURCE_TABLE = Map.of(ROOM, "rooms", BOOKING, "bookings", USER, "users");
+
+    // Booking documents embed the room and user names; these find the rooms and users whose
+    // indexed title no longer matches their name, and the booking column that points at them
+    private static final Map<String, String> RENAMED_SQL = Map.of(
+            ROOM, "SELECT r.id FROM rooms r JOIN search_documents d ON d.entity_type = 'room' "
+                    + "AND d.entity_id = r.id WHERE d.title <> COALESCE(r.name, '') AND r.id IN (%s)",
+            USER, "SELECT u.id FROM users u JOIN search_documents d ON d.entity_type = 'user' "
+                    + "AND d.entity_id = u.id WHERE d.title <> CONCAT_WS(' ', u.first_name, u.last_name) "
+                    + "AND u.id IN (%s)");
+    private static final Map<String, String> BOOKING_COLUMN = Map.of(ROOM, "b.room_id", USER, "b.user_id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DirtyKeyFlusher<DocumentKey> dirtyKeys;
+
+    private volatile boolean trigramAvailable;
+
+    public SearchIndexService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dirtyKeys = new DirtyKeyFlusher<>("search documents", transactionManager);
+    }
+
+    /**
+     * Queue an entity's search document for rebuilding once the current
+     * transaction commits.
+     */
+    public void markDirty(String entityType, UUID entityId) {
+        if (entityId == null) {
+            return;
+        }
+        dirtyKeys.markDirty(new DocumentKey(entityType, entityId));
+    }
+
+    /**
+     * Rebuild the dirty documents, plus the booking documents of rooms and
+     * users that were renamed.
+     */
+    @Scheduled(fixedDelayString = "${app.search.index.flush-interval-ms:2000}")
+    public void flushDirty() {
+        dirtyKeys.flush(batch -> {
+            // Compared against the titles indexed so far, so look before the upserts below
+            Map<String, List<UUID>> renamed = new HashMap<>();
+            for (String type : RENAMED_SQL.keySet()) {
+                List<UUID> ids = idsOfType(batch, type);
+                if (!ids.isEmpty()) {
+                    String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+                    List<UUID> found = jdbcTemplate.queryForList(
+                            String.format(RENAMED_SQL.get(type), placeholders), UUID.class, ids.toArray());
+                    if (!found.isEmpty()) {
+                        renamed.put(type, found);
+                    }
+                }
+            }
+            for (String type : SOURCE_SQL.keySet()) {
+                List<UUID> ids = idsOfType(batch, type);
+                if (ids.isEmpty()) {
+                    continue;
+                }
+                String upsert = String.format(UPSERT,
+                        SOURCE_SQL.get(type) + " WHERE " + ID_COLUMN.get(type) + " = ?");
+                jdbcTemplate.batchUpdate(upsert, ids, ids.size(), (ps, id) -> ps.setObject(1, id));
+                jdbcTemplate.batchUpdate("DELETE FROM search_documents d WHERE d.entity_type = ? "
+                        + "AND d.entity_id = ? AND NOT EXISTS (SELECT 1 FROM " + SOURCE_TABLE.get(type)
+                        + " s WHERE s.id = d.entity_id)", ids, ids.size(), (ps, id) -> {
+                            ps.setString(1, type);
+                            ps.setObject(2, id);
+                        });
+            }
+            renamed.forEach((type, ids) -> {
+                String upsert = String.format(UPSERT,
+                        SOURCE_SQL.get(BOOKING) + " WHERE " + BOOKING_COLUMN.get(type) + " = ?");
+                jdbcTemplate.batchUpdate(upsert, ids, ids.size(), (ps, id) -> ps.setObject(1, id));
+            });
+        });
+    }
+
+    private static List<UUID> idsOfType(List<DocumentKey> batch, String type) {
+        return batch.stream().filter(k -> k.type.equals(type)).map(k -> k.id).toList();
+    }
+
+    /**
+     * Rebuild every search document from the source tables.
+     */
+    @Scheduled(cron = "${app.search.index.rebuild-cron:0 45 2 * * *}")
+    public void rebuild() {
+        dirtyKeys.rebuild(() -> {
+            int count = 0;
+            for (String type : SOURCE_SQL.keySet()) {
+                count += jdbcTemplate.update(String.format(UPSERT, SOURCE_SQL.get(type)));
+                jdbcTemplate.update("DELETE FROM search_documents d WHERE d.entity_type = ? AND NOT EXISTS "
+                        + "(SELECT 1 FROM " + SOURCE_TABLE.get(type) + " s WHERE s.id = d.entity_id)", type);
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Enable trigram matching when pg_trgm is (or can be) installed, then
+     * backfill on first start, or rebuild when documents are in an older format.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        trigramAvailable = ensureTrigramSupport();
+        // User bodies used to carry the email address
+        Boolean stale = jdbcTemplate.queryForObject("SELECT NOT EXISTS (SELECT 1 FROM search_documents) "
+                + "OR EXISTS (SELECT 1 FROM search_documents WHERE entity_type = 'user' AND body LIKE '%@%')",
+                Boolean.class);
+        if (Boolean.TRUE.equals(stale)) {
+            rebuild();
+        }
+    }
+
+    public boolean isTrigramAvailable() {
+        return trigramAvailable;
+    }
+
+    // CREATE EXTENSION needs a privileged role, so a failure only disables typo matching
+    private boolean ensureTrigramSupport() {
+        try {
+            Boolean installed = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')", Boolean.class);
+            if (!Boolean.TRUE.equals(installed)) {
+                jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            }
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_search_documents_title_trgm "
+                    + "ON search_documents USING GIN (title gin_trgm_ops)");
+            return true;
+        } catch (DataAccessException e) {
+            logger.warn("pg_trgm is not available ({}); global search runs without typo matching. "
+                    + "Run 'CREATE EXTENSION pg_trgm' as a superuser to enable it.", e.getMessage());
+            return false;
+        }
+    }
+
+    private static final class DocumentKey {
+        private final String type;
+        private final UUID id;
+
+        DocumentKey(String type, UUID id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DocumentKey)) {
+                return false;
+            }
+            DocumentKey other = (DocumentKey) o;
+            return type.equals(other.type) && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + id.hashCode();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import Room.ConferenceRoomMgtsys.dto.room.RoomAvailabilityDto;
+import Room.ConferenceRoomMgtsys.enums.BookingStatus;
+import Room.ConferenceRoomMgtsys.model.Booking;
+import Room.ConferenceRoomMgtsys.model.Room;
+import Room.ConferenceRoomMgtsys.repository.BookingRepository;
+
+/**
+ * Computes hourly slot availability for many rooms at once.
+ * All bookings for the requested day are loaded in a single range query and
+ * the slots are then derived in memory from per-room sorted interval lists.
+ */
+@Service
+public class SlotAvailabilityEngine {
+
+    // Business day covered by the availability grid (07:00 - 17:00, 1-hour slots)
+    public static final int FIRST_SLOT_HOUR = 7;
+    public static final int LAST_SLOT_HOUR = 17;
+
+    private final BookingRepository bookingRepository;
+
+    public SlotAvailabilityEngine(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    /**
+     * Load every booking of the given rooms that touches the given day, grouped
+     * by room ID and sorted by start time. Rooms without bookings map to an empty
+     * list.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, List<Booking>> loadDay(Collection<Room> rooms, LocalDate date) {
+        Map<UUID, List<Booking>> byRoom = new HashMap<>();
+        if (rooms == null || rooms.isEmpty()) {
+            return byRoom;
+        }
+        List<UUID> roomIds = rooms.stream().map(Room::getId).collect(Collectors.toList());
+        for (UUID roomId : roomIds) {
+            byRoom.put(roomId, new ArrayList<>());
+        }
+
+        List<Booking> bookings = bookingRepository.findByRoomIdsOverlappingRange(
+                roomIds, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        // Query is ordered by start time, so each per-room list stays sorted
+        for (Booking booking : bookings) {
+            byRoom.computeIfAbsent(booking.getRoom().getId(), k -> new ArrayList<>()).add(booking);
+        }
+        return byRoom;
+    }
+
+    /**
+     * Build the hourly slots for a day from a room's bookings (sorted by start).
+     * A slot is booked when it overlaps any APPROVED booking.
+     */
+    public List<RoomAvailabilityDto.TimeSlotDto> computeSlots(List<Booking> sortedBookings, LocalDate date) {
+        List<LocalDateTime[]> busy = mergeApproved(sortedBookings);
+        List<RoomAvailabilityDto.TimeSlotDto> timeSlots = new ArrayList<>();
+
+        int cursor = 0;
+        for (int hour = FIRST_SLOT_HOUR; hour < LAST_SLOT_HOUR; hour++) {
+            LocalDateTime slotStart = date.atTime(hour, 0);
+            LocalDateTime slotEnd = date.atTime(hour + 1, 0);
+
+            // Skip busy intervals that end before this slot starts
+            while (cursor < busy.size() && !busy.get(cursor)[1].isAfter(slotStart)) {
+                cursor++;
+            }
+            boolean isAvailable = cursor >= busy.size() || !busy.get(cursor)[0].isBefore(slotEnd);
+
+            RoomAvailabilityDto.TimeSlotDto timeSlot = new RoomAvailabilityDto.TimeSlotDto();
+            timeSlot.setStartTime(slotStart.toString());
+            timeSlot.setEndTime(slotEnd.toString());
+            timeSlot.setAvailable(isAvailable);
+            timeSlot.setStatus(isAvailable ? "AVAILABLE" : "BOOKED");
+            timeSlots.add(timeSlot);
+        }
+        return timeSlots;
+    }
+
+    /**
+     * Bookings of a room that start on the given day, in start-time order.
+     */
+    public List<Booking> startingOn(List<Booking> sortedBookings, LocalDate date) {
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime dayEnd = date.atTime(23, 59, 59);
+        return sortedBookings.stream()
+                .filter(b -> !b.getStartTime().isBefore(dayStart) && !b.getStartTime().isAfter(dayEnd))
+                .collect(Collectors.toList());
+    }
+
+    // Collapse overlapping APPROVED bookings into disjoint [start, end) intervals
+    private List<LocalDateTime[]> mergeApproved(List<Booking> sortedBookings) {
+        List<LocalDateTime[]> merged = new ArrayList<>();
+        if (sortedBookings == null) {
+            return merged;
+        }
+        for (Booking booking : sortedBookings) {
+            if (booking.getStatus() != BookingStatus.APPROVED) {
+                continue;
+            }
+            LocalDateTime start = booking.getStartTime();
+            LocalDateTime end = booking.getEndTime();
+            if (!merged.isEmpty() && !start.isAfter(merged.get(merged.size() - 1)[1])) {
+                LocalDateTime[] last = merged.get(merged.size() - 1);
+                if (end.isAfter(last[1])) {
+                    last[1] = end;
+                }
+            } else {
+                merged.add(new LocalDateTime[] { start, end });
+            }
+        }
+        return merged;
+    }
+}
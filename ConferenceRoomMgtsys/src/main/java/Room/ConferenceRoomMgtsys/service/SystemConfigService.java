@@ -1,10 +1,13 @@
 package Room.ConferenceRoomMgtsys.service;
 
+import Room.ConferenceRoomMgtsys.config.CacheConfig;
 import Room.ConferenceRoomMgtsys.model.SystemConfig;
 import Room.ConferenceRoomMgtsys.repository.SystemConfigRepository;
 import Room.ConferenceRoomMgtsys.repository.UserRepository;
 import Room.ConferenceRoomMgtsys.enums.UserRole;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +16,7 @@ import java.util.Optional;
 @Service
 public class SystemConfigService {
     private static final Long SINGLETON_ID = 1L;
+    private static final String REGISTRATION_ENABLED_KEY = "systemAdminRegistrationEnabled";
 
     @Autowired
     private SystemConfigRepository systemConfigRepository;
@@ -20,12 +24,18 @@ public class SystemConfigService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     public boolean isSystemAdminRegistrationEnabled() {
         // If no system admin exists yet, registration should be enabled
         if (!userRepository.existsByRole(UserRole.SYSTEM_ADMIN)) {
             return true;
         }
-        return getConfig().isSystemAdminRegistrationEnabled();
+        // Only the flag is cached, never the managed entity
+        Boolean enabled = systemConfigCache().get(REGISTRATION_ENABLED_KEY,
+                () -> getConfig().isSystemAdminRegistrationEnabled());
+        return Boolean.TRUE.equals(enabled);
     }
 
     @Transactional
@@ -33,6 +43,12 @@ public class SystemConfigService {
         SystemConfig config = getConfig();
         config.setSystemAdminRegistrationEnabled(enabled);
         systemConfigRepository.save(config);
+        // Transaction-aware: applied once the change commits, skipped on rollback
+        systemConfigCache().evict(REGISTRATION_ENABLED_KEY);
+    }
+
+    private Cache systemConfigCache() {
+        return cacheManager.getCache(CacheConfig.SYSTEM_CONFIG);
     }
 
     private SystemConfig getConfig() {
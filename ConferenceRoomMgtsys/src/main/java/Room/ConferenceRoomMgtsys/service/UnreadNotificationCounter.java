@@ -0,0 +1,169 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import Room.ConferenceRoomMgtsys.repository.NotificationRepository;
+
+/**
+ * Per-user unread notification counts, loaded once with a COUNT query and then
+ * adjusted in place as notifications are created and read.
+ *
+ * Counts live in a bounded in-process map whose per-key compute operations keep
+ * concurrent adjustments for the same user serialized. With
+ * {@code app.cache.redis.enabled=true} each count is a Redis key of its own so
+ * every node sees the same figure; adjustments run as one script that floors
+ * the stored value at zero. Either way a count expires
+ * {@code app.notifications.unread-counter.ttl} after it was loaded and is
+ * reloaded from the database, which bounds any drift from races with the
+ * initial load.
+ */
+@Component
+public class UnreadNotificationCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnreadNotificationCounter.class);
+    private static final String REDIS_KEY_PREFIX = "crms:notifications:unread:";
+    private static final int DELETE_CHUNK = 1000;
+
+    // Adjusts a loaded count by ARGV[1], never below zero, keeping the expiry set at load; -1 when not loaded
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) "
+                    + "if not current then return -1 end "
+                    + "local updated = tonumber(current) + tonumber(ARGV[1]) "
+                    + "if updated < 0 then updated = 0 end "
+                    + "redis.call('SET', KEYS[1], updated, 'KEEPTTL') "
+                    + "return updated",
+            Long.class);
+
+    private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ConcurrentMap<UUID, Integer> counts;
+    private final Duration ttl;
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            @Value("${app.cache.redis.enabled:false}") boolean redisEnabled,
+            @Value("${app.notifications.unread-counter.max-size:50000}") long maxSize,
+            @Value("${app.notifications.unread-counter.ttl:PT30M}") Duration ttl) {
+        this.notificationRepository = notificationRepository;
+        this.redisTemplate = redisEnabled ? redisTemplate.getIfAvailable() : null;
+        this.ttl = ttl;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .<UUID, Integer>build()
+                .asMap();
+    }
+
+    /**
+     * Current unread count, loading it from the database on first use.
+     */
+    public int get(UUID userId) {
+        if (redisTemplate != null) {
+            try {
+                String stored = redisTemplate.opsForValue().get(redisKey(userId));
+                if (stored != null) {
+                    return Integer.parseInt(stored);
+                }
+                int loaded = load(userId);
+                redisTemplate.opsForValue().setIfAbsent(redisKey(userId), Integer.toString(loaded), ttl);
+                return loaded;
+            } catch (RuntimeException e) {
+                logger.warn("Unread counter Redis read failed, falling back to database: {}", e.getMessage());
+                return load(userId);
+            }
+        }
+        return counts.computeIfAbsent(userId, this::load);
+    }
+
+    /**
+     * Adjust a user's count by delta after a committed change and return the new
+     * value. A count that is not loaded yet is simply loaded, since the database
+     * already reflects the change.
+     */
+    public int add(UUID userId, int delta) {
+        if (redisTemplate != null) {
+            try {
+                Long updated = redisTemplate.execute(ADJUST_SCRIPT, List.of(redisKey(userId)),
+                        Integer.toString(delta));
+                return updated == null || updated < 0 ? get(userId) : updated.intValue();
+            } catch (RuntimeException e) {
+                logger.warn("Unread counter Redis update failed: {}", e.getMessage());
+                invalidate(userId);
+                return load(userId);
+            }
+        }
+        Integer updated = counts.computeIfPresent(userId, (id, current) -> Math.max(0, current + delta));
+        return updated != null ? updated : get(userId);
+    }
+
+    public void reset(UUID userId) {
+        set(userId, 0);
+    }
+
+    public void set(UUID userId, int value) {
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.opsForValue().set(redisKey(userId), Integer.toString(value), ttl);
+            } catch (RuntimeException e) {
+                logger.warn("Unread counter Redis update failed: {}", e.getMessage());
+                invalidate(userId);
+            }
+            return;
+        }
+        counts.put(userId, value);
+    }
+
+    /**
+     * Bump the loaded counts of the given users after a fan-out insert. In Redis
+     * their keys are dropped instead and each count reloads on next read.
+     */
+    public void incrementAll(Collection<UUID> userIds) {
+        if (redisTemplate != null) {
+            List<String> keys = new ArrayList<>(userIds.size());
+            userIds.forEach(id -> keys.add(redisKey(id)));
+            try {
+                for (int from = 0; from < keys.size(); from += DELETE_CHUNK) {
+                    redisTemplate.delete(keys.subList(from, Math.min(from + DELETE_CHUNK, keys.size())));
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Unread counter Redis invalidation failed: {}", e.getMessage());
+            }
+            return;
+        }
+        userIds.forEach(id -> counts.computeIfPresent(id, (key, current) -> current + 1));
+    }
+
+    // Best effort: a key that cannot be dropped still expires with its TTL
+    private void invalidate(UUID userId) {
+        try {
+            redisTemplate.delete(redisKey(userId));
+        } catch (RuntimeException e) {
+            logger.debug("Unread counter Redis invalidation failed: {}", e.getMessage());
+        }
+    }
+
+    private String redisKey(UUID userId) {
+        return REDIS_KEY_PREFIX + userId;
+    }
+
+    private int load(UUID userId) {
+        Long count = notificationRepository.countUnreadNotificationsByUserId(userId);
+        return count != null ? count.intValue() : 0;
+    }
+}
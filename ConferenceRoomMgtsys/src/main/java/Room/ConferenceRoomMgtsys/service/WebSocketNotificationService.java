@@ -1,13 +1,16 @@
 package Room.ConferenceRoomMgtsys.service;
 
 import Room.ConferenceRoomMgtsys.dto.notification.WebSocketNotificationDto;
+import Room.ConferenceRoomMgtsys.dto.room.RoomSlotUpdateDto;
 import Room.ConferenceRoomMgtsys.model.Notification;
 import Room.ConferenceRoomMgtsys.model.User;
-import Room.ConferenceRoomMgtsys.model.Room;
 import Room.ConferenceRoomMgtsys.model.Booking;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 
 @Service
 public class WebSocketNotificationService {
@@ -18,6 +21,10 @@ public class WebSocketNotificationService {
     }
 
     public void sendNotification(User user, Notification notification) {
+        sendNotification(user, notification, null);
+    }
+
+    public void sendNotification(User user, Notification notification, Integer unreadCount) {
         WebSocketNotificationDto dto = new WebSocketNotificationDto();
         dto.setId(notification.getId());
         dto.setType(notification.getType());
@@ -28,16 +35,35 @@ public class WebSocketNotificationService {
         dto.setActionUrl(notification.getActionUrl());
         dto.setTimestamp(notification.getCreatedAt());
         dto.setRead(notification.getIsRead());
+        dto.setUnreadCount(unreadCount);
 
         // Send to user's specific topic
         String destination = "/topic/notifications/" + user.getId();
         messagingTemplate.convertAndSend(destination, dto);
     }
 
-    public void sendRoomStatusUpdate(Room room, String status) {
-        // Send room status update to all users
-        String destination = "/topic/rooms/" + room.getId() + "/status";
-        messagingTemplate.convertAndSend(destination, status);
+    /**
+     * Push only the recipient's unread total, e.g. after a mark-all-read, on the
+     * same per-user topic so clients never need to poll for it.
+     */
+    public void sendUnreadCount(UUID userId, int unreadCount) {
+        WebSocketNotificationDto dto = new WebSocketNotificationDto();
+        dto.setTimestamp(LocalDateTime.now());
+        dto.setRead(true);
+        dto.setUnreadCount(unreadCount);
+
+        messagingTemplate.convertAndSend("/topic/notifications/" + userId, dto);
+    }
+
+    /**
+     * Publish an availability-grid change on the room's topic and on its
+     * organization's topic, so a grid of many rooms needs one subscription.
+     */
+    public void sendRoomSlotUpdate(RoomSlotUpdateDto update) {
+        messagingTemplate.convertAndSend("/topic/rooms/" + update.getRoomId() + "/slots", update);
+        if (update.getOrganizationId() != null) {
+            messagingTemplate.convertAndSend("/topic/organizations/" + update.getOrganizationId() + "/slots", update);
+        }
     }
 
     public void sendBookingUpdate(Booking booking, String status) {
@@ -0,0 +1,40 @@
+package Room.ConferenceRoomMgtsys.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+import com.opencsv.CSVWriter;
+
+/**
+ * CSV export backed by opencsv.
+ */
+public class CsvReportRowWriter implements ReportRowWriter {
+
+    private final CSVWriter writer;
+    private final String[] buffer;
+
+    public CsvReportRowWriter(OutputStream out, int columns) {
+        this.writer = new CSVWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        this.buffer = new String[columns];
+    }
+
+    @Override
+    public void writeRow(Object... cells) throws IOException {
+        for (int i = 0; i < buffer.length; i++) {
+            Object cell = i < cells.length ? cells[i] : null;
+            buffer[i] = cell != null ? cell.toString() : "";
+        }
+        writer.writeNext(buffer);
+        if (writer.checkError()) {
+            throw new IOException("Failed to write CSV row");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,14 @@
+package Room.ConferenceRoomMgtsys.service.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Row-at-a-time sink for tabular report exports. Implementations write each
+ * row straight to the underlying stream so memory use does not grow with the
+ * number of rows.
+ */
+public interface ReportRowWriter extends Closeable {
+
+    void writeRow(Object... cells) throws IOException;
+}
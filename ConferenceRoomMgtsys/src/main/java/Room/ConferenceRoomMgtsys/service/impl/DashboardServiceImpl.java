@@ -1,104 +1,160 @@
 package Room.ConferenceRoomMgtsys.service.impl;
 
-import Room.ConferenceRoomMgtsys.enums.ApprovalStatus;
-import Room.ConferenceRoomMgtsys.enums.BookingStatus;
+import Room.ConferenceRoomMgtsys.config.CacheConfig;
 import Room.ConferenceRoomMgtsys.model.User;
-import Room.ConferenceRoomMgtsys.model.Organization;
-import Room.ConferenceRoomMgtsys.repository.BookingRepository;
-import Room.ConferenceRoomMgtsys.repository.OrganizationRepository;
-import Room.ConferenceRoomMgtsys.repository.RoomRepository;
-import Room.ConferenceRoomMgtsys.repository.UserRepository;
 import Room.ConferenceRoomMgtsys.service.DashboardService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
+/**
+ * Dashboard snapshots built from a handful of aggregate queries that return
+ * counts only. Snapshots are memoized per role scope (system, organization,
+ * user) in the {@link CacheConfig#DASHBOARDS} cache for a short TTL and evicted
+ * on booking, user, room or organization changes, and once more when the
+ * booking rollups behind the most used rooms are refreshed, by
+ * {@link Room.ConferenceRoomMgtsys.service.DashboardCacheInvalidator}.
+ */
 @Service
 public class DashboardServiceImpl implements DashboardService {
 
     private static final Logger logger = LoggerFactory.getLogger(DashboardServiceImpl.class);
 
-    private final UserRepository userRepository;
-    private final RoomRepository roomRepository;
-    private final BookingRepository bookingRepository;
-    private final OrganizationRepository organizationRepository;
-
-    public DashboardServiceImpl(UserRepository userRepository, RoomRepository roomRepository,
-            BookingRepository bookingRepository, OrganizationRepository organizationRepository) {
-        this.userRepository = userRepository;
-        this.roomRepository = roomRepository;
-        this.bookingRepository = bookingRepository;
-        this.organizationRepository = organizationRepository;
+    private static final String SYSTEM_COUNTS_SQL = "SELECT "
+            + "(SELECT COUNT(*) FROM users WHERE is_active = true), "
+            + "(SELECT COUNT(*) FROM users WHERE approval_status = 'PENDING'), "
+            + "(SELECT COUNT(*) FROM organizations WHERE is_active = true), "
+            + "(SELECT COUNT(*) FROM rooms), "
+            + "(SELECT COUNT(*) FROM bookings), "
+            + "(SELECT COUNT(*) FROM bookings WHERE status = 'APPROVED' AND start_time <= ? AND end_time > ?)";
+
+    // Active organizations with their user and room counts in one pass
+    private static final String ORGANIZATIONS_SQL = "SELECT o.id, o.name, o.organization_code, o.description, "
+            + "o.address, o.phone, o.email, o.logo_url, "
+            + "COALESCE(u.active_users, 0), COALESCE(u.all_users, 0), COALESCE(r.total_rooms, 0) "
+            + "FROM organizations o "
+            + "LEFT JOIN (SELECT organization_id, COUNT(*) FILTER (WHERE is_active = true) AS active_users, "
+            + "COUNT(*) AS all_users FROM users GROUP BY organization_id) u ON u.organization_id = o.id "
+            + "LEFT JOIN (SELECT organization_id, COUNT(*) AS total_rooms FROM rooms GROUP BY organization_id) r "
+            + "ON r.organization_id = o.id "
+            + "WHERE o.is_active = true ORDER BY o.name";
+
+    // All-time bookings per room, summed from the daily rollups
+    private static final String MOST_USED_ROOMS_SQL = "SELECT r.name, SUM(d.total_count) "
+            + "FROM booking_daily_rollups d JOIN rooms r ON r.id = d.room_id "
+            + "GROUP BY r.name ORDER BY SUM(d.total_count) DESC";
+
+    private static final String ADMIN_COUNTS_SQL = "SELECT "
+            + "(SELECT name FROM organizations WHERE id = ?), "
+            + "(SELECT COUNT(*) FROM rooms WHERE organization_id = ?), "
+            + "(SELECT COUNT(*) FROM bookings b JOIN rooms r ON r.id = b.room_id WHERE r.organization_id = ? "
+            + "AND b.status = 'APPROVED' AND b.start_time <= ? AND b.end_time > ?), "
+            + "(SELECT COUNT(*) FROM bookings b JOIN rooms r ON r.id = b.room_id WHERE r.organization_id = ? "
+            + "AND b.status = 'PENDING'), "
+            + "(SELECT COUNT(*) FROM users WHERE organization_id = ? AND is_active = true)";
+
+    private static final String USER_COUNTS_SQL = "SELECT COUNT(*), "
+            + "COUNT(*) FILTER (WHERE status = 'APPROVED' AND start_time > ?), "
+            + "COUNT(*) FILTER (WHERE status = 'PENDING') "
+            + "FROM bookings WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DashboardServiceImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.DASHBOARDS, key = "'system'")
     public Object getSystemAdminDashboard() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
         Map<String, Object> dashboard = new HashMap<>();
         dashboard.put("message", "Welcome System Admin!");
-        dashboard.put("totalUsers", userRepository.countByIsActive(true));
-        dashboard.put("pendingApprovals", userRepository.findByApprovalStatus(ApprovalStatus.PENDING).size());
-        dashboard.put("totalOrganizations", organizationRepository.countByIsActive(true));
-        dashboard.put("totalRooms", roomRepository.count());
-        dashboard.put("totalBookings", bookingRepository.count());
-        dashboard.put("activeBookings", bookingRepository.findActiveBookings(LocalDateTime.now()).size());
-        dashboard.put("totalUsersInOrg", userRepository.countUsersByActiveOrganization());
-        dashboard.put("mostUsedRooms", roomRepository.findMostUsedRooms());
-
-        // Add organizations data
-        List<Organization> activeOrganizations = organizationRepository.findByIsActive(true);
-        logger.info("Fetched {} active organizations.", activeOrganizations.size());
-        activeOrganizations
-                .forEach(org -> logger.info("  Organization: {}, Logo URL: {}", org.getName(), org.getLogoUrl()));
-
-        List<Map<String, Object>> organizationsData = activeOrganizations.stream()
-                .map(org -> {
-                    Map<String, Object> orgData = new HashMap<>();
-                    orgData.put("id", org.getId());
-                    orgData.put("name", org.getName());
-                    orgData.put("organizationCode", org.getOrganizationCode());
-                    orgData.put("description", org.getDescription());
-                    orgData.put("address", org.getAddress());
-                    orgData.put("phone", org.getPhone());
-                    orgData.put("email", org.getEmail());
-                    orgData.put("logoUrl", org.getLogoUrl());
-                    orgData.put("totalUsers", userRepository.countActiveUsersByOrganization(org));
-                    orgData.put("totalRooms", roomRepository.countByOrganization(org));
-                    return orgData;
-                })
-                .collect(Collectors.toList());
+        jdbcTemplate.query(SYSTEM_COUNTS_SQL, rs -> {
+            dashboard.put("totalUsers", rs.getLong(1));
+            dashboard.put("pendingApprovals", rs.getLong(2));
+            dashboard.put("totalOrganizations", rs.getLong(3));
+            dashboard.put("totalRooms", rs.getLong(4));
+            dashboard.put("totalBookings", rs.getLong(5));
+            dashboard.put("activeBookings", rs.getLong(6));
+        }, now, now);
+
+        List<Map<String, Object>> organizationsData = new ArrayList<>();
+        List<Map<String, Object>> usersByOrganization = new ArrayList<>();
+        jdbcTemplate.query(ORGANIZATIONS_SQL, rs -> {
+            Map<String, Object> orgData = new HashMap<>();
+            orgData.put("id", rs.getObject(1, UUID.class));
+            orgData.put("name", rs.getString(2));
+            orgData.put("organizationCode", rs.getString(3));
+            orgData.put("description", rs.getString(4));
+            orgData.put("address", rs.getString(5));
+            orgData.put("phone", rs.getString(6));
+            orgData.put("email", rs.getString(7));
+            orgData.put("logoUrl", rs.getString(8));
+            orgData.put("totalUsers", rs.getLong(9));
+            orgData.put("totalRooms", rs.getLong(11));
+            organizationsData.add(orgData);
+
+            long allUsers = rs.getLong(10);
+            if (allUsers > 0) {
+                Map<String, Object> orgUsers = new LinkedHashMap<>();
+                orgUsers.put("name", rs.getString(2));
+                orgUsers.put("count", allUsers);
+                usersByOrganization.add(orgUsers);
+            }
+        });
+        logger.debug("Fetched {} active organizations for the system dashboard", organizationsData.size());
         dashboard.put("organizations", organizationsData);
+        dashboard.put("totalUsersInOrg", usersByOrganization);
+        // Mutable [name, count] pairs: the Redis tier cannot rebuild immutable List.of rows
+        dashboard.put("mostUsedRooms", jdbcTemplate.query(MOST_USED_ROOMS_SQL,
+                (rs, i) -> new ArrayList<Object>(List.of(rs.getString(1), rs.getLong(2)))));
 
         return dashboard;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.DASHBOARDS, key = "'org:' + #admin.organization.id")
     public Object getAdminDashboard(User admin) {
+        UUID orgId = admin.getOrganization().getId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
         Map<String, Object> dashboard = new HashMap<>();
         dashboard.put("message", "Welcome Admin!");
-        dashboard.put("organization", admin.getOrganization().getName());
-        dashboard.put("totalRooms", roomRepository.countByOrganization(admin.getOrganization()));
-        dashboard.put("activeBookings", bookingRepository.findActiveBookings(LocalDateTime.now()).size());
-        dashboard.put("pendingBookings", bookingRepository.countPendingBookingsByOrganization(admin.getOrganization()));
-        dashboard.put("totalUsersInOrg", userRepository.countActiveUsersByOrganization(admin.getOrganization()));
+        jdbcTemplate.query(ADMIN_COUNTS_SQL, rs -> {
+            dashboard.put("organization", rs.getString(1));
+            dashboard.put("totalRooms", rs.getLong(2));
+            dashboard.put("activeBookings", rs.getLong(3));
+            dashboard.put("pendingBookings", rs.getLong(4));
+            dashboard.put("totalUsersInOrg", rs.getLong(5));
+        }, orgId, orgId, orgId, now, now, orgId, orgId);
         return dashboard;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.DASHBOARDS, key = "'user:' + #user.id")
     public Object getUserDashboard(User user) {
         Map<String, Object> dashboard = new HashMap<>();
         dashboard.put("message", "Welcome " + user.getFirstName() + "!");
-        dashboard.put("myBookings", bookingRepository.findByUser(user).size());
-        dashboard.put("upcomingMeetings",
-                bookingRepository.findUpcomingBookingsByUser(user, LocalDateTime.now()).size());
-        dashboard.put("pendingBookings", bookingRepository.countBookingsByUserAndStatus(user, BookingStatus.PENDING));
+        jdbcTemplate.query(USER_COUNTS_SQL, rs -> {
+            dashboard.put("myBookings", rs.getLong(1));
+            dashboard.put("upcomingMeetings", rs.getLong(2));
+            dashboard.put("pendingBookings", rs.getLong(3));
+        }, Timestamp.valueOf(LocalDateTime.now()), user.getId());
         return dashboard;
     }
-}
\ No newline at end of file
+}
@@ -1,19 +1,16 @@
 package Room.ConferenceRoomMgtsys.service.impl;
 
 import Room.ConferenceRoomMgtsys.dto.report.*;
-import Room.ConferenceRoomMgtsys.dto.report.OrganizationBookingDto;
-import Room.ConferenceRoomMgtsys.dto.report.RoomUsageDto;
 import Room.ConferenceRoomMgtsys.enums.ApprovalStatus;
-import Room.ConferenceRoomMgtsys.enums.BookingStatus;
 import Room.ConferenceRoomMgtsys.enums.UserRole;
 
 import Room.ConferenceRoomMgtsys.model.Organization;
 
 import Room.ConferenceRoomMgtsys.model.User;
-import Room.ConferenceRoomMgtsys.repository.BookingRepository;
 import Room.ConferenceRoomMgtsys.repository.OrganizationRepository;
 import Room.ConferenceRoomMgtsys.repository.RoomRepository;
 import Room.ConferenceRoomMgtsys.repository.UserRepository;
+import Room.ConferenceRoomMgtsys.service.BookingRollupService;
 import Room.ConferenceRoomMgtsys.service.ReportingService;
 import Room.ConferenceRoomMgtsys.service.PdfGenerationService;
 import org.slf4j.Logger;
@@ -36,9 +33,6 @@ public class ReportingServiceImpl implements ReportingService {
     @Autowired
     private UserRepository userRepository;
 
-    @Autowired
-    private BookingRepository bookingRepository;
-
     @Autowired
     private RoomRepository roomRepository;
 
@@ -48,6 +42,9 @@ public class ReportingServiceImpl implements ReportingService {
     @Autowired
     private PdfGenerationService pdfGenerationService;
 
+    @Autowired
+    private BookingRollupService bookingRollupService;
+
     @Override
     @Transactional(readOnly = true)
     public UserReportDto generateSystemUserReport(ReportRequestDto request) {
@@ -101,37 +98,17 @@ public class ReportingServiceImpl implements ReportingService {
         report.setStartDate(startDate);
         report.setEndDate(endDate);
 
-        // System-wide statistics
-        report.setTotalBookings(bookingRepository.count());
-        report.setCancelledBookings(bookingRepository.countByStatus(BookingStatus.CANCELLED));
-        report.setCompletedBookings(bookingRepository.countByStatus(BookingStatus.COMPLETED));
-
-        // Get organization booking statistics
-        List<Object[]> orgBookings = bookingRepository.findBookingStatsByOrganization();
-        List<OrganizationBookingDto> organizationBookings = orgBookings.stream()
-                .map(row -> new OrganizationBookingDto(
-                        (String) row[0], // organization name
-                        (Long) row[1], // total bookings
-                        0L, // approved bookings (removed)
-                        0L, // completed bookings (removed)
-                        (Long) row[2], // cancelled bookings
-                        0L // pending bookings (removed)
-                ))
-                .collect(Collectors.toList());
-        report.setOrganizationBookings(organizationBookings);
-
-        // Get most used rooms with proper information
-        List<Object[]> roomUsage = bookingRepository.findMostUsedRoomsWithDetails();
-        List<RoomUsageDto> mostUsedRooms = roomUsage.stream()
-                .map(row -> new RoomUsageDto(
-                        (String) row[0], // room name
-                        (String) row[1], // organization name
-                        (Long) row[2], // total bookings
-                        ((Number) row[3]).doubleValue(), // total hours
-                        0.0 // utilization percentage (calculate if needed)
-                ))
-                .collect(Collectors.toList());
-        report.setMostUsedRooms(mostUsedRooms);
+        // System-wide statistics for the period, aggregated from the daily rollups
+        BookingRollupService.RollupTotals totals = bookingRollupService.totals(null,
+                startDate.toLocalDate(), endDate.toLocalDate());
+        report.setTotalBookings(totals.getTotal());
+        report.setCancelledBookings(totals.getCancelled());
+        report.setCompletedBookings(totals.getCompleted());
+
+        report.setOrganizationBookings(bookingRollupService.organizationBreakdown(
+                startDate.toLocalDate(), endDate.toLocalDate()));
+        report.setMostUsedRooms(bookingRollupService.mostUsedRooms(null,
+                startDate.toLocalDate(), endDate.toLocalDate()));
 
         return report;
     }
@@ -155,18 +132,9 @@ public class ReportingServiceImpl implements ReportingService {
         report.setActiveRooms(roomRepository.countByIsActive(true));
         report.setInactiveRooms(roomRepository.countByIsActive(false));
 
-        // Get most used rooms with proper information
-        List<Object[]> roomUsage = bookingRepository.findMostUsedRoomsWithDetails();
-        List<RoomUsageDto> mostUsedRooms = roomUsage.stream()
-                .map(row -> new RoomUsageDto(
-                        (String) row[0], // room name
-                        (String) row[1], // organization name
-                        (Long) row[2], // total bookings
-                        ((Number) row[3]).doubleValue(), // total hours
-                        0.0 // utilization percentage (calculate if needed)
-                ))
-                .collect(Collectors.toList());
-        report.setMostUsedRooms(mostUsedRooms);
+        // Most used rooms in the period
+        report.setMostUsedRooms(bookingRollupService.mostUsedRooms(null,
+                startDate.toLocalDate(), endDate.toLocalDate()));
 
         return report;
     }
@@ -212,10 +180,12 @@ public class ReportingServiceImpl implements ReportingService {
 
         Organization org = admin.getOrganization();
 
-        // Organization-specific statistics
-        report.setTotalBookings(bookingRepository.countByOrganization(org));
-        report.setCancelledBookings(bookingRepository.countByOrganizationAndStatus(org, BookingStatus.CANCELLED));
-        report.setCompletedBookings(bookingRepository.countByOrganizationAndStatus(org, BookingStatus.COMPLETED));
+        // Organization-specific statistics for the period
+        BookingRollupService.RollupTotals totals = bookingRollupService.totals(org.getId(),
+                startDate.toLocalDate(), endDate.toLocalDate());
+        report.setTotalBookings(totals.getTotal());
+        report.setCancelledBookings(totals.getCancelled());
+        report.setCompletedBookings(totals.getCompleted());
 
         return report;
     }
@@ -241,18 +211,9 @@ public class ReportingServiceImpl implements ReportingService {
         report.setActiveRooms(roomRepository.countByOrganizationAndIsActive(org, true));
         report.setInactiveRooms(roomRepository.countByOrganizationAndIsActive(org, false));
 
-        // Get most used rooms for this organization
-        List<Object[]> roomUsage = bookingRepository.findMostUsedRoomsByOrganization(org);
-        List<RoomUsageDto> mostUsedRooms = roomUsage.stream()
-                .map(row -> new RoomUsageDto(
-                        (String) row[0], // room name
-                        org.getName(), // organization name
-                        (Long) row[1], // total bookings
-                        ((Number) row[2]).doubleValue(), // total hours
-                        0.0 // utilization percentage (calculate if needed)
-                ))
-                .collect(Collectors.toList());
-        report.setMostUsedRooms(mostUsedRooms);
+        // Most used rooms of this organization in the period
+        report.setMostUsedRooms(bookingRollupService.mostUsedRooms(org.getId(),
+                startDate.toLocalDate(), endDate.toLocalDate()));
 
         return report;
     }
@@ -327,13 +288,14 @@ public class ReportingServiceImpl implements ReportingService {
     }
 
     // Helper methods
-    private LocalDateTime getStartDate(ReportRequestDto request) {
+    @Override
+    public LocalDateTime getStartDate(ReportRequestDto request) {
         if (request.getStartDate() != null) {
             return request.getStartDate().atStartOfDay();
         }
 
         LocalDate now = LocalDate.now();
-        switch (request.getTimePeriod()) {
+        switch (calculateTimePeriod(request)) {
             case WEEKLY:
                 return now.minusWeeks(1).atStartOfDay();
             case MONTHLY:
@@ -345,7 +307,8 @@ public class ReportingServiceImpl implements ReportingService {
         }
     }
 
-    private LocalDateTime getEndDate(ReportRequestDto request) {
+    @Override
+    public LocalDateTime getEndDate(ReportRequestDto request) {
         if (request.getEndDate() != null) {
             return request.getEndDate().atTime(LocalTime.MAX);
         }
@@ -0,0 +1,42 @@
+-- Runs after Hibernate has created/updated the tables (spring.jpa.defer-datasource-initialization=true).
+-- Every statement must be idempotent: this script runs on each startup.
+
+-- The unique index on pending bookings (ux_bookings_pending_slot) is created once by
+-- DuplicatePendingBookingCleanup, after it has rejected and notified any existing duplicates.
+
+-- Daily booking rollups for reporting, one row per (day, room); maintained by BookingRollupService
+CREATE TABLE IF NOT EXISTS booking_daily_rollups (
+    day               DATE      NOT NULL,
+    room_id           UUID      NOT NULL,
+    organization_id   UUID,
+    total_count       INTEGER   NOT NULL DEFAULT 0,
+    pending_count     INTEGER   NOT NULL DEFAULT 0,
+    approved_count    INTEGER   NOT NULL DEFAULT 0,
+    rejected_count    INTEGER   NOT NULL DEFAULT 0,
+    cancelled_count   INTEGER   NOT NULL DEFAULT 0,
+    completed_count   INTEGER   NOT NULL DEFAULT 0,
+    booked_minutes    BIGINT    NOT NULL DEFAULT 0,
+    completed_minutes BIGINT    NOT NULL DEFAULT 0,
+    attendee_total    BIGINT    NOT NULL DEFAULT 0,
+    refreshed_at      TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (day, room_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_daily_rollups_org_day
+    ON booking_daily_rollups (organization_id, day);
+
+-- Global search: one document per room, booking and user; maintained by SearchIndexService.
+-- The pg_trgm extension and the title trigram index are set up by SearchIndexService when the role allows it.
+CREATE TABLE IF NOT EXISTS search_documents (
+    entity_type     VARCHAR(16) NOT NULL,
+    entity_id       UUID        NOT NULL,
+    organization_id UUID,
+    title           TEXT        NOT NULL,
+    body            TEXT,
+    document        TSVECTOR    NOT NULL,
+    updated_at      TIMESTAMP   NOT NULL DEFAULT now(),
+    PRIMARY KEY (entity_type, entity_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_search_documents_document
+    ON search_documents USING GIN (document);
@@ -0,0 +1,97 @@
+package Room.ConferenceRoomMgtsys;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import Room.ConferenceRoomMgtsys.config.SecurityConfig;
+import Room.ConferenceRoomMgtsys.controller.ReportingController;
+import Room.ConferenceRoomMgtsys.enums.UserRole;
+import Room.ConferenceRoomMgtsys.jwt.AuthenticatedUserCache;
+import Room.ConferenceRoomMgtsys.jwt.JwtUtil;
+import Room.ConferenceRoomMgtsys.model.User;
+import Room.ConferenceRoomMgtsys.repository.UserRepository;
+import Room.ConferenceRoomMgtsys.service.ReportExportService;
+import Room.ConferenceRoomMgtsys.service.ReportJobService;
+import Room.ConferenceRoomMgtsys.service.ReportingService;
+import io.jsonwebtoken.Claims;
+
+/**
+ * The PDF report completes on the report pool and is written back on an ASYNC
+ * dispatch, which the JWT filter does not see. A bearer-authenticated request
+ * must still get the PDF rather than a 401/403.
+ */
+@WebMvcTest(ReportingController.class)
+@Import(SecurityConfig.class)
+class ReportingControllerPdfTests {
+
+	private static final byte[] PDF = "%PDF-1.4".getBytes();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private ReportJobService reportJobService;
+
+	@MockitoBean
+	private ReportingService reportingService;
+
+	@MockitoBean
+	private ReportExportService reportExportService;
+
+	@MockitoBean
+	private JwtUtil jwtUtil;
+
+	@MockitoBean
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private AuthenticatedUserCache authenticatedUserCache;
+
+	@Test
+	void pdfReportIsReturnedToAuthenticatedAdmin() throws Exception {
+		User admin = new User();
+		admin.setId(UUID.randomUUID());
+		admin.setEmail("admin@example.com");
+		admin.setRole(UserRole.ADMIN);
+		admin.setIsActive(true);
+
+		Claims claims = mock(Claims.class);
+		when(claims.getSubject()).thenReturn(admin.getEmail());
+		when(claims.get("role", String.class)).thenReturn("ADMIN");
+		when(jwtUtil.getVerifiedAccessClaims(anyString())).thenReturn(claims);
+		when(authenticatedUserCache.get(admin.getEmail())).thenReturn(AuthenticatedUserCache.Snapshot.of(admin));
+		when(reportJobService.renderPdf(any(), any())).thenReturn(CompletableFuture.completedFuture(PDF));
+
+		MvcResult started = mockMvc.perform(post("/reports/pdf")
+				.header("Authorization", "Bearer token")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"reportType\":\"BOOKING_REPORT\"}"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_PDF))
+				.andExpect(content().bytes(PDF));
+	}
+
+}
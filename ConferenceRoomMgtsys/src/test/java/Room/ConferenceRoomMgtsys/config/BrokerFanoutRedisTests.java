@@ -0,0 +1,157 @@
+package Room.ConferenceRoomMgtsys.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import Room.ConferenceRoomMgtsys.config.websocket.BrokerFanoutInterceptor;
+
+/**
+ * Two nodes in {@code app.websocket.broker.mode=redis}, each with its own
+ * simple broker wired the way {@link WebSocketConfig} wires it, sharing one
+ * Redis. A message sent on one node must reach a session subscribed on the
+ * other, and reach the sender's own subscribers exactly once.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BrokerFanoutRedisTests {
+
+	private static final String DESTINATION = "/topic/rooms/42/slots";
+
+	@Container
+	private static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+			.withExposedPorts(6379);
+
+	private LettuceConnectionFactory connectionFactory;
+	private Node nodeA;
+	private Node nodeB;
+
+	@BeforeEach
+	void startNodes() {
+		connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		nodeA = new Node(connectionFactory);
+		nodeB = new Node(connectionFactory);
+	}
+
+	@AfterEach
+	void stopNodes() throws Exception {
+		nodeA.stop();
+		nodeB.stop();
+		connectionFactory.destroy();
+	}
+
+	@Test
+	void messageReachesSubscriberOnOtherNode() throws Exception {
+		nodeA.subscribe("session-a");
+		nodeB.subscribe("session-b");
+
+		nodeA.publish(DESTINATION, "{\"roomId\":42}");
+
+		Message<?> remote = nodeB.outbound.poll(5, TimeUnit.SECONDS);
+		assertNotNull(remote, "subscriber on the other node did not receive the message");
+		assertEquals("session-b", SimpMessageHeaderAccessor.getSessionId(remote.getHeaders()));
+		assertEquals(DESTINATION, SimpMessageHeaderAccessor.getDestination(remote.getHeaders()));
+		assertArrayEquals("{\"roomId\":42}".getBytes(StandardCharsets.UTF_8), (byte[]) remote.getPayload());
+
+		Message<?> local = nodeA.outbound.poll(5, TimeUnit.SECONDS);
+		assertNotNull(local, "subscriber on the sending node did not receive the message");
+		assertEquals("session-a", SimpMessageHeaderAccessor.getSessionId(local.getHeaders()));
+
+		// Neither node may deliver it again, e.g. by re-announcing a relayed message
+		assertNull(nodeA.outbound.poll(500, TimeUnit.MILLISECONDS));
+		assertNull(nodeB.outbound.poll(500, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * One application instance: client channels, a broker channel carrying the
+	 * fan-out interceptor, the simple broker and the Redis listener.
+	 */
+	private static final class Node {
+
+		private final ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+		private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+		private final BlockingQueue<Message<?>> outbound = new LinkedBlockingQueue<>();
+		private final SimpleBrokerMessageHandler broker;
+		private final RedisMessageListenerContainer listener;
+
+		private Node(LettuceConnectionFactory connectionFactory) {
+			WebSocketConfig config = new WebSocketConfig();
+			BrokerFanoutInterceptor interceptor = config.brokerFanoutInterceptor(
+					new StringRedisTemplate(connectionFactory));
+			brokerChannel.addInterceptor(interceptor);
+
+			// Only MESSAGE frames; CONNECT_ACKs are not what the test is about
+			MessageChannel clientOutbound = (message, timeout) -> SimpMessageHeaderAccessor
+					.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE || outbound.add(message);
+			broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+			broker.start();
+
+			DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+			beans.registerSingleton("brokerChannel", brokerChannel);
+			listener = config.brokerFanoutListener(connectionFactory, interceptor,
+					beans.getBeanProvider(MessageChannel.class));
+			listener.afterPropertiesSet();
+			listener.start();
+		}
+
+		// A STOMP client connecting and subscribing; the broker only delivers to connected sessions
+		private void subscribe(String sessionId) {
+			SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+			connect.setSessionId(sessionId);
+			connect.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[] { 0, 0 });
+			connect.setSessionAttributes(new HashMap<>());
+			clientInbound.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+			accessor.setSessionId(sessionId);
+			accessor.setSubscriptionId("sub-" + sessionId);
+			accessor.setDestination(DESTINATION);
+			accessor.setSessionAttributes(new HashMap<>());
+			clientInbound.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+		}
+
+		// What SimpMessagingTemplate.convertAndSend puts on the broker channel
+		private void publish(String destination, String json) {
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+			accessor.setDestination(destination);
+			accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+			brokerChannel.send(MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8),
+					accessor.getMessageHeaders()));
+		}
+
+		private void stop() throws Exception {
+			listener.stop();
+			listener.destroy();
+			broker.stop();
+		}
+	}
+}
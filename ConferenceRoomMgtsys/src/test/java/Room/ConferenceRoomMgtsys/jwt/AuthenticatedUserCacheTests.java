@@ -0,0 +1,89 @@
+package Room.ConferenceRoomMgtsys.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import Room.ConferenceRoomMgtsys.enums.UserRole;
+import Room.ConferenceRoomMgtsys.model.Organization;
+import Room.ConferenceRoomMgtsys.model.User;
+
+/**
+ * The cache hands out a fresh principal per request, so a request mutating its
+ * principal (or the entity it was loaded from) cannot change what the next
+ * request authenticates as.
+ */
+class AuthenticatedUserCacheTests {
+
+	private AuthenticatedUserCache cache;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		cache = new AuthenticatedUserCache();
+		ReflectionTestUtils.setField(cache, "ttlMs", 30_000L);
+		ReflectionTestUtils.setField(cache, "maxSize", 100);
+
+		Organization organization = new Organization();
+		organization.setId(UUID.randomUUID());
+		organization.setName("Head Office");
+		user = new User();
+		user.setId(UUID.randomUUID());
+		user.setEmail("user@example.com");
+		user.setFirstName("Ada");
+		user.setRole(UserRole.USER);
+		user.setIsActive(true);
+		user.setOrganization(organization);
+	}
+
+	@Test
+	void principalsAreFreshCopiesOfTheCachedUser() {
+		cache.put(user.getEmail(), user);
+		user.setRole(UserRole.ADMIN);
+		user.getOrganization().setName("Changed");
+
+		User first = cache.get(user.getEmail()).toPrincipal();
+		first.setIsActive(false);
+		first.getOrganization().setName("Also changed");
+
+		AuthenticatedUserCache.Snapshot snapshot = cache.get(user.getEmail());
+		User second = snapshot.toPrincipal();
+		assertNotSame(first, second);
+		assertNotSame(first.getOrganization(), second.getOrganization());
+		assertEquals(UserRole.USER, snapshot.getRole());
+		assertTrue(snapshot.isActive());
+		assertTrue(second.getIsActive());
+		assertEquals("Ada", second.getFirstName());
+		assertEquals("Head Office", second.getOrganization().getName());
+		assertEquals(user.getOrganization().getId(), snapshot.getOrganizationId());
+	}
+
+	@Test
+	void invalidateDropsEntriesByUserId() {
+		cache.put(user.getEmail(), user);
+		cache.put("old@example.com", user);
+
+		cache.invalidate(user.getId());
+
+		assertNull(cache.get(user.getEmail()));
+		assertNull(cache.get("old@example.com"));
+	}
+
+	@Test
+	void lockIsEvaluatedAgainstTheGivenTime() {
+		user.setAccountLockedUntil(LocalDateTime.of(2030, 1, 1, 0, 0));
+		AuthenticatedUserCache.Snapshot snapshot = cache.put(user.getEmail(), user);
+
+		assertTrue(snapshot.isLocked(LocalDateTime.of(2029, 12, 31, 23, 0)));
+		assertFalse(snapshot.isLocked(LocalDateTime.of(2030, 1, 1, 0, 1)));
+	}
+}
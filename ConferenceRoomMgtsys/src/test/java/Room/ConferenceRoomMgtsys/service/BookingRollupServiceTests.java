@@ -0,0 +1,135 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import Room.ConferenceRoomMgtsys.config.CacheConfig;
+
+/**
+ * Booking changes reach {@code booking_daily_rollups} through the dirty-key
+ * flush: only the (room, day) row the change belongs to is recomputed, and
+ * only once the change is committed and the flush has run. The flush evicts
+ * the system dashboard cached while the rollups lagged behind.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BookingRollupServiceTests {
+
+	private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+	@Container
+	private static final GenericContainer<?> postgres = new GenericContainer<>(DockerImageName.parse("postgres:16-alpine"))
+			.withEnv("POSTGRES_PASSWORD", "test")
+			.withExposedPorts(5432)
+			.waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*", 2));
+
+	private final UUID organizationId = UUID.randomUUID();
+	private final UUID roomA = UUID.randomUUID();
+	private final UUID roomB = UUID.randomUUID();
+
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
+	private Cache dashboards;
+	private BookingRollupService service;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(5432) + "/postgres",
+				"postgres", "test");
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.DASHBOARDS);
+		dashboards = cacheManager.getCache(CacheConfig.DASHBOARDS);
+		service = new BookingRollupService(jdbcTemplate, transactionManager,
+				new DashboardCacheInvalidator(cacheManager));
+
+		jdbcTemplate.execute("DROP TABLE IF EXISTS booking_daily_rollups, bookings, rooms");
+		jdbcTemplate.execute("CREATE TABLE rooms (id UUID PRIMARY KEY, name TEXT, organization_id UUID)");
+		jdbcTemplate.execute("CREATE TABLE bookings (id UUID PRIMARY KEY, room_id UUID, start_time TIMESTAMP, "
+				+ "end_time TIMESTAMP, status VARCHAR(16), attendee_count INTEGER)");
+		jdbcTemplate.execute("CREATE TABLE booking_daily_rollups (day DATE NOT NULL, room_id UUID NOT NULL, "
+				+ "organization_id UUID, total_count INTEGER NOT NULL DEFAULT 0, "
+				+ "pending_count INTEGER NOT NULL DEFAULT 0, approved_count INTEGER NOT NULL DEFAULT 0, "
+				+ "rejected_count INTEGER NOT NULL DEFAULT 0, cancelled_count INTEGER NOT NULL DEFAULT 0, "
+				+ "completed_count INTEGER NOT NULL DEFAULT 0, booked_minutes BIGINT NOT NULL DEFAULT 0, "
+				+ "completed_minutes BIGINT NOT NULL DEFAULT 0, attendee_total BIGINT NOT NULL DEFAULT 0, "
+				+ "refreshed_at TIMESTAMP NOT NULL DEFAULT now(), PRIMARY KEY (day, room_id))");
+
+		jdbcTemplate.update("INSERT INTO rooms VALUES (?, 'Room A', ?), (?, 'Room B', ?)",
+				roomA, organizationId, roomB, organizationId);
+		insertBooking(roomA, DAY.atTime(9, 0), 60, "APPROVED");
+		insertBooking(roomB, DAY.atTime(9, 0), 120, "APPROVED");
+		insertBooking(roomA, DAY.plusDays(1).atTime(9, 0), 60, "PENDING");
+		service.rebuild();
+	}
+
+	@Test
+	void bookingChangeRefreshesItsRoomAndDayOnFlush() {
+		LocalDateTime start = DAY.atTime(14, 0);
+		transactionTemplate.executeWithoutResult(status -> {
+			insertBooking(roomA, start, 90, "APPROVED");
+			service.markDirty(roomA, start);
+		});
+
+		// Committed but not flushed yet; a dashboard read now caches the old figures
+		assertEquals(1, rollup(roomA, DAY).get("approved_count"));
+		dashboards.put("system", "stale");
+
+		service.flushDirty();
+
+		Map<String, Object> refreshed = rollup(roomA, DAY);
+		assertEquals(2, refreshed.get("total_count"));
+		assertEquals(2, refreshed.get("approved_count"));
+		assertEquals(150L, refreshed.get("booked_minutes"));
+		assertEquals(1, rollup(roomB, DAY).get("total_count"));
+		assertEquals(1, rollup(roomA, DAY.plusDays(1)).get("pending_count"));
+		assertEquals(3, service.totals(organizationId, DAY, DAY).getApproved());
+		assertNull(dashboards.get("system"));
+	}
+
+	@Test
+	void rolledBackChangeIsNotQueued() {
+		LocalDateTime start = DAY.atTime(14, 0);
+		transactionTemplate.executeWithoutResult(status -> {
+			service.markDirty(roomA, start);
+			status.setRollbackOnly();
+		});
+		// Written outside the rolled-back transaction and never marked dirty
+		insertBooking(roomA, start, 90, "APPROVED");
+
+		service.flushDirty();
+
+		assertEquals(1, rollup(roomA, DAY).get("total_count"));
+	}
+
+	private void insertBooking(UUID roomId, LocalDateTime start, int minutes, String status) {
+		jdbcTemplate.update("INSERT INTO bookings VALUES (?, ?, ?, ?, ?, 4)", UUID.randomUUID(), roomId,
+				Timestamp.valueOf(start), Timestamp.valueOf(start.plusMinutes(minutes)), status);
+	}
+
+	private Map<String, Object> rollup(UUID roomId, LocalDate day) {
+		return jdbcTemplate.queryForMap("SELECT * FROM booking_daily_rollups WHERE room_id = ? AND day = ?",
+				roomId, java.sql.Date.valueOf(day));
+	}
+}
@@ -0,0 +1,150 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import Room.ConferenceRoomMgtsys.config.ExecutorConfig;
+import Room.ConferenceRoomMgtsys.enums.EmailOutboxStatus;
+import Room.ConferenceRoomMgtsys.model.EmailOutbox;
+import Room.ConferenceRoomMgtsys.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * The outbox drain against a local SMTP server: claimed messages are delivered
+ * by the mail pool, nothing is claimed while the pool is full, and rows whose
+ * claim was taken over while they waited are not sent again.
+ */
+class EmailOutboxServiceTests {
+
+	@RegisterExtension
+	static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private final EmailOutboxRepository repository = mock(EmailOutboxRepository.class);
+	private ThreadPoolTaskExecutor mailExecutor;
+	private EmailOutboxService service;
+
+	@BeforeEach
+	void setUp() {
+		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+		mailSender.setHost("localhost");
+		mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+		PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+		mailExecutor = new ExecutorConfig().mailExecutor(1, 1);
+		service = new EmailOutboxService(repository, mailSender, mailExecutor, transactionManager);
+		ReflectionTestUtils.setField(service, "fromEmail", "rooms@example.com");
+		ReflectionTestUtils.setField(service, "batchSize", 10);
+		ReflectionTestUtils.setField(service, "workers", 1);
+		ReflectionTestUtils.setField(service, "maxAttempts", 6);
+		ReflectionTestUtils.setField(service, "initialBackoffSeconds", 30L);
+
+		when(repository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@AfterEach
+	void tearDown() {
+		mailExecutor.shutdown();
+	}
+
+	@Test
+	void drainDeliversClaimedMessagesOverSmtp() throws Exception {
+		List<EmailOutbox> due = List.of(message("a@example.com"), message("b@example.com"));
+		when(repository.lockDueMessages(any(), anyInt())).thenReturn(due);
+		when(repository.findClaimed(anyCollection(), any())).thenReturn(due);
+
+		service.drain();
+
+		assertTrue(greenMail.waitForIncomingEmail(5000, 2));
+		MimeMessage[] received = greenMail.getReceivedMessages();
+		assertEquals(2, received.length);
+		assertEquals("Booking Approved", received[0].getSubject());
+		awaitStatus(due, EmailOutboxStatus.SENT);
+	}
+
+	@Test
+	void drainClaimsNothingWhileThePoolIsFull() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		// One worker busy and the one queue slot taken
+		mailExecutor.execute(() -> awaitQuietly(release));
+		mailExecutor.execute(() -> awaitQuietly(release));
+		try {
+			service.drain();
+			verify(repository, never()).lockDueMessages(any(), anyInt());
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	void rowsClaimedAgainWhileQueuedAreNotSent() throws Exception {
+		List<EmailOutbox> due = List.of(message("a@example.com"));
+		when(repository.lockDueMessages(any(), anyInt())).thenReturn(due);
+		// The stale-claim release and a newer drain took the row before this worker started
+		when(repository.findClaimed(anyCollection(), any())).thenReturn(new ArrayList<>());
+
+		service.drain();
+		mailExecutor.getThreadPoolExecutor().shutdown();
+		assertTrue(mailExecutor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS));
+
+		assertEquals(0, greenMail.getReceivedMessages().length);
+		assertEquals(EmailOutboxStatus.SENDING, due.get(0).getStatus());
+	}
+
+	private EmailOutbox message(String to) {
+		EmailOutbox message = new EmailOutbox();
+		message.setId(UUID.randomUUID());
+		message.setToEmail(to);
+		message.setSubject("Booking Approved");
+		message.setBody("Your booking has been approved.");
+		message.setIsHtml(false);
+		message.setStatus(EmailOutboxStatus.PENDING);
+		message.setAttempts(0);
+		message.setNextAttemptAt(LocalDateTime.now());
+		return message;
+	}
+
+	private static void awaitStatus(List<EmailOutbox> messages, EmailOutboxStatus status) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (messages.stream().anyMatch(m -> m.getStatus() != status) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		messages.forEach(m -> assertEquals(status, m.getStatus()));
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
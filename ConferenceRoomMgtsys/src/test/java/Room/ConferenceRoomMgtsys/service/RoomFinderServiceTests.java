@@ -0,0 +1,177 @@
+package Room.ConferenceRoomMgtsys.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import Room.ConferenceRoomMgtsys.dto.room.RoomCandidateDto;
+import Room.ConferenceRoomMgtsys.dto.room.RoomCandidateDto.FreeSlot;
+import Room.ConferenceRoomMgtsys.dto.room.RoomFinderRequestDto;
+import Room.ConferenceRoomMgtsys.enums.BookingStatus;
+import Room.ConferenceRoomMgtsys.enums.UserRole;
+import Room.ConferenceRoomMgtsys.model.Organization;
+import Room.ConferenceRoomMgtsys.model.Room;
+import Room.ConferenceRoomMgtsys.model.User;
+import Room.ConferenceRoomMgtsys.repository.RoomRepository;
+
+/**
+ * The free-gap sweep behind "find me a room": suggested starts land on
+ * quarter hours after the bookings around them, nothing is offered past the
+ * booking horizon, snug rooms rank above oversized ones, and only the USER
+ * role is held to the day-visibility whitelist.
+ */
+class RoomFinderServiceTests {
+
+	private static final ZoneId ZONE = ZoneId.of("Africa/Kigali");
+
+	private final RoomRepository roomRepository = mock(RoomRepository.class);
+	private final BookingIntervalIndex bookingIndex = mock(BookingIntervalIndex.class);
+	private final DayVisibilityService dayVisibilityService = mock(DayVisibilityService.class);
+	private final RoomFinderService service = new RoomFinderService(roomRepository, bookingIndex,
+			dayVisibilityService);
+
+	private Organization organization;
+	private User admin;
+	private final List<Room> rooms = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		organization = new Organization();
+		organization.setId(UUID.randomUUID());
+		organization.setName("Head Office");
+		admin = user(UserRole.ADMIN);
+		when(roomRepository.findByOrganizationAndIsActive(organization, true)).thenReturn(rooms);
+		when(bookingIndex.findOverlapping(any(), any(), any())).thenReturn(List.of());
+	}
+
+	@Test
+	void slotsStartOnTheQuarterHourAfterABooking() {
+		Room room = room("Board Room", 4);
+		LocalDate day = weekdayAfterTomorrow();
+		when(bookingIndex.findOverlapping(eq(room.getId()), any(), any())).thenReturn(List.of(
+				approved(room, day.atTime(7, 0), day.atTime(9, 10)),
+				approved(room, day.atTime(9, 45), day.atTime(17, 0))));
+
+		RoomFinderRequestDto request = request(4, 30);
+		request.setSlotsPerRoom(10);
+		request.setWindowStart(day.atTime(9, 0));
+		request.setWindowEnd(day.atTime(10, 0));
+		RoomCandidateDto candidate = service.findRooms(request, admin).get(0);
+
+		assertEquals(day.atTime(9, 15), candidate.getPreferredSlot().getStartTime());
+		assertEquals(day.atTime(9, 45), candidate.getPreferredSlot().getEndTime());
+		for (FreeSlot slot : candidate.getNextFreeSlots()) {
+			assertEquals(0, slot.getStartTime().getMinute() % 15);
+			assertEquals(0, slot.getStartTime().getSecond());
+			assertEquals(0, slot.getStartTime().getNano());
+		}
+		assertEquals(List.of(day.atTime(9, 15)), candidate.getNextFreeSlots().stream()
+				.map(FreeSlot::getStartTime)
+				.filter(start -> start.toLocalDate().equals(day))
+				.toList());
+	}
+
+	@Test
+	void nothingIsOfferedPastTheBookingHorizon() {
+		room("Huddle", 4);
+		Room bookedSolid = room("Auditorium", 4);
+		LocalDateTime now = LocalDateTime.now(ZONE);
+		when(bookingIndex.findOverlapping(eq(bookedSolid.getId()), any(), any()))
+				.thenReturn(List.of(approved(bookedSolid, now.minusHours(1), now.plusWeeks(6))));
+
+		RoomFinderRequestDto request = request(2, 60);
+		request.setSlotsPerRoom(10);
+		request.setWindowStart(now.plusWeeks(5));
+		request.setWindowEnd(now.plusWeeks(5).plusHours(4));
+		List<RoomCandidateDto> candidates = service.findRooms(request, admin);
+		LocalDateTime horizon = LocalDateTime.now(ZONE).plusWeeks(4);
+
+		assertEquals(List.of("Huddle"), candidates.stream().map(RoomCandidateDto::getName).toList());
+		RoomCandidateDto candidate = candidates.get(0);
+		assertFalse(candidate.isFitsPreferredWindow());
+		assertNull(candidate.getPreferredSlot());
+		candidate.getNextFreeSlots().forEach(slot -> assertFalse(slot.getStartTime().isAfter(horizon)));
+	}
+
+	@Test
+	void snugRoomsRankAboveOversizedOnes() {
+		room("Hall", 20);
+		room("Pod", 4);
+		room("Booth", 3);
+
+		List<RoomCandidateDto> candidates = service.findRooms(request(4, 60), admin);
+
+		assertEquals(List.of("Pod", "Hall"), candidates.stream().map(RoomCandidateDto::getName).toList());
+		assertTrue(candidates.get(0).getScore() > candidates.get(1).getScore());
+	}
+
+	@Test
+	void onlyTheUserRoleIsHeldToTheDayVisibilityWhitelist() {
+		room("Board Room", 4);
+		when(dayVisibilityService.getVisibleRoomIds(eq(organization.getId()), any())).thenReturn(Set.of());
+
+		assertEquals(1, service.findRooms(request(2, 60), admin).size());
+		verify(dayVisibilityService, never()).getVisibleRoomIds(any(), any());
+
+		assertTrue(service.findRooms(request(2, 60), user(UserRole.USER)).isEmpty());
+	}
+
+	private Room room(String name, int capacity) {
+		Room room = new Room();
+		room.setId(UUID.randomUUID());
+		room.setName(name);
+		room.setCapacity(capacity);
+		room.setIsActive(true);
+		room.setOrganization(organization);
+		rooms.add(room);
+		return room;
+	}
+
+	private User user(UserRole role) {
+		User user = new User();
+		user.setId(UUID.randomUUID());
+		user.setRole(role);
+		user.setOrganization(organization);
+		return user;
+	}
+
+	private static BookingIntervalIndex.IndexedBooking approved(Room room, LocalDateTime start, LocalDateTime end) {
+		return new BookingIntervalIndex.IndexedBooking(UUID.randomUUID(), room.getId(), UUID.randomUUID(), start,
+				end, BookingStatus.APPROVED, "Meeting", start.minusDays(1));
+	}
+
+	private static RoomFinderRequestDto request(int attendees, int minutes) {
+		RoomFinderRequestDto request = new RoomFinderRequestDto();
+		request.setAttendeeCount(attendees);
+		request.setDurationMinutes(minutes);
+		return request;
+	}
+
+	// A business day clear of today's partly elapsed hours
+	private static LocalDate weekdayAfterTomorrow() {
+		LocalDate day = LocalDate.now(ZONE).plusDays(2);
+		while (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+			day = day.plusDays(1);
+		}
+		return day;
+	}
+}
@@ -1,5 +1,6 @@
 import React from 'react';
 import { FaUser } from 'react-icons/fa';
+import { pickImageVariant } from '../utils/api';
 
 const Avatar = ({ user, size = 'md', className = '' }) => {
 	const API_BASE_URL = import.meta.env.VITE_API_URL || '';
@@ -56,7 +57,7 @@ const Avatar = ({ user, size = 'md', className = '' }) => {
 
 	// Check if user has a profile picture
 	const hasProfilePicture = user?.profilePictureUrl && user.profilePictureUrl.trim() !== '';
-	const imageUrl = hasProfilePicture ? resolveUrl(user.profilePictureUrl) : '';
+	const imageUrl = hasProfilePicture ? resolveUrl(pickImageVariant(user.profilePictureVariants, 'thumbnail', user.profilePictureUrl)) : '';
 
 	return (
 		<div className={`${sizeClass} ${className}`}>
@@ -1,7 +1,7 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useMemo } from 'react';
 import { useParams, useNavigate } from 'react-router-dom';
-import { useQuery } from '@tanstack/react-query';
-import api from '../utils/api';
+import { useQuery, useInfiniteQuery } from '@tanstack/react-query';
+import api, { fetchBookingsPage } from '../utils/api';
 import { jwtDecode } from 'jwt-decode';
 import { FaSearch } from 'react-icons/fa';
 import { Listbox } from '@headlessui/react';
@@ -81,13 +81,29 @@ const Booking = () => {
         refetchInterval: 10000
     });
 
-    // Fetch all bookings if no roomId
-    const { data: bookings, error: bookingsError } = useQuery({
-        queryKey: ['bookings'],
-        queryFn: () => api.get('/booking').then(res => res.data),
+    // Fetch bookings page by page if no roomId; the status filter is applied server-side
+    // and older pages are only requested through "Load older bookings"
+    const {
+        data: bookingPages,
+        error: bookingsError,
+        fetchNextPage: fetchMoreBookings,
+        hasNextPage: hasMoreBookings,
+        isFetchingNextPage: isFetchingMoreBookings,
+    } = useInfiniteQuery({
+        queryKey: ['bookings', statusFilter],
+        queryFn: ({ pageParam }) => fetchBookingsPage({
+            cursor: pageParam,
+            status: statusFilter !== 'ALL' ? statusFilter : undefined,
+        }),
+        initialPageParam: null,
+        getNextPageParam: (lastPage) => lastPage.nextCursor,
         enabled: !roomId,
         refetchInterval: 10000
     });
+    const bookings = useMemo(
+        () => (bookingPages ? bookingPages.pages.flatMap(page => page.bookings) : undefined),
+        [bookingPages]
+    );
 
     // Combine query errors
     const queryError = roomError || bookingsError;
@@ -777,6 +793,17 @@ const Booking = () => {
                             Next
                         </button>
                     </div>
+                    {hasMoreBookings && (
+                        <div className="flex justify-center mt-4">
+                            <button
+                                onClick={() => fetchMoreBookings()}
+                                disabled={isFetchingMoreBookings}
+                                className="px-4 py-2 rounded-lg font-semibold bg-gray-700 text-white disabled:opacity-50"
+                            >
+                                {isFetchingMoreBookings ? 'Loading...' : 'Load older bookings'}
+                            </button>
+                        </div>
+                    )}
                 </div>
             </div>
         );
@@ -1,5 +1,5 @@
 import React, { useState, useEffect } from 'react';
-import api from '../utils/api';
+import api, { pickImageVariant, IMAGE_UPLOAD_ACCEPT } from '../utils/api';
 import { FaEdit, FaTrash, FaPlus, FaSearch } from 'react-icons/fa';
 
 const PAGE_SIZE = 9;
@@ -208,7 +208,7 @@ const Organization = () => {
                             <div>
                                 <div className="flex items-center mb-4">
                                     <img 
-                                        src={getImageUrl(org.logoUrl)} 
+                                        src={getImageUrl(pickImageVariant(org.logoVariants, 'card', org.logoUrl))} 
                                         alt={`${org.name} logo`}
                                         className="w-16 h-16 rounded-full object-cover border-2 border-gray-600 mr-4"
                                     />
@@ -255,7 +255,7 @@ const Organization = () => {
                             <form onSubmit={handleSubmit} className="space-y-4">
                                 <div className="flex items-center space-x-4">
                                     <img src={logoPreview || 'https://via.placeholder.com/100x100/cccccc/ffffff?text=Logo'} alt="Logo Preview" className="w-24 h-24 rounded-full object-cover border-2 border-gray-600"/>
-                                    <input type="file" accept="image/*" onChange={handleFileChange} className="block w-full text-sm text-gray-400 file:mr-4 file:py-2 file:px-4 file:rounded-full file:border-0 file:text-sm file:font-semibold file:bg-blue-600 file:text-white hover:file:bg-blue-700"/>
+                                    <input type="file" accept={IMAGE_UPLOAD_ACCEPT} onChange={handleFileChange} className="block w-full text-sm text-gray-400 file:mr-4 file:py-2 file:px-4 file:rounded-full file:border-0 file:text-sm file:font-semibold file:bg-blue-600 file:text-white hover:file:bg-blue-700"/>
                                 </div>
                                 <div>
                                     <label className="block text-gray-300 mb-1">Name</label>
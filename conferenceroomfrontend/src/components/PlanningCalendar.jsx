@@ -1,6 +1,6 @@
 import React, { useMemo, useState } from 'react';
 import { useQuery } from '@tanstack/react-query';
-import api, { getAllRooms, getOrganizations, setDayVisibility } from '../utils/api';
+import api, { fetchAllBookings, getAllRooms, getOrganizations, setDayVisibility } from '../utils/api';
 
 const HOURS = Array.from({ length: 10 }, (_, i) => 7 + i); // 7..16 (blocks represent [h, h+1))
 const DAYS = ['MONDAY','TUESDAY','WEDNESDAY','THURSDAY','FRIDAY'];
@@ -31,7 +31,9 @@ export default function PlanningCalendar() {
     }
     return all;
   }});
-  const { data: allBookings } = useQuery({ queryKey: ['allBookingsForCalendar'], queryFn: () => api.get('/booking').then(r => r.data || []) , refetchInterval: 10000 });
+  // Only the displayed week's bookings are needed; GET /booking is paginated
+  const toLocalDay = (d) => `${d.getFullYear()}-${String(d.getMonth() + 1).padStart(2, '0')}-${String(d.getDate()).padStart(2, '0')}T00:00`;
+  const { data: allBookings } = useQuery({ queryKey: ['allBookingsForCalendar', weekStart.getTime()], queryFn: () => fetchAllBookings({ from: toLocalDay(weekStart), to: toLocalDay(new Date(weekStart.getFullYear(), weekStart.getMonth(), weekStart.getDate() + 7)) }) , refetchInterval: 10000 });
 
   const daysDates = useMemo(() => DAYS.map((_, idx) => new Date(weekStart.getFullYear(), weekStart.getMonth(), weekStart.getDate() + idx)), [weekStart]);
 
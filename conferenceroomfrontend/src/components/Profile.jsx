@@ -1,7 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { useQuery } from '@tanstack/react-query';
 import { useQueryClient } from '@tanstack/react-query';
-import api from '../utils/api';
+import api, { IMAGE_UPLOAD_ACCEPT } from '../utils/api';
 import { FaUser, FaEnvelope, FaLock, FaCamera, FaCheck, FaTimes, FaSpinner } from 'react-icons/fa';
 import Avatar from './Avatar';
 
@@ -49,8 +49,8 @@ const Profile = () => {
 		const file = e.target.files[0];
 		if (file) {
 			// Validate file type
-			if (!file.type.startsWith('image/')) {
-				setError('Please select an image file');
+			if (!IMAGE_UPLOAD_ACCEPT.split(',').includes(file.type)) {
+				setError('Please select a JPEG, PNG, GIF or BMP image');
 				return;
 			}
 			
@@ -160,7 +160,7 @@ const Profile = () => {
 			const uploadedUrl = response.data.profilePictureUrl;
 			setBasicForm({ ...basicForm, profilePictureUrl: uploadedUrl });
 			// Update current user immediately for instant avatar refresh
-			setCurrentUser((prev) => prev ? { ...prev, profilePictureUrl: uploadedUrl } : prev);
+			setCurrentUser((prev) => prev ? { ...prev, profilePictureUrl: uploadedUrl, profilePictureVariants: null } : prev);
 			setSuccess('Profile picture uploaded successfully!');
 			setSelectedFile(null);
 			// Refresh local data and global caches
@@ -452,7 +452,7 @@ const Profile = () => {
 										<div className="flex flex-col sm:flex-row sm:items-center space-y-3 sm:space-y-0 sm:space-x-4">
 											<input
 												type="file"
-												accept="image/*"
+												accept={IMAGE_UPLOAD_ACCEPT}
 												onChange={handleFileSelect}
 												className="flex-1 px-3 sm:px-4 py-2 sm:py-3 bg-gray-700 border border-gray-600 rounded-lg text-white focus:outline-none focus:ring-2 focus:ring-blue-500 file:mr-4 file:py-2 file:px-4 file:rounded-full file:border-0 file:text-sm file:font-semibold file:bg-white file:text-black"
 											/>
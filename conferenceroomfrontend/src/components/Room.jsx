@@ -1,6 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { useQuery, useQueryClient } from '@tanstack/react-query';
-import api, { getOrganizationRooms, deleteRoom, createRoom, updateRoom, getOrganizations } from '../utils/api';
+import api, { getOrganizationRooms, deleteRoom, createRoom, updateRoom, getOrganizations, pickImageVariant, IMAGE_UPLOAD_ACCEPT } from '../utils/api';
 import { useNavigate, useLocation } from 'react-router-dom';
 import MonthCalendar from './MonthCalendar';
 import { FaEdit, FaTrash, FaPlus, FaSearch, FaCalendarTimes, FaBoxOpen } from 'react-icons/fa';
@@ -539,7 +539,7 @@ const Room = ({ userRole }) => {
                 </div>
               )}
               <img
-                src={getImageUrl(getRoomImage(room))}
+                src={getImageUrl(pickImageVariant(room.imageVariants, 'card', getRoomImage(room)))}
                 alt={room.name}
                 onError={handleImageError}
                 className="w-full h-full object-cover"
@@ -790,7 +790,7 @@ const Room = ({ userRole }) => {
                   <input
                     type="file"
                     multiple
-                    accept="image/*"
+                    accept={IMAGE_UPLOAD_ACCEPT}
                     onChange={handleImageFileChange}
                     className="w-full px-4 py-2 bg-gray-700/50 border border-gray-600 rounded-lg text-white placeholder-gray-400 focus:outline-none focus:ring-2 focus:ring-green-500 focus:border-transparent"
                   />
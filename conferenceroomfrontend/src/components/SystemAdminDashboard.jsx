@@ -1,6 +1,6 @@
 import React, { useState, useEffect, useRef } from 'react';
-import { useQuery, useQueryClient } from '@tanstack/react-query';
-import api, { getSystemAdminRegistrationEnabled, setSystemAdminRegistrationEnabled } from '../utils/api';
+import { useQuery, useInfiniteQuery, useQueryClient } from '@tanstack/react-query';
+import api, { fetchBookingsPage, getSystemAdminRegistrationEnabled, setSystemAdminRegistrationEnabled, pickImageVariant } from '../utils/api';
 import DataTable from './DataTable';
 import EditUserModal from './EditUserModal';
 import SystemAdminNavbar from './SystemAdminNavbar';
@@ -175,17 +175,25 @@ const SystemAdminDashboard = () => {
     });
     const paginatedRooms = rooms ? rooms.slice((roomsCurrentPage - 1) * 10, roomsCurrentPage * 10) : [];
 
-    // Bookings (simplified pagination for now, will refactor if backend supports it)
-    const { data: bookings, isLoading: bookingsLoading, error: bookingsErrorQuery } = useQuery({
-        queryKey: ['bookings', bookingsCurrentPage, bookingsSearchTerm],
-        queryFn: () => api.get('/booking').then(res => res.data),
-        onSuccess: (data) => {
-            setBookingsTotalPages(Math.ceil(data.length / 10) || 1);
-        },
-        keepPreviousData: true,
+    // Bookings: one server page of 10 per table page; a page is only requested when the user moves to it
+    const {
+        data: bookingPages,
+        isLoading: bookingsLoading,
+        error: bookingsErrorQuery,
+        fetchNextPage: fetchNextBookingsPage,
+        hasNextPage: hasMoreBookings,
+    } = useInfiniteQuery({
+        queryKey: ['bookings', 'systemAdmin'],
+        queryFn: ({ pageParam }) => fetchBookingsPage({ cursor: pageParam, limit: 10 }),
+        initialPageParam: null,
+        getNextPageParam: (lastPage) => lastPage.nextCursor,
         refetchInterval: 10000,
     });
-    const paginatedBookings = bookings ? bookings.slice((bookingsCurrentPage - 1) * 10, bookingsCurrentPage * 10) : [];
+    const loadedBookingPages = bookingPages ? bookingPages.pages.length : 0;
+    useEffect(() => {
+        setBookingsTotalPages(Math.max(1, loadedBookingPages + (hasMoreBookings ? 1 : 0)));
+    }, [loadedBookingPages, hasMoreBookings]);
+    const paginatedBookings = bookingPages?.pages[bookingsCurrentPage - 1]?.bookings || [];
 
     // Combine all errors for display
     const combinedError = statsError || pendingUsersError || allUsersError || orgsError || roomsErrorQuery || bookingsErrorQuery || globalSearchError;
@@ -246,6 +254,9 @@ const SystemAdminDashboard = () => {
     };
 
     const handleBookingsPageChange = (page) => {
+        if (page > loadedBookingPages && hasMoreBookings) {
+            fetchNextBookingsPage();
+        }
         setBookingsCurrentPage(page);
     };
 
@@ -491,7 +502,7 @@ const SystemAdminDashboard = () => {
         address: org.address,
         phone: org.phone,
         email: org.email,
-        logoUrl: getImageUrl(org.logoUrl),
+        logoUrl: getImageUrl(pickImageVariant(org.logoVariants, 'thumbnail', org.logoUrl)),
         totalUsers: org.totalUsers,
         totalRooms: org.totalRooms,
         originalLogoUrl: org.logoUrl
@@ -500,7 +511,7 @@ const SystemAdminDashboard = () => {
     // Prepare data for All Users DataTable
     const allUsersTableData = allUsers.map(user => ({
         id: user.id,
-        profilePictureUrl: user.profilePictureUrl ? getImageUrl(user.profilePictureUrl) : null,
+        profilePictureUrl: user.profilePictureUrl ? getImageUrl(pickImageVariant(user.profilePictureVariants, 'thumbnail', user.profilePictureUrl)) : null,
         firstName: user.firstName,
         lastName: user.lastName,
         email: user.email,
@@ -1,7 +1,7 @@
 import React, { useState, useEffect, useRef } from 'react';
 import { Link, useNavigate } from 'react-router-dom';
 import { useQuery } from '@tanstack/react-query';
-import api from '../utils/api';
+import api, { fetchBookingsPage, fetchAllNotifications, pickImageVariant } from '../utils/api';
 import { jwtDecode } from 'jwt-decode';
 import Meeting from  '../assets/images/meetingj.jpg'
 import { DateTime } from 'luxon'; // If not installed, run: npm install luxon
@@ -33,10 +33,9 @@ const UserDashboard = ({ setIsLoggedIn }) => {
             queryFn: async () => {
                 console.log('Making API call to /notification/notifications...');
                 try {
-                    const response = await api.get('/notification/notifications');
-                    console.log('API response:', response);
-                    console.log('API response data:', response.data);
-                    return response.data;
+                    const fetched = await fetchAllNotifications();
+                    console.log('API response data:', fetched);
+                    return fetched;
                 } catch (err) {
                     console.error('API call failed:', err);
                     throw err;
@@ -137,6 +136,12 @@ const UserDashboard = ({ setIsLoggedIn }) => {
             return getImageUrl(null);
         }
         
+        // Prefer the card-sized variant over the full upload
+        const card = pickImageVariant(room.imageVariants, 'card');
+        if (card) {
+            return getImageUrl(card);
+        }
+
         // Check if room has images property
         if (room.images) {
             try {
@@ -166,6 +171,14 @@ const UserDashboard = ({ setIsLoggedIn }) => {
     const getBookingImageUrl = (booking) => {
         if (!booking) return getImageUrl(null);
         
+        // The loaded room carries the card-sized variants, bookings only the full images
+        if (booking.roomId && roomsWithAvailability) {
+            const room = roomsWithAvailability.find(r => r.id === booking.roomId);
+            if (room) {
+                return getRoomImageUrl(room);
+            }
+        }
+        
         // If booking has roomImages directly, use it
         if (booking.roomImages) {
             try {
@@ -183,14 +196,6 @@ const UserDashboard = ({ setIsLoggedIn }) => {
             return getRoomImageUrl(booking.room);
         }
         
-        // If booking has roomId, try to find the room in the rooms array
-        if (booking.roomId && roomsWithAvailability) {
-            const room = roomsWithAvailability.find(r => r.id === booking.roomId);
-            if (room) {
-                return getRoomImageUrl(room);
-            }
-        }
-        
         // If booking has roomName but no room object, return placeholder
         if (booking.roomName) {
             return getImageUrl(null);
@@ -239,10 +244,11 @@ const UserDashboard = ({ setIsLoggedIn }) => {
         refetchInterval: 10000
     });
 
-    // Fetch booking history
+    // Fetch recent booking history: one page of bookings that have already started
     const { data: myBookingHistory, error: historyError } = useQuery({
         queryKey: ['myBookingHistory'],
-        queryFn: () => api.get('/booking').then(res => res.data.filter(booking => !booking.isActive || booking.status === 'COMPLETED')),
+        queryFn: () => fetchBookingsPage({ to: DateTime.now().toFormat("yyyy-MM-dd'T'HH:mm:ss"), limit: 20 })
+            .then(({ bookings }) => bookings.filter(booking => !booking.isActive || booking.status === 'COMPLETED')),
         refetchInterval: 10000
     });
 
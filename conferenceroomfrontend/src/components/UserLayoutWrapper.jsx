@@ -1,7 +1,7 @@
 import React, { useState, useEffect, useRef } from 'react';
 import { Link, useNavigate, useLocation } from 'react-router-dom';
 import { useQuery } from '@tanstack/react-query';
-import api from '../utils/api';
+import api, { fetchAllNotifications } from '../utils/api';
 import { jwtDecode } from 'jwt-decode';
 import Avatar from './Avatar';
 
@@ -34,10 +34,9 @@ const UserLayoutWrapper = ({ children, setIsLoggedIn }) => {
         queryFn: async () => {
             console.log('Making API call to /notification/notifications...');
             try {
-                const response = await api.get('/notification/notifications');
-                console.log('API response:', response);
-                console.log('API response data:', response.data);
-                return response.data;
+                const fetched = await fetchAllNotifications();
+                console.log('API response data:', fetched);
+                return fetched;
             } catch (err) {
                 console.error('API call failed:', err);
                 throw err;
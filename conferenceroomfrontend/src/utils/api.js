@@ -64,6 +64,34 @@ export const getAvailableRoomsWithCapacity = (startTime, endTime, minCapacity) =
 export const getAllRooms = (pageable) => api.get('/room/all', { params: pageable });
 
 // Booking API additions
+// GET /booking is keyset-paginated, newest first: one page plus the cursor of the next (null on the last)
+export const fetchBookingsPage = async ({ cursor, ...params } = {}) => {
+  const res = await api.get('/booking', { params: { limit: 100, ...params, cursor: cursor || undefined } });
+  return { bookings: res.data || [], nextCursor: res.headers['x-next-cursor'] || null };
+};
+// Follows X-Next-Cursor to the end: only for bounded windows (pass from/to), never the whole history
+export const fetchAllBookings = async (params = {}) => {
+  const bookings = [];
+  let cursor;
+  do {
+    const res = await api.get('/booking', { params: { limit: 500, ...params, cursor } });
+    bookings.push(...(res.data || []));
+    cursor = res.headers['x-next-cursor'];
+  } while (cursor);
+  return bookings;
+};
+// GET /notification/notifications is paged: keep reading until a short page
+export const fetchAllNotifications = async () => {
+  const size = 200;
+  const notifications = [];
+  for (let page = 0; ; page++) {
+    const res = await api.get('/notification/notifications', { params: { page, size } });
+    const batch = res.data || [];
+    notifications.push(...batch);
+    if (batch.length < size) break;
+  }
+  return notifications;
+};
 export const createRecurringBooking = (payload) => api.post('/booking/create/recurring', payload);
 export const adminCancelBooking = (bookingId) => api.post(`/booking/${bookingId}/admin-cancel`);
 export const getOrgBookingsForDay = (dateIso) => api.get('/booking/organization/day', { params: { date: dateIso } });
@@ -77,6 +105,23 @@ export const getOrganizations = () => api.get('/organization');
 // Day visibility (admin)
 export const setDayVisibility = (date, roomIds) => api.post('/room/day-visibility', { date, roomIds });
 
+// Image variants
+// Uploads are stored as {thumbnail, card, full} (a JSON array of them for rooms).
+// Pick the one sized for the slot, or the fallback for images uploaded before variants existed.
+export const IMAGE_UPLOAD_ACCEPT = 'image/jpeg,image/png,image/gif,image/bmp';
+
+export const pickImageVariant = (variants, size, fallback = null) => {
+    if (!variants) return fallback;
+    try {
+        const parsed = typeof variants === 'string' ? JSON.parse(variants) : variants;
+        const entry = Array.isArray(parsed) ? parsed[0] : parsed;
+        return entry?.[size] || entry?.full || fallback;
+    } catch (error) {
+        console.warn('Failed to parse image variants:', error);
+        return fallback;
+    }
+};
+
 // System Config API endpoints
 export const getSystemAdminRegistrationEnabled = async () => {
     try {